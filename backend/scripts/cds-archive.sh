@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Builds an AppCDS archive for the prod profile from a training run.
+#
+# The jar is unpacked into target/cds so the JVM loads every class from a plain jar on
+# the application classpath, which is what CDS can archive. The training run starts the
+# context and exits right after refresh (spring.context.exit=onRefresh), dumping every
+# class it loaded into app.jsa. Start the application from the same directory with
+# target/cds/run.sh; the archive is only valid for the same JDK and the same classpath.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR=$(ls target/*.jar | grep -v '\.original$' | head -n 1)
+OUT=target/cds
+
+rm -rf "$OUT"
+mkdir -p "$OUT"
+(cd "$OUT" && jar -xf "../../$JAR")
+
+MAIN_CLASS=$(grep '^Start-Class:' "$OUT/META-INF/MANIFEST.MF" | cut -d' ' -f2 | tr -d '\r')
+CLASSPATH="BOOT-INF/classes:$(cd "$OUT" && ls BOOT-INF/lib/*.jar | tr '\n' ':' | sed 's/:$//')"
+
+(cd "$OUT" && java -XX:ArchiveClassesAtExit=app.jsa \
+    -Dspring.context.exit=onRefresh \
+    -Dspring.profiles.active=prod \
+    -cp "$CLASSPATH" "$MAIN_CLASS")
+
+cat > "$OUT/run.sh" <<RUN
+#!/usr/bin/env bash
+cd "\$(dirname "\$0")"
+exec java -XX:SharedArchiveFile=app.jsa -Dspring.profiles.active=prod \$JAVA_OPTS -cp "$CLASSPATH" $MAIN_CLASS "\$@"
+RUN
+chmod +x "$OUT/run.sh"
+echo "CDS archive written to $OUT/app.jsa; start with $OUT/run.sh"
@@ -1,7 +1,11 @@
 package com.academic.erp.backend.config;
 
 import com.academic.erp.backend.filter.JwtAuthenticationFilter;
+import com.academic.erp.backend.filter.RateLimitFilter;
+import com.academic.erp.backend.filter.ServerTimingFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -16,6 +20,15 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+
+    // Only run the rate limiter inside the security chain, where the principal is known
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration() {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -29,16 +42,21 @@ public class SecurityConfig {
                     config.addAllowedOriginPattern("http://127.0.0.1:5173");
                     config.addAllowedMethod("*");
                     config.addAllowedHeader("*");
+                    config.addExposedHeader("X-Change-Token");
+                    config.addExposedHeader(ServerTimingFilter.SERVER_TIMING_HEADER);
                     return config;
                 }))
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/login", "/oauth2/callback", "/signout", "/api/health").permitAll()
+                        // Async dispatches (SSE streams) were already authorized on the original request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+                        .requestMatchers("/login", "/oauth2/callback", "/signout", "/api/health", "/api/health/ready").permitAll()
                         .requestMatchers("/api/auth/me").permitAll()
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
                 .httpBasic(httpBasic -> httpBasic.disable())
                 .formLogin(formLogin -> formLogin.disable());
 
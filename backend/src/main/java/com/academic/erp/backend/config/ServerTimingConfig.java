@@ -0,0 +1,78 @@
+package com.academic.erp.backend.config;
+
+import com.academic.erp.backend.filter.ServerTimingFilter;
+import com.academic.erp.backend.service.RequestTiming;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Wires the {@link ServerTimingFilter} around the whole filter chain, including
+ * security, and marks where the handler starts and ends. The breakdown header is only
+ * sent to callers holding {@code app.server-timing.header-authority}. It is empty by
+ * default, since every signed-in user holds {@code ROLE_USER}; leaving it empty
+ * keeps the header off while slow requests are still logged.
+ */
+@Configuration
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+    @Value("${app.server-timing.header-authority:}")
+    private String headerAuthority;
+
+    // Outermost, so token validation inside the security chain is timed as well
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilterRegistration(ServerTimingFilter serverTimingFilter) {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(serverTimingFilter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                RequestTiming timing = RequestTiming.current();
+                if (timing != null) {
+                    timing.handlerStarted(headerAllowed());
+                }
+                return true;
+            }
+
+            // Views and empty bodies end here; handlers with a body already ended in ServerTimingResponseAdvice
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+                RequestTiming timing = RequestTiming.current();
+                if (timing != null) {
+                    timing.handlerFinished(false);
+                }
+            }
+        });
+    }
+
+    private boolean headerAllowed() {
+        if (headerAuthority.isBlank()) {
+            return false;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (headerAuthority.equals(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
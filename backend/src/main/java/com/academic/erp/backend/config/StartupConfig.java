@@ -0,0 +1,32 @@
+package com.academic.erp.backend.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.lang.reflect.Method;
+
+/**
+ * Keeps background components eager when {@code spring.main.lazy-initialization} is on.
+ * A lazy bean with {@code @Scheduled} methods is never scheduled, and one that listens
+ * for startup or transaction events would miss them or first build its state on a
+ * request thread, so any bean declaring such methods is created at startup.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter backgroundWorkExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null && !MethodIntrospector.selectMethods(beanType,
+                (MethodIntrospector.MetadataLookup<Boolean>) StartupConfig::runsInBackground).isEmpty();
+    }
+
+    private static Boolean runsInBackground(Method method) {
+        return AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)
+                || AnnotatedElementUtils.hasAnnotation(method, EventListener.class) ? Boolean.TRUE : null;
+    }
+}
@@ -1,10 +1,15 @@
 package com.academic.erp.backend.controller;
 
+import com.academic.erp.backend.dto.AdmissionTicketDto;
 import com.academic.erp.backend.dto.StudentAdmissionRequestDto;
 import com.academic.erp.backend.dto.StudentResponseDto;
+import com.academic.erp.backend.service.AdmissionQueueService;
 import com.academic.erp.backend.service.AdmissionService;
+import com.academic.erp.backend.service.IdempotencyService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -14,9 +19,29 @@ import org.springframework.web.bind.annotation.*;
 public class AdmissionController {
 
     private final AdmissionService admissionService;
+    private final AdmissionQueueService admissionQueueService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping("/admit")
-    public StudentResponseDto admitStudent(@Valid @RequestBody StudentAdmissionRequestDto request) {
-        return admissionService.admitStudent(request);
+    public StudentResponseDto admitStudent(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody StudentAdmissionRequestDto request) {
+        return idempotencyService.execute(
+                "admit",
+                idempotencyKey,
+                () -> idempotencyService.fingerprint(request),
+                StudentResponseDto.class,
+                () -> admissionService.admitStudent(request)
+        );
+    }
+
+    @PostMapping(value = "/admit", params = "async=true")
+    public ResponseEntity<AdmissionTicketDto> admitStudentAsync(@Valid @RequestBody StudentAdmissionRequestDto request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(admissionQueueService.enqueue(request));
+    }
+
+    @GetMapping("/admit/tickets/{ticketId}")
+    public AdmissionTicketDto getTicket(@PathVariable String ticketId) {
+        return admissionQueueService.getTicket(ticketId);
     }
 }
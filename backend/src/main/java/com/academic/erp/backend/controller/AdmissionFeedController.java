@@ -0,0 +1,21 @@
+package com.academic.erp.backend.controller;
+
+import com.academic.erp.backend.service.AdmissionFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/students")
+@RequiredArgsConstructor
+@CrossOrigin
+public class AdmissionFeedController {
+
+    private final AdmissionFeedService admissionFeedService;
+
+    @GetMapping(value = "/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return admissionFeedService.subscribe(lastEventId);
+    }
+}
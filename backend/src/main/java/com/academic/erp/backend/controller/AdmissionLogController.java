@@ -0,0 +1,76 @@
+package com.academic.erp.backend.controller;
+
+import com.academic.erp.backend.dto.AdmissionLogPageDto;
+import com.academic.erp.backend.dto.AdmissionLogRecordDto;
+import com.academic.erp.backend.service.AdmissionEventLog;
+import com.academic.erp.backend.service.AdmissionLogReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admission-log")
+@RequiredArgsConstructor
+@CrossOrigin
+public class AdmissionLogController {
+
+    private static final int MAX_LIMIT = 10_000;
+    private static final long MAX_WAIT_MS = 30_000;
+
+    private final AdmissionEventLog admissionEventLog;
+
+    /**
+     * Replays committed admissions from {@code fromOffset}. With {@code waitMs}, an
+     * empty read waits that long for new admissions, so clients can tail the log by
+     * polling with the returned {@code nextOffset}. The wait is asynchronous and holds
+     * no request thread.
+     */
+    @GetMapping
+    public DeferredResult<AdmissionLogPageDto> read(@RequestParam(defaultValue = "0") long fromOffset,
+                                                    @RequestParam(defaultValue = "1000") int limit,
+                                                    @RequestParam(defaultValue = "0") long waitMs) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        AdmissionLogReader reader = admissionEventLog.reader(fromOffset);
+        List<AdmissionLogRecordDto> records = readPage(reader, limit);
+        if (!records.isEmpty() || waitMs <= 0) {
+            DeferredResult<AdmissionLogPageDto> result = new DeferredResult<>();
+            result.setResult(page(records, reader.nextOffset()));
+            return result;
+        }
+
+        long waitFrom = reader.nextOffset();
+        DeferredResult<AdmissionLogPageDto> result = new DeferredResult<>(Math.min(waitMs, MAX_WAIT_MS));
+        // Runs on the log's waiter thread with only the records appended since the read above
+        Runnable onAppend = () -> result.setResult(page(readPage(reader, limit), reader.nextOffset()));
+        result.onTimeout(() -> {
+            admissionEventLog.cancelAwait(onAppend);
+            // Reports the offset the wait started from, since the reader may still be in use
+            result.setResult(page(List.of(), waitFrom));
+        });
+        result.onCompletion(() -> admissionEventLog.cancelAwait(onAppend));
+        admissionEventLog.awaitAppend(waitFrom, onAppend);
+        return result;
+    }
+
+    private static List<AdmissionLogRecordDto> readPage(AdmissionLogReader reader, int limit) {
+        List<AdmissionLogRecordDto> records = new ArrayList<>();
+        while (records.size() < limit && reader.next()) {
+            records.add(reader.toDto());
+        }
+        return records;
+    }
+
+    private AdmissionLogPageDto page(List<AdmissionLogRecordDto> records, long nextOffset) {
+        return AdmissionLogPageDto.builder()
+                .records(records)
+                .nextOffset(nextOffset)
+                .startOffset(admissionEventLog.startOffset())
+                .endOffset(admissionEventLog.endOffset())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.academic.erp.backend.controller;
+
+import com.academic.erp.backend.dto.StudentAnalyticsQuery;
+import com.academic.erp.backend.dto.StudentAnalyticsResultDto;
+import com.academic.erp.backend.service.StudentAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@CrossOrigin
+public class AnalyticsController {
+
+    private final StudentAnalyticsService analyticsService;
+
+    /**
+     * Filters and groups students from the in-memory snapshot, e.g.
+     * {@code ?groupBy=domain,cgpaBucket&joinYearFrom=2023}.
+     */
+    @GetMapping("/students")
+    public StudentAnalyticsResultDto queryStudents(@ModelAttribute StudentAnalyticsQuery query) {
+        return analyticsService.query(query);
+    }
+}
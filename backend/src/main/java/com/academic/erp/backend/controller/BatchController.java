@@ -0,0 +1,291 @@
+package com.academic.erp.backend.controller;
+
+import com.academic.erp.backend.dto.BatchItemRequest;
+import com.academic.erp.backend.dto.BatchItemResponse;
+import com.academic.erp.backend.dto.BatchRequestDto;
+import com.academic.erp.backend.dto.BatchResponseDto;
+import com.academic.erp.backend.exception.GlobalExceptionHandler;
+import com.academic.erp.backend.service.TokenService;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.PathContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs several read-only GET sub-requests in one round trip, e.g. the user, domains
+ * and students the frontend loads on start. The batch is authenticated once by the
+ * security filter chain; sub-requests then run in parallel in-process against the
+ * same controller methods their own URLs map to, each in a read-only transaction.
+ * <p>
+ * Each sub-request gets its own status and body, plus the response headers clients act
+ * on ({@code X-Change-Token}, {@code ETag}), with errors mapped exactly as
+ * {@link GlobalExceptionHandler} maps them. Sub-requests still running when the
+ * batch time limit passes are cancelled and answered with 504.
+ */
+@RestController
+@RequestMapping("/api/batch")
+@CrossOrigin
+@Slf4j
+public class BatchController {
+
+    private static final List<String> FORWARDED_HEADERS =
+            List.of(StudentQueryController.CHANGE_TOKEN_HEADER, HttpHeaders.ETAG);
+
+    private final TokenService tokenService;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final ExceptionHandlerMethodResolver exceptionHandlerMethods =
+            new ExceptionHandlerMethodResolver(GlobalExceptionHandler.class);
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxRequests;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor executor;
+    private final List<Route> routes = new ArrayList<>();
+
+    public BatchController(StudentQueryController students,
+                           DomainController domains,
+                           StatisticsController statistics,
+                           PlacementController placements,
+                           TokenService tokenService,
+                           GlobalExceptionHandler exceptionHandler,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.batch.max-requests:10}") int maxRequests,
+                           @Value("${app.batch.timeout-ms:5000}") long timeoutMillis,
+                           @Value("${app.batch.threads:8}") int threads) {
+        this.tokenService = tokenService;
+        this.exceptionHandler = exceptionHandler;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxRequests = maxRequests;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * maxRequests), r -> {
+                    Thread thread = new Thread(r, "batch-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+
+        // Token validation calls Google, so it must not hold a database connection
+        routes.add(new Route(PathPatternParser.defaultInstance.parse("/api/auth/me"), this::currentUser, false));
+        route("/api/domains", request -> domains.getAllDomains());
+        route("/api/domains/availability", request -> domains.getAvailability(request.intParam("joinYear")));
+        route("/api/students", request -> students.getAllStudents());
+        route("/api/students/changes", request -> students.getChanges(request.param("since")));
+        route("/api/students/profiles", request -> students.getStudentProfiles(request.longListParam("ids")));
+        route("/api/students/{studentId:\\d+}", request -> students.getStudent(request.longVariable("studentId")));
+        route("/api/students/{studentId:\\d+}/profile", request -> students.getStudentProfile(request.longVariable("studentId")));
+        route("/api/students/by-roll/{rollNumber}", request -> students.getStudentByRollNumber(request.variables().get("rollNumber")));
+        route("/api/stats", request -> statistics.getStatistics());
+        route("/api/placements/reports", request -> placements.getReports(null));
+        route("/api/placements/reports/{organisationId}", request -> placements.getReport(request.longVariable("organisationId"), null));
+    }
+
+    @PostMapping
+    public BatchResponseDto execute(@Valid @RequestBody BatchRequestDto batch, HttpServletRequest request) {
+        List<BatchItemRequest> items = batch.getRequests();
+        if (items.size() > maxRequests) {
+            throw new IllegalArgumentException("A batch can hold at most " + maxRequests + " sub-requests");
+        }
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        // Read on the request thread; the servlet request must not be touched from the workers
+        String idToken = idToken(request);
+
+        List<Future<BatchItemResponse>> futures = new ArrayList<>(items.size());
+        for (BatchItemRequest item : items) {
+            try {
+                futures.add(executor.submit(() -> dispatch(item, idToken)));
+            } catch (RejectedExecutionException ex) {
+                futures.add(null);
+            }
+        }
+
+        List<BatchItemResponse> responses = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            BatchItemRequest item = items.get(i);
+            Future<BatchItemResponse> future = futures.get(i);
+            if (future == null) {
+                responses.add(error(item, HttpStatus.SERVICE_UNAVAILABLE, "Too many batch requests in progress"));
+                continue;
+            }
+            try {
+                responses.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException ex) {
+                future.cancel(true);
+                responses.add(error(item, HttpStatus.GATEWAY_TIMEOUT, "Timed out after " + timeoutMillis + " ms"));
+            } catch (ExecutionException ex) {
+                responses.add(resolve(item, ex.getCause()));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                futures.stream().skip(i).filter(f -> f != null).forEach(f -> f.cancel(true));
+                throw new RuntimeException("Batch interrupted");
+            }
+        }
+        return BatchResponseDto.builder()
+                .responses(responses)
+                .elapsedMs((System.nanoTime() - start) / 1_000_000)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void route(String pattern, Function<SubRequest, Object> handler) {
+        routes.add(new Route(PathPatternParser.defaultInstance.parse(pattern), handler, true));
+    }
+
+    private BatchItemResponse dispatch(BatchItemRequest item, String idToken) {
+        String method = item.getMethod() != null ? item.getMethod() : "GET";
+        if (!"GET".equalsIgnoreCase(method)) {
+            return error(item, HttpStatus.METHOD_NOT_ALLOWED, "Only GET sub-requests are allowed in a batch");
+        }
+        UriComponents uri = UriComponentsBuilder.fromUriString(item.getPath()).build();
+        PathContainer path = PathContainer.parsePath(uri.getPath() != null ? uri.getPath() : "");
+        for (Route route : routes) {
+            PathPattern.PathMatchInfo match = route.pattern().matchAndExtract(path);
+            if (match == null) {
+                continue;
+            }
+            SubRequest request = new SubRequest(match.getUriVariables(), uri.getQueryParams(), idToken);
+            try {
+                Object result = route.transactional()
+                        ? readOnlyTransaction.execute(status -> route.handler().apply(request))
+                        : route.handler().apply(request);
+                if (result instanceof ResponseEntity<?> entity) {
+                    return new BatchItemResponse(item.getId(), entity.getStatusCode().value(), entity.getBody(),
+                            forwardedHeaders(entity.getHeaders()));
+                }
+                return new BatchItemResponse(item.getId(), HttpStatus.OK.value(), result);
+            } catch (Exception ex) {
+                return resolve(item, ex);
+            }
+        }
+        return error(item, HttpStatus.NOT_FOUND, "No batchable endpoint for " + uri.getPath());
+    }
+
+    private ResponseEntity<?> currentUser(SubRequest request) {
+        if (request.idToken() == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        // Same outcome as GET /api/auth/me: a token that fails validation is a 401
+        try {
+            return ResponseEntity.ok(tokenService.validateIdToken(request.idToken()));
+        } catch (Exception ex) {
+            log.error("Error getting current user", ex);
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
+    private BatchItemResponse resolve(BatchItemRequest item, Throwable failure) {
+        if (failure instanceof Exception ex) {
+            Method handler = exceptionHandlerMethods.resolveMethodByThrowable(ex);
+            if (handler != null) {
+                try {
+                    ResponseEntity<?> entity = (ResponseEntity<?>) handler.invoke(exceptionHandler, ex);
+                    return new BatchItemResponse(item.getId(), entity.getStatusCode().value(), entity.getBody());
+                } catch (ReflectiveOperationException reflectionFailure) {
+                    log.error("Unable to map batch sub-request failure", reflectionFailure);
+                }
+            }
+        }
+        log.error("Batch sub-request {} failed", item.getPath(), failure);
+        return error(item, HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred. Please try again.");
+    }
+
+    private static Map<String, String> forwardedHeaders(HttpHeaders headers) {
+        Map<String, String> forwarded = new LinkedHashMap<>();
+        for (String name : FORWARDED_HEADERS) {
+            String value = headers.getFirst(name);
+            if (value != null) {
+                forwarded.put(name, value);
+            }
+        }
+        return forwarded.isEmpty() ? null : forwarded;
+    }
+
+    private static BatchItemResponse error(BatchItemRequest item, HttpStatus status, String message) {
+        return new BatchItemResponse(item.getId(), status.value(), Map.of("error", message));
+    }
+
+    private static String idToken(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if ("id_token".equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    private record Route(PathPattern pattern, Function<SubRequest, Object> handler, boolean transactional) {
+    }
+
+    private record SubRequest(Map<String, String> variables, MultiValueMap<String, String> params, String idToken) {
+
+        private Long longVariable(String name) {
+            return Long.valueOf(variables.get(name));
+        }
+
+        private String param(String name) {
+            String value = params.getFirst(name);
+            return value != null ? UriUtils.decode(value, StandardCharsets.UTF_8) : null;
+        }
+
+        private Integer intParam(String name) {
+            String value = param(name);
+            return value != null && !value.isBlank() ? Integer.valueOf(value) : null;
+        }
+
+        private List<Long> longListParam(String name) {
+            List<String> values = params.get(name);
+            if (values == null || values.isEmpty()) {
+                throw new IllegalArgumentException("Missing request parameter: " + name);
+            }
+            return values.stream()
+                    .flatMap(value -> Arrays.stream(UriUtils.decode(value, StandardCharsets.UTF_8).split(",")))
+                    .map(String::trim)
+                    .filter(value -> !value.isEmpty())
+                    .map(Long::valueOf)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.academic.erp.backend.controller;
+
+import com.academic.erp.backend.dto.SlowQueryDto;
+import com.academic.erp.backend.service.SqlStatementMonitor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/diagnostics")
+@RequiredArgsConstructor
+@CrossOrigin
+public class DiagnosticsController {
+
+    private final SqlStatementMonitor sqlStatementMonitor;
+
+    @GetMapping("/slow-queries")
+    public List<SlowQueryDto> getSlowQueries() {
+        return sqlStatementMonitor.getSlowestQueries();
+    }
+
+    @DeleteMapping("/slow-queries")
+    public ResponseEntity<Void> resetSlowQueries() {
+        sqlStatementMonitor.resetSlowestQueries();
+        return ResponseEntity.noContent().build();
+    }
+}
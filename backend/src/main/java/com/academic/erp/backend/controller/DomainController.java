@@ -1,10 +1,17 @@
 package com.academic.erp.backend.controller;
 
+import com.academic.erp.backend.config.MessageConverterConfig;
 import com.academic.erp.backend.dto.DomainResponseDto;
+import com.academic.erp.backend.dto.SeatAvailabilityDto;
+import com.academic.erp.backend.dto.SeatHoldResponse;
 import com.academic.erp.backend.service.DomainService;
+import com.academic.erp.backend.service.SeatCapacityService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.security.Principal;
 import java.util.List;
 
 @RestController
@@ -14,9 +21,26 @@ import java.util.List;
 public class DomainController {
 
     private final DomainService domainService;
+    private final SeatCapacityService seatCapacityService;
 
-    @GetMapping
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MessageConverterConfig.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
     public List<DomainResponseDto> getAllDomains() {
         return domainService.getAllDomains();
     }
+
+    @GetMapping("/availability")
+    public List<SeatAvailabilityDto> getAvailability(@RequestParam(required = false) Integer joinYear) {
+        return seatCapacityService.availability(joinYear);
+    }
+
+    @PostMapping("/{domainId}/holds")
+    public SeatHoldResponse holdSeat(@PathVariable Long domainId, @RequestParam Integer joinYear, Principal principal) {
+        return seatCapacityService.hold(domainId, joinYear, principal.getName());
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<Void> releaseSeat(@PathVariable String holdId, Principal principal) {
+        seatCapacityService.release(holdId, principal.getName());
+        return ResponseEntity.noContent().build();
+    }
 }
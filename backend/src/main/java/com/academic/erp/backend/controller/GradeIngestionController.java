@@ -0,0 +1,29 @@
+package com.academic.erp.backend.controller;
+
+import com.academic.erp.backend.dto.GradeIngestionStatus;
+import com.academic.erp.backend.service.GradeIngestionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/api/grades/ingest")
+@RequiredArgsConstructor
+@CrossOrigin
+public class GradeIngestionController {
+
+    private final GradeIngestionService gradeIngestionService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<GradeIngestionStatus> ingest(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(gradeIngestionService.submit(file));
+    }
+
+    @GetMapping("/{jobId}")
+    public GradeIngestionStatus getStatus(@PathVariable String jobId) {
+        return gradeIngestionService.getStatus(jobId);
+    }
+}
@@ -1,5 +1,10 @@
 package com.academic.erp.backend.controller;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -7,13 +12,27 @@ import java.time.LocalDateTime;
 import java.util.Map;
 
 @RestController
+@RequiredArgsConstructor
 public class HealthController {
 
+    private final ApplicationAvailability applicationAvailability;
+
     @GetMapping("/api/health")
     public String health() {
         return "Backend Working ✔️";
     }
 
+    /**
+     * Load balancer readiness probe: 503 until startup warm-up has finished and the
+     * application is accepting traffic, and again once shutdown begins.
+     */
+    @GetMapping("/api/health/ready")
+    public ResponseEntity<Map<String, String>> ready() {
+        ReadinessState state = applicationAvailability.getReadinessState();
+        HttpStatus status = state == ReadinessState.ACCEPTING_TRAFFIC ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(Map.of("status", state.name()));
+    }
+
     @GetMapping("/api/test")
     public Map<String, Object> test() {
         return Map.of(
@@ -0,0 +1,38 @@
+package com.academic.erp.backend.controller;
+
+import com.academic.erp.backend.dto.IdCardBatchStatus;
+import com.academic.erp.backend.service.IdCardBatchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/id-cards/batches")
+@RequiredArgsConstructor
+@CrossOrigin
+public class IdCardController {
+
+    private final IdCardBatchService idCardBatchService;
+
+    @PostMapping
+    public ResponseEntity<IdCardBatchStatus> submit(@RequestParam Integer joinYear) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(idCardBatchService.submit(joinYear));
+    }
+
+    @GetMapping("/{jobId}")
+    public IdCardBatchStatus getStatus(@PathVariable String jobId) {
+        return idCardBatchService.getStatus(jobId);
+    }
+
+    @GetMapping("/{jobId}/archive")
+    public ResponseEntity<Resource> downloadArchive(@PathVariable String jobId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"id-cards-" + jobId + ".zip\"")
+                .body(idCardBatchService.getArchive(jobId));
+    }
+}
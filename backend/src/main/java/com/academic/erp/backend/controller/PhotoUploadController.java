@@ -1,17 +1,32 @@
 package com.academic.erp.backend.controller;
 
 import com.academic.erp.backend.dto.PhotoUploadResponse;
+import com.academic.erp.backend.dto.PhotoUploadSessionDto;
+import com.academic.erp.backend.dto.PhotoUploadSessionRequest;
+import com.academic.erp.backend.service.ChunkedPhotoUploadService;
+import com.academic.erp.backend.service.IdempotencyService;
 import com.academic.erp.backend.service.PhotoStorageService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+
 @RestController
 @RequestMapping("/api/uploads")
 @RequiredArgsConstructor
@@ -20,16 +35,25 @@ import org.springframework.web.multipart.MultipartFile;
 public class PhotoUploadController {
 
     private final PhotoStorageService photoStorageService;
+    private final IdempotencyService idempotencyService;
+    private final ChunkedPhotoUploadService chunkedPhotoUploadService;
 
     @PostMapping(value = "/photo", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public PhotoUploadResponse uploadPhoto(@RequestParam("file") MultipartFile file) {
+    public PhotoUploadResponse uploadPhoto(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestParam("file") MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("Photo file is required");
         }
         
         try {
-            String path = photoStorageService.storePhoto(file);
-            return new PhotoUploadResponse(path, file.getOriginalFilename(), file.getSize());
+            return idempotencyService.execute(
+                    "photo",
+                    idempotencyKey,
+                    () -> idempotencyService.fingerprint(file),
+                    PhotoUploadResponse.class,
+                    () -> new PhotoUploadResponse(photoStorageService.storePhoto(file), file.getOriginalFilename(), file.getSize())
+            );
         } catch (IllegalArgumentException e) {
             // Re-throw validation errors as-is
             throw e;
@@ -38,5 +62,31 @@ public class PhotoUploadController {
             throw new RuntimeException("Failed to upload photo: " + e.getMessage());
         }
     }
-}
 
+    @PostMapping("/photo/sessions")
+    public ResponseEntity<PhotoUploadSessionDto> createUploadSession(@Valid @RequestBody PhotoUploadSessionRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(chunkedPhotoUploadService.createSession(request));
+    }
+
+    @PutMapping(value = "/photo/sessions/{uploadId}/chunks/{index}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<Void> uploadChunk(@PathVariable String uploadId, @PathVariable int index, InputStream body) {
+        chunkedPhotoUploadService.writeChunk(uploadId, index, body);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/photo/sessions/{uploadId}")
+    public PhotoUploadSessionDto getUploadSession(@PathVariable String uploadId) {
+        return chunkedPhotoUploadService.getSession(uploadId);
+    }
+
+    @PostMapping("/photo/sessions/{uploadId}/complete")
+    public PhotoUploadResponse completeUploadSession(@PathVariable String uploadId) {
+        return chunkedPhotoUploadService.complete(uploadId);
+    }
+
+    @DeleteMapping("/photo/sessions/{uploadId}")
+    public ResponseEntity<Void> cancelUploadSession(@PathVariable String uploadId) {
+        chunkedPhotoUploadService.cancel(uploadId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.academic.erp.backend.controller;
+
+import com.academic.erp.backend.dto.PlacementAssignmentResponse;
+import com.academic.erp.backend.dto.PlacementReportDto;
+import com.academic.erp.backend.dto.PlacementShortlistDto;
+import com.academic.erp.backend.service.PlacementReportService;
+import com.academic.erp.backend.service.PlacementShortlistService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/placements")
+@RequiredArgsConstructor
+@CrossOrigin
+public class PlacementController {
+
+    private final PlacementShortlistService shortlistService;
+    private final PlacementReportService reportService;
+
+    @GetMapping("/shortlist")
+    public List<PlacementShortlistDto> shortlist(@RequestParam Integer joinYear) {
+        return shortlistService.shortlist(joinYear);
+    }
+
+    @PostMapping("/assign")
+    public PlacementAssignmentResponse assign(@RequestParam Integer joinYear) {
+        return shortlistService.assign(joinYear);
+    }
+
+    @GetMapping("/reports")
+    public ResponseEntity<List<PlacementReportDto>> getReports(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // The list version covers removals too, which the per-report versions cannot show
+        long version = reportService.getReportsVersion();
+        return versioned(reportService.getReports(), version, ifNoneMatch);
+    }
+
+    @GetMapping("/reports/{organisationId}")
+    public ResponseEntity<PlacementReportDto> getReport(
+            @PathVariable Long organisationId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        PlacementReportDto report = reportService.getReport(organisationId);
+        return versioned(report, report.getVersion(), ifNoneMatch);
+    }
+
+    // Report versions double as ETags, so unchanged reports cost a 304 with no body
+    private static <T> ResponseEntity<T> versioned(T body, long version, String ifNoneMatch) {
+        String eTag = "\"" + version + "\"";
+        if (eTag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(body);
+    }
+}
@@ -0,0 +1,22 @@
+package com.academic.erp.backend.controller;
+
+import com.academic.erp.backend.dto.SpecialisationAllotmentRequest;
+import com.academic.erp.backend.dto.SpecialisationAllotmentResponse;
+import com.academic.erp.backend.service.SpecialisationAllotmentService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/specialisations")
+@RequiredArgsConstructor
+@CrossOrigin
+public class SpecialisationController {
+
+    private final SpecialisationAllotmentService allotmentService;
+
+    @PostMapping("/allotments")
+    public SpecialisationAllotmentResponse allot(@Valid @RequestBody SpecialisationAllotmentRequest request) {
+        return allotmentService.allot(request);
+    }
+}
@@ -0,0 +1,20 @@
+package com.academic.erp.backend.controller;
+
+import com.academic.erp.backend.dto.AdmissionStatisticsDto;
+import com.academic.erp.backend.service.AdmissionStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+@CrossOrigin
+public class StatisticsController {
+
+    private final AdmissionStatisticsService statisticsService;
+
+    @GetMapping
+    public AdmissionStatisticsDto getStatistics() {
+        return statisticsService.getStatistics();
+    }
+}
@@ -0,0 +1,33 @@
+package com.academic.erp.backend.controller;
+
+import com.academic.erp.backend.dto.StudentImportResult;
+import com.academic.erp.backend.service.StudentImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/api/students/import")
+@RequiredArgsConstructor
+@CrossOrigin
+public class StudentImportController {
+
+    private final StudentImportService studentImportService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public StudentImportResult importStudents(@RequestParam("file") MultipartFile file) {
+        return studentImportService.importCsv(file);
+    }
+
+    @GetMapping("/{importId}/errors")
+    public ResponseEntity<Resource> downloadErrorReport(@PathVariable String importId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"import-" + importId + "-errors.csv\"")
+                .body(studentImportService.getErrorReport(importId));
+    }
+}
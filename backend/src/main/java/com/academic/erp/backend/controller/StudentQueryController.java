@@ -1,8 +1,13 @@
 package com.academic.erp.backend.controller;
 
+import com.academic.erp.backend.config.MessageConverterConfig;
+import com.academic.erp.backend.dto.StudentChangesDto;
+import com.academic.erp.backend.dto.StudentProfileDto;
 import com.academic.erp.backend.dto.StudentResponseDto;
 import com.academic.erp.backend.service.StudentQueryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -13,10 +18,41 @@ import java.util.List;
 @CrossOrigin
 public class StudentQueryController {
 
+    public static final String CHANGE_TOKEN_HEADER = "X-Change-Token";
+
     private final StudentQueryService queryService;
 
-    @GetMapping
-    public List<StudentResponseDto> getAllStudents() {
-        return queryService.getAllStudents();
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MessageConverterConfig.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<List<StudentResponseDto>> getAllStudents() {
+        // Taken first so no write between the token and the read can be missed
+        String changeToken = queryService.currentChangeToken();
+        return ResponseEntity.ok()
+                .header(CHANGE_TOKEN_HEADER, changeToken)
+                .body(queryService.getAllStudents());
+    }
+
+    @GetMapping("/changes")
+    public StudentChangesDto getChanges(@RequestParam String since) {
+        return queryService.getChangesSince(since);
+    }
+
+    @GetMapping("/{studentId:\\d+}")
+    public StudentResponseDto getStudent(@PathVariable Long studentId) {
+        return queryService.getStudent(studentId);
+    }
+
+    @GetMapping("/{studentId:\\d+}/profile")
+    public StudentProfileDto getStudentProfile(@PathVariable Long studentId) {
+        return queryService.getStudentProfile(studentId);
+    }
+
+    @GetMapping("/profiles")
+    public List<StudentProfileDto> getStudentProfiles(@RequestParam List<Long> ids) {
+        return queryService.getStudentProfiles(ids);
+    }
+
+    @GetMapping("/by-roll/{rollNumber}")
+    public StudentResponseDto getStudentByRollNumber(@PathVariable String rollNumber) {
+        return queryService.getStudentByRollNumber(rollNumber);
     }
 }
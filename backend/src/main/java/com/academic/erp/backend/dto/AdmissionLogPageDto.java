@@ -0,0 +1,18 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdmissionLogPageDto {
+
+    private List<AdmissionLogRecordDto> records;
+    private Long nextOffset;
+    private Long startOffset;
+    private Long endOffset;
+}
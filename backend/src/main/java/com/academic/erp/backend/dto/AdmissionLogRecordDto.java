@@ -0,0 +1,24 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdmissionLogRecordDto {
+
+    private Long offset;
+    private Long studentId;
+    private String rollNumber;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private Long domainId;
+    private String domainProgram;
+    private Integer joinYear;
+    private Instant committedAt;
+}
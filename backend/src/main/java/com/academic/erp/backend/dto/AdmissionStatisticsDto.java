@@ -0,0 +1,23 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdmissionStatisticsDto {
+
+    private Long totalStudents;
+    private Long gradedStudents;
+    private Double averageCgpa;
+    private Long unassignedSpecialisation;
+    private List<StatisticsBucketDto> byDomain;
+    private List<StatisticsBucketDto> byJoinYear;
+    private List<StatisticsBucketDto> bySpecialisation;
+    private Instant reconciledAt;
+}
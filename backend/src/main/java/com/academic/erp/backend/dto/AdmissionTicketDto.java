@@ -0,0 +1,17 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdmissionTicketDto {
+
+    private String ticketId;
+    private String status;
+    private Long studentId;
+    private String rollNumber;
+    private String error;
+}
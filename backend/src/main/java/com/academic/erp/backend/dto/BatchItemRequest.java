@@ -0,0 +1,21 @@
+package com.academic.erp.backend.dto;
+
+import jakarta.validation.constraints.*;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchItemRequest {
+
+    @NotBlank(message = "Sub-request ID is required")
+    private String id;
+
+    private String method;
+
+    @NotBlank(message = "Sub-request path is required")
+    private String path;
+}
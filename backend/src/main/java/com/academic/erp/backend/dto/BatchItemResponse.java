@@ -0,0 +1,25 @@
+package com.academic.erp.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchItemResponse {
+
+    private String id;
+    private Integer status;
+    private Object body;
+    // Response headers the client needs, such as X-Change-Token and ETag; omitted when none are set
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, String> headers;
+
+    public BatchItemResponse(String id, Integer status, Object body) {
+        this(id, status, body, null);
+    }
+}
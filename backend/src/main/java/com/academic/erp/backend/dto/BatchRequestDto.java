@@ -0,0 +1,19 @@
+package com.academic.erp.backend.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchRequestDto {
+
+    @NotEmpty(message = "At least one sub-request is required")
+    private List<@Valid BatchItemRequest> requests;
+}
@@ -0,0 +1,16 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchResponseDto {
+
+    private List<BatchItemResponse> responses;
+    private Long elapsedMs;
+}
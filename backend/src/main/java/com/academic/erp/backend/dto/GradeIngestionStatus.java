@@ -0,0 +1,26 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GradeIngestionStatus {
+
+    private String jobId;
+    private String state;
+    private Long linesCommitted;
+    private Long rowsApplied;
+    private Long rowsRejected;
+    private Long chunksCommitted;
+    private Double rowsPerSecond;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String failure;
+    private List<String> rejections;
+}
@@ -0,0 +1,25 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdCardBatchStatus {
+
+    private String jobId;
+    private Integer joinYear;
+    private String state;
+    private Long totalCards;
+    private Long cardsRendered;
+    private Long missingPhotos;
+    private Double cardsPerSecond;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String failure;
+    private String archiveUrl;
+}
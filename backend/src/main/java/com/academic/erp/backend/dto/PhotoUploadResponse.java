@@ -2,8 +2,10 @@ package com.academic.erp.backend.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
 @AllArgsConstructor
 public class PhotoUploadResponse {
     private String path;
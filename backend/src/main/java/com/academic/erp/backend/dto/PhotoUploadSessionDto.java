@@ -0,0 +1,25 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PhotoUploadSessionDto {
+
+    private String uploadId;
+    private String fileName;
+    private String contentType;
+    private Long totalSize;
+    private Integer chunkSize;
+    private Integer chunkCount;
+    private List<Integer> receivedChunks;
+    private Boolean complete;
+    private LocalDateTime expiresAt;
+    private PhotoUploadResponse result;
+}
@@ -0,0 +1,26 @@
+package com.academic.erp.backend.dto;
+
+import jakarta.validation.constraints.*;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PhotoUploadSessionRequest {
+
+    @NotBlank(message = "File name is required")
+    private String fileName;
+
+    @NotBlank(message = "Content type is required")
+    private String contentType;
+
+    @NotNull(message = "Total size is required")
+    @Positive(message = "Total size must be positive")
+    private Long totalSize;
+
+    @Positive(message = "Chunk size must be positive")
+    private Integer chunkSize;
+}
@@ -0,0 +1,16 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlacementAssignmentResponse {
+
+    private Integer joinYear;
+    private Integer placementsProcessed;
+    private Integer studentsAssigned;
+    private Long elapsedMillis;
+}
@@ -0,0 +1,25 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlacementReportDto {
+
+    private Long organisationId;
+    private String organisationName;
+    // Changes whenever this organisation's figures change; also sent as the ETag
+    private Long version;
+    private Long studentsPlaced;
+    private Double averageCgpa;
+    private List<StatisticsBucketDto> byProfile;
+    private List<StatisticsBucketDto> byDomain;
+    private List<StatisticsBucketDto> cgpaDistribution;
+    private Instant refreshedAt;
+}
@@ -0,0 +1,21 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlacementShortlistDto {
+
+    private Long placementId;
+    private String organisationName;
+    private String profile;
+    private Double minimumGrade;
+    private Integer intake;
+    private Integer eligibleCount;
+    private List<Long> studentIds;
+}
@@ -0,0 +1,19 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatAvailabilityDto {
+
+    private Long domainId;
+    private String program;
+    private Integer joinYear;
+    private Integer capacity;
+    private Integer admitted;
+    private Integer held;
+    private Integer available;
+}
@@ -0,0 +1,18 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatHoldResponse {
+
+    private String holdId;
+    private Long domainId;
+    private Integer joinYear;
+    private Instant expiresAt;
+}
@@ -0,0 +1,20 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SlowQueryDto {
+
+    private String sql;
+    private String parameters;
+    private String caller;
+    private Long elapsedMillis;
+    private Integer batchSize;
+    private Instant executedAt;
+}
@@ -0,0 +1,21 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SpecialisationAllotmentChangeDto {
+
+    private Long studentId;
+    private String rollNumber;
+    private Double cgpa;
+    private Long previousSpecialisationId;
+    private String previousSpecialisationCode;
+    private Long specialisationId;
+    private String specialisationCode;
+    // 1 for the first preference; null when no preferred specialisation had a seat left
+    private Integer preferenceRank;
+}
@@ -0,0 +1,24 @@
+package com.academic.erp.backend.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SpecialisationAllotmentRequest {
+
+    @NotNull(message = "Join year is required")
+    private Integer joinYear;
+
+    // Computes and returns the diff without writing it
+    private boolean dryRun;
+
+    @NotNull(message = "Preferences are required")
+    private List<@Valid StudentPreferenceDto> preferences;
+}
@@ -0,0 +1,23 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SpecialisationAllotmentResponse {
+
+    private Integer joinYear;
+    private Boolean dryRun;
+    private Integer studentsConsidered;
+    private Integer studentsAllotted;
+    private Integer studentsUnallotted;
+    private Integer studentsChanged;
+    private List<SpecialisationAllotmentSummaryDto> specialisations;
+    private List<SpecialisationAllotmentChangeDto> changes;
+    private Long elapsedMillis;
+}
@@ -0,0 +1,20 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SpecialisationAllotmentSummaryDto {
+
+    private Long specialisationId;
+    private String code;
+    private Integer capacity;
+    // Students of the cohort who hold the specialisation and took no part in the allotment
+    private Integer retained;
+    private Integer allotted;
+    // Lowest cgpa allotted the specialisation
+    private Double cutoffCgpa;
+}
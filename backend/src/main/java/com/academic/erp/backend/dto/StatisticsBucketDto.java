@@ -0,0 +1,17 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatisticsBucketDto {
+
+    private String key;
+    private String label;
+    private Long students;
+    // Only reported for buckets whose cgpa total is maintained (join years)
+    private Double averageCgpa;
+}
@@ -30,4 +30,7 @@ public class StudentAdmissionRequestDto {
     @Min(value = 2000, message = "Join year must be valid")
     @Max(value = 2100, message = "Join year must be valid")
     private Integer joinYear;
+
+    // Optional seat hold taken while the form was being filled in
+    private String seatHoldId;
 }
@@ -0,0 +1,26 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentAnalyticsGroupDto {
+
+    // Dimension name to value, in groupBy order
+    private Map<String, String> key;
+    private Long students;
+    private Long graded;
+    private Double averageCgpa;
+    private Double minCgpa;
+    private Double maxCgpa;
+    private Double averageCredits;
+    private Long specialised;
+    // Specialised students whose total credits reach their specialisation's requirement
+    private Long creditsCompleted;
+    private Double completionRate;
+}
@@ -0,0 +1,38 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Filter and grouping of an analytics scan over the columnar student snapshot. Unset
+ * filters match every student; setting {@code minCgpa} or {@code maxCgpa} excludes
+ * ungraded students.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentAnalyticsQuery {
+
+    private Integer joinYearFrom;
+    private Integer joinYearTo;
+    private List<Long> domainIds;
+    private List<String> programs;
+    private List<String> specialisations;
+    private Double minCgpa;
+    private Double maxCgpa;
+    private Boolean graded;
+    private List<Dimension> groupBy;
+    // Width of the CGPA_BUCKET groups, on the 10-point scale
+    private Double cgpaBucketWidth;
+
+    public enum Dimension {
+        JOIN_YEAR,
+        DOMAIN,
+        PROGRAM,
+        SPECIALISATION,
+        CGPA_BUCKET
+    }
+}
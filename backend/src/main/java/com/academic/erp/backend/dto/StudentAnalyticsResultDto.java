@@ -0,0 +1,20 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentAnalyticsResultDto {
+
+    private List<StudentAnalyticsGroupDto> groups;
+    private Long rowsScanned;
+    private Long rowsMatched;
+    private Long elapsedMicros;
+    private Instant snapshotAt;
+}
@@ -0,0 +1,17 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentChangesDto {
+
+    private List<StudentResponseDto> changes;
+    private String token;
+    private Boolean resyncRequired;
+}
@@ -0,0 +1,18 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentImportResult {
+
+    private String importId;
+    private Long rowsRead;
+    private Long rowsAdmitted;
+    private Long rowsRejected;
+    private Long elapsedMillis;
+    private String errorReportUrl;
+}
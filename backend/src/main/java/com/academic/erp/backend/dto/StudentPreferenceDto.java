@@ -0,0 +1,21 @@
+package com.academic.erp.backend.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentPreferenceDto {
+
+    @NotNull(message = "Student ID is required")
+    private Long studentId;
+
+    // Most preferred first
+    @NotNull(message = "Specialisation preferences are required")
+    private List<Long> specialisationIds;
+}
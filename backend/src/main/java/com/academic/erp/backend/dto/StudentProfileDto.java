@@ -0,0 +1,35 @@
+package com.academic.erp.backend.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentProfileDto {
+
+    private Long studentId;
+    private String rollNumber;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String photographPath;
+    private Integer joinYear;
+    private Integer totalCredits;
+    private Double cgpa;
+
+    private Long domainId;
+    private String domainProgram;
+    private String domainBatch;
+    private String domainQualification;
+
+    private Long specialisationId;
+    private String specialisationCode;
+    private String specialisationName;
+
+    private Long placementId;
+    private String placementProfile;
+    private Long organisationId;
+    private String organisationName;
+}
@@ -28,6 +28,11 @@ public class Specialisation {
 
     private Integer year;
 
+    /**
+     * Seats in each join-year cohort filled by specialisation allotment; null means no limit.
+     */
+    private Integer capacity;
+
     @Column(name = "credits_required", nullable = false)
     private Integer creditsRequired = 20;
 
@@ -1,5 +1,6 @@
 package com.academic.erp.backend.entity;
 
+import com.academic.erp.backend.service.StudentChangeSequence;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
@@ -8,9 +9,11 @@ import java.time.LocalDateTime;
 @Table(
         name = "students",
         indexes = {
-                @Index(name = "idx_student_spec_year", columnList = "specialisation_id, join_year")
+                @Index(name = "idx_student_spec_year", columnList = "specialisation_id, join_year"),
+                @Index(name = "idx_student_change_seq", columnList = "change_seq")
         }
 )
+@EntityListeners(StudentChangeSequence.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -70,6 +73,13 @@ public class Student {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    /**
+     * Position of this row's latest insert or update in the student change sequence,
+     * stamped by {@link StudentChangeSequence}. Delta sync reads rows above a client's token.
+     */
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
     @PrePersist
     public void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -0,0 +1,11 @@
+package com.academic.erp.backend.event;
+
+import java.util.List;
+
+/**
+ * Published inside the transaction that wrote the grades. Listeners that maintain
+ * cgpa-derived state should use {@code @TransactionalEventListener} so they only
+ * observe committed changes.
+ */
+public record GradesUpdatedEvent(List<StudentGradeChange> changes) {
+}
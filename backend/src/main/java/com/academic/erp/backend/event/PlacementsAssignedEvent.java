@@ -0,0 +1,10 @@
+package com.academic.erp.backend.event;
+
+import java.util.Set;
+
+/**
+ * Published inside the transaction that wrote a batch of placement assignments,
+ * naming the placements that gained students.
+ */
+public record PlacementsAssignedEvent(Integer joinYear, Set<Long> placementIds) {
+}
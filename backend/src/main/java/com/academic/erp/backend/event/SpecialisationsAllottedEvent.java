@@ -0,0 +1,10 @@
+package com.academic.erp.backend.event;
+
+import java.util.List;
+
+/**
+ * Published inside the transaction that wrote a specialisation allotment, listing only
+ * the students whose specialisation changed.
+ */
+public record SpecialisationsAllottedEvent(Integer joinYear, List<StudentSpecialisationChange> changes) {
+}
@@ -0,0 +1,18 @@
+package com.academic.erp.backend.event;
+
+/**
+ * Published inside the admission transaction. Listeners that maintain derived
+ * state should use {@code @TransactionalEventListener} so rolled-back admissions
+ * are never observed.
+ */
+public record StudentAdmittedEvent(
+        Long studentId,
+        String rollNumber,
+        String firstName,
+        String lastName,
+        String email,
+        Long domainId,
+        String domainProgram,
+        Integer joinYear
+) {
+}
@@ -0,0 +1,15 @@
+package com.academic.erp.backend.event;
+
+/**
+ * Before/after view of one student's grade row, so listeners can adjust
+ * aggregates incrementally instead of re-reading the table.
+ */
+public record StudentGradeChange(
+        Long studentId,
+        Integer joinYear,
+        Double previousCgpa,
+        Double cgpa,
+        Integer previousTotalCredits,
+        Integer totalCredits
+) {
+}
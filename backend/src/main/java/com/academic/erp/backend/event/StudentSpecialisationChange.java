@@ -0,0 +1,12 @@
+package com.academic.erp.backend.event;
+
+/**
+ * Before/after specialisation of one student; either side is null when the student
+ * had or gets no specialisation.
+ */
+public record StudentSpecialisationChange(
+        Long studentId,
+        Long previousSpecialisationId,
+        Long specialisationId
+) {
+}
@@ -0,0 +1,11 @@
+package com.academic.erp.backend.exception;
+
+/**
+ * Thrown when the asynchronous admission queue cannot accept more requests.
+ */
+public class AdmissionQueueFullException extends RuntimeException {
+
+    public AdmissionQueueFullException(String message) {
+        super(message);
+    }
+}
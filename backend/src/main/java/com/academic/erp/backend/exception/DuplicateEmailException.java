@@ -0,0 +1,11 @@
+package com.academic.erp.backend.exception;
+
+/**
+ * Thrown when an admission uses an email that already belongs to a student.
+ */
+public class DuplicateEmailException extends RuntimeException {
+
+    public DuplicateEmailException(String message) {
+        super(message);
+    }
+}
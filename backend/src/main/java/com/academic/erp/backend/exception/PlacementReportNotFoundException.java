@@ -0,0 +1,11 @@
+package com.academic.erp.backend.exception;
+
+/**
+ * Thrown when no placement report exists for the requested organisation.
+ */
+public class PlacementReportNotFoundException extends RuntimeException {
+
+    public PlacementReportNotFoundException(String message) {
+        super(message);
+    }
+}
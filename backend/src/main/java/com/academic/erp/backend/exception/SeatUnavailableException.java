@@ -0,0 +1,11 @@
+package com.academic.erp.backend.exception;
+
+/**
+ * Thrown when a domain has no free seats left for the requested join year.
+ */
+public class SeatUnavailableException extends RuntimeException {
+
+    public SeatUnavailableException(String message) {
+        super(message);
+    }
+}
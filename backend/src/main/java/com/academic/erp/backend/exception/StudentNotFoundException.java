@@ -0,0 +1,11 @@
+package com.academic.erp.backend.exception;
+
+/**
+ * Thrown when a single-student lookup matches no student.
+ */
+public class StudentNotFoundException extends RuntimeException {
+
+    public StudentNotFoundException(String message) {
+        super(message);
+    }
+}
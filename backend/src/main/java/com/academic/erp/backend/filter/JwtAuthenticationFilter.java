@@ -1,6 +1,7 @@
 package com.academic.erp.backend.filter;
 
 import com.academic.erp.backend.dto.TokenInfoResponse;
+import com.academic.erp.backend.service.RequestTiming;
 import com.academic.erp.backend.service.TokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -33,7 +34,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (idToken != null && !idToken.isEmpty()) {
             try {
-                TokenInfoResponse tokenInfo = tokenService.validateIdToken(idToken);
+                long validationStart = System.nanoTime();
+                TokenInfoResponse tokenInfo;
+                try {
+                    tokenInfo = tokenService.validateIdToken(idToken);
+                } finally {
+                    RequestTiming timing = RequestTiming.current();
+                    if (timing != null) {
+                        timing.recordAuth(System.nanoTime() - validationStart);
+                    }
+                }
                 
                 // Check if email starts with erphead
                 if (tokenInfo.getEmail() != null && 
@@ -0,0 +1,101 @@
+package com.academic.erp.backend.filter;
+
+import com.academic.erp.backend.service.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies {@link RateLimiter} to write endpoints. Runs inside the security chain after
+ * {@link JwtAuthenticationFilter}, so buckets are keyed on the authenticated user.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RateLimiter.EndpointClass endpointClass = classify(request);
+        if (endpointClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(endpointClass, caller(request));
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, retryAfterSeconds, "Too many requests. Please slow down.");
+            return;
+        }
+
+        // Uploads and bulk jobs hold disk and DB resources for a long time; cap them globally
+        boolean expensive = endpointClass != RateLimiter.EndpointClass.ADMISSION;
+        if (expensive && !rateLimiter.tryEnterExpensive()) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "Server is busy. Please retry shortly.");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (expensive) {
+                rateLimiter.exitExpensive();
+            }
+        }
+    }
+
+    private RateLimiter.EndpointClass classify(HttpServletRequest request) {
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)) {
+            return null;
+        }
+        String path = request.getRequestURI();
+        if (path.startsWith("/api/students/admit")) {
+            return RateLimiter.EndpointClass.ADMISSION;
+        }
+        // A file arrives as many chunks, so they get their own, faster bucket; they still
+        // write to disk and count against the expensive cap like any other upload
+        if (path.startsWith("/api/uploads/photo/sessions/")) {
+            return RateLimiter.EndpointClass.UPLOAD_CHUNK;
+        }
+        if (path.startsWith("/api/uploads/")) {
+            return RateLimiter.EndpointClass.UPLOAD;
+        }
+        if (path.startsWith("/api/grades/") || path.startsWith("/api/placements/") || path.startsWith("/api/students/import")
+                || path.startsWith("/api/id-cards/") || path.startsWith("/api/specialisations/")) {
+            return RateLimiter.EndpointClass.BULK;
+        }
+        return null;
+    }
+
+    private String caller(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated()
+                ? authentication.getName()
+                : request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"" + message + "\"}");
+    }
+}
@@ -0,0 +1,12 @@
+package com.academic.erp.backend.repository;
+
+/**
+ * Number of admitted students for one (domain, join year) pair.
+ */
+public interface DomainYearCount {
+    Long getDomainId();
+
+    Integer getJoinYear();
+
+    Long getAdmitted();
+}
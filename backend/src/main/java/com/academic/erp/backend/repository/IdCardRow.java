@@ -0,0 +1,8 @@
+package com.academic.erp.backend.repository;
+
+/**
+ * The fields printed on a student ID card, read without loading the entity graph.
+ */
+public record IdCardRow(Long studentId, String rollNumber, String firstName, String lastName,
+                        String photographPath, String program) {
+}
@@ -0,0 +1,14 @@
+package com.academic.erp.backend.repository;
+
+/**
+ * Student count and cgpa total for one join year; {@code graded} counts students with a cgpa.
+ */
+public interface JoinYearCgpaSummary {
+    Integer getJoinYear();
+
+    Long getStudents();
+
+    Long getGraded();
+
+    Double getCgpaSum();
+}
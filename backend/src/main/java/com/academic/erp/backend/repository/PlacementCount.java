@@ -0,0 +1,10 @@
+package com.academic.erp.backend.repository;
+
+/**
+ * Number of students already assigned to one placement.
+ */
+public interface PlacementCount {
+    Long getPlacementId();
+
+    Long getStudents();
+}
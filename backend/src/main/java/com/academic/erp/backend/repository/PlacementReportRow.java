@@ -0,0 +1,17 @@
+package com.academic.erp.backend.repository;
+
+/**
+ * Placed students of one placement, grouped by domain and whole-number cgpa band.
+ * {@code cgpaBand} is null for students without a cgpa.
+ */
+public interface PlacementReportRow {
+    Long getPlacementId();
+
+    Long getDomainId();
+
+    Double getCgpaBand();
+
+    Long getStudents();
+
+    Double getCgpaSum();
+}
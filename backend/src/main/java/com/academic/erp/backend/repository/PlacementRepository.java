@@ -2,8 +2,28 @@ package com.academic.erp.backend.repository;
 
 import com.academic.erp.backend.entity.Placement;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface PlacementRepository extends JpaRepository<Placement, Long> {
+
+    @Query("select p from Placement p left join fetch p.organisation")
+    List<Placement> findAllWithOrganisation();
+
+    @Query("select p.placementId as placementId, s.domain.domainId as domainId, floor(s.cgpa) as cgpaBand, " +
+            "count(s) as students, sum(s.cgpa) as cgpaSum " +
+            "from Student s join s.placement p " +
+            "group by p.placementId, s.domain.domainId, floor(s.cgpa)")
+    List<PlacementReportRow> summarisePlacedStudents();
+
+    @Query("select p.placementId as placementId, s.domain.domainId as domainId, floor(s.cgpa) as cgpaBand, " +
+            "count(s) as students, sum(s.cgpa) as cgpaSum " +
+            "from Student s join s.placement p where p.placementId in :placementIds " +
+            "group by p.placementId, s.domain.domainId, floor(s.cgpa)")
+    List<PlacementReportRow> summarisePlacedStudents(@Param("placementIds") Collection<Long> placementIds);
 }
@@ -0,0 +1,10 @@
+package com.academic.erp.backend.repository;
+
+/**
+ * Number of students allotted to one specialisation.
+ */
+public interface SpecialisationCount {
+    Long getSpecialisationId();
+
+    Long getStudents();
+}
@@ -0,0 +1,7 @@
+package com.academic.erp.backend.repository;
+
+/**
+ * A student's current specialisation and cgpa, read for specialisation allotment.
+ */
+public record StudentAllotmentRow(Long studentId, String rollNumber, Double cgpa, Long specialisationId) {
+}
@@ -0,0 +1,8 @@
+package com.academic.erp.backend.repository;
+
+/**
+ * Lightweight read model of a student's grade, used to build in-memory indexes
+ * without loading full {@link com.academic.erp.backend.entity.Student} entities.
+ */
+public record StudentCgpaRow(Long studentId, Integer joinYear, Double cgpa, Long placementId) {
+}
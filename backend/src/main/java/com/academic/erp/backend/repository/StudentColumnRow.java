@@ -0,0 +1,19 @@
+package com.academic.erp.backend.repository;
+
+/**
+ * Flat read model of the student fields held by the columnar analytics snapshot,
+ * loaded without building {@link com.academic.erp.backend.entity.Student} entities.
+ */
+public record StudentColumnRow(
+        Long studentId,
+        Integer joinYear,
+        Long domainId,
+        String program,
+        Long specialisationId,
+        String specialisationCode,
+        Integer creditsRequired,
+        Double cgpa,
+        Integer totalCredits,
+        Long changeSeq
+) {
+}
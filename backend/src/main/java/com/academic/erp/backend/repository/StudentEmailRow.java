@@ -0,0 +1,7 @@
+package com.academic.erp.backend.repository;
+
+/**
+ * Student ID and email, read in ID order to build the admitted-email filter.
+ */
+public record StudentEmailRow(Long studentId, String email) {
+}
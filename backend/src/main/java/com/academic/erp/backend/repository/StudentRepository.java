@@ -1,9 +1,15 @@
 package com.academic.erp.backend.repository;
 
 import com.academic.erp.backend.entity.Student;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +21,78 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
             Integer end,
             String rollBase
     );
+
+    @Query("select new com.academic.erp.backend.repository.StudentCgpaRow(s.studentId, s.joinYear, s.cgpa, p.placementId) " +
+            "from Student s left join s.placement p where s.cgpa is not null")
+    List<StudentCgpaRow> findAllGraded();
+
+    @Query("select s.domain.domainId as domainId, s.joinYear as joinYear, count(s) as admitted " +
+            "from Student s group by s.domain.domainId, s.joinYear")
+    List<DomainYearCount> countByDomainAndJoinYear();
+
+    @Query("select s.specialisation.specialisationId as specialisationId, count(s) as students " +
+            "from Student s where s.specialisation is not null group by s.specialisation.specialisationId")
+    List<SpecialisationCount> countBySpecialisation();
+
+    @Query("select s.placement.placementId as placementId, count(s) as students " +
+            "from Student s where s.placement is not null group by s.placement.placementId")
+    List<PlacementCount> countByPlacement();
+
+    @Query("select s.joinYear as joinYear, count(s) as students, count(s.cgpa) as graded, sum(s.cgpa) as cgpaSum " +
+            "from Student s group by s.joinYear")
+    List<JoinYearCgpaSummary> summariseCgpaByJoinYear();
+
+    boolean existsByEmail(String email);
+
+    @EntityGraph(attributePaths = {"domain", "specialisation", "placement", "placement.organisation"})
+    @Query("select s from Student s where s.studentId = :studentId")
+    Optional<Student> findProfileByStudentId(@Param("studentId") Long studentId);
+
+    @EntityGraph(attributePaths = {"domain", "specialisation", "placement", "placement.organisation"})
+    @Query("select s from Student s where s.studentId in :studentIds")
+    List<Student> findProfilesByStudentIdIn(@Param("studentIds") Collection<Long> studentIds);
+
+    @Query("select s from Student s join fetch s.domain where s.studentId = :studentId")
+    Optional<Student> findWithDomainByStudentId(@Param("studentId") Long studentId);
+
+    @Query("select s from Student s join fetch s.domain where s.rollNumber = :rollNumber")
+    Optional<Student> findWithDomainByRollNumber(@Param("rollNumber") String rollNumber);
+
+    @Query("select new com.academic.erp.backend.repository.StudentEmailRow(s.studentId, s.email) " +
+            "from Student s where s.studentId > :afterId order by s.studentId")
+    List<StudentEmailRow> findEmailsAfter(@Param("afterId") Long afterId, Pageable page);
+
+    long countByJoinYear(Integer joinYear);
+
+    @Query("select new com.academic.erp.backend.repository.IdCardRow(" +
+            "s.studentId, s.rollNumber, s.firstName, s.lastName, s.photographPath, d.program) " +
+            "from Student s join s.domain d where s.joinYear = :joinYear and s.studentId > :afterId order by s.studentId")
+    List<IdCardRow> findIdCardsAfter(@Param("joinYear") Integer joinYear, @Param("afterId") Long afterId, Pageable page);
+
+    @Query("select s.email from Student s where s.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("select s from Student s join fetch s.domain " +
+            "where s.changeSeq > :since and s.changeSeq <= :upTo order by s.changeSeq")
+    List<Student> findChangedBetween(@Param("since") long since, @Param("upTo") long upTo, Pageable page);
+
+    @Query("select new com.academic.erp.backend.repository.StudentColumnRow(" +
+            "s.studentId, s.joinYear, d.domainId, d.program, sp.specialisationId, sp.code, sp.creditsRequired, " +
+            "s.cgpa, s.totalCredits, s.changeSeq) " +
+            "from Student s join s.domain d left join s.specialisation sp " +
+            "where s.studentId > :afterId order by s.studentId")
+    List<StudentColumnRow> findColumnRowsAfter(@Param("afterId") Long afterId, Pageable page);
+
+    @Query("select new com.academic.erp.backend.repository.StudentColumnRow(" +
+            "s.studentId, s.joinYear, d.domainId, d.program, sp.specialisationId, sp.code, sp.creditsRequired, " +
+            "s.cgpa, s.totalCredits, s.changeSeq) " +
+            "from Student s join s.domain d left join s.specialisation sp " +
+            "where s.changeSeq > :since and s.changeSeq <= :upTo order by s.changeSeq")
+    List<StudentColumnRow> findColumnRowsChangedBetween(@Param("since") long since, @Param("upTo") long upTo, Pageable page);
+
+    @Query("select new com.academic.erp.backend.repository.StudentAllotmentRow(" +
+            "s.studentId, s.rollNumber, s.cgpa, sp.specialisationId) " +
+            "from Student s left join s.specialisation sp " +
+            "where s.joinYear = :joinYear order by s.cgpa desc nulls last, s.studentId")
+    List<StudentAllotmentRow> findAllotmentRows(@Param("joinYear") Integer joinYear);
 }
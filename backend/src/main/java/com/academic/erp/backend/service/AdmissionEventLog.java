@@ -0,0 +1,349 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.event.StudentAdmittedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of committed admissions in memory-mapped segment files, so reports
+ * and audits can replay admissions without querying MySQL.
+ * <p>
+ * Each record is {@code [int bodyLength][int crc32c(body)][body]}; the body holds the
+ * student ID, domain ID, join year and commit time followed by length-prefixed UTF-8
+ * roll number, first name, last name, email and domain program. A record's offset is
+ * its byte position across all segments, and each segment file is named after the
+ * offset of its first record. Segments roll at {@code segment-bytes}; the oldest are
+ * deleted once the log exceeds {@code retention-bytes}.
+ * <p>
+ * Records are appended after commit, so a rolled-back admission never reaches the log.
+ * Appends land in the page cache immediately and are forced to disk every
+ * {@code flush-interval-ms}. On startup the active segment is scanned and a torn
+ * trailing record is discarded.
+ * <p>
+ * Long-poll waiters are woken on a dedicated thread, so an admission's own response
+ * never waits for tailers to read their pages.
+ */
+@Component
+@Slf4j
+public class AdmissionEventLog {
+
+    static final int HEADER_BYTES = 8;
+    static final int FIXED_BODY_BYTES = 28;
+
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final long retentionBytes;
+
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    // Long-poll readers waiting for the record at or beyond the offset they are keyed to
+    private final Map<Runnable, Long> appendWaiters = new ConcurrentHashMap<>();
+    // Set while a wake-up is queued, so a burst of appends schedules one scan
+    private final AtomicBoolean wakeScheduled = new AtomicBoolean();
+    private final ExecutorService waker = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "admission-log-waiters");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Guarded by this
+    private Segment active;
+    private int position;
+    private boolean dirty;
+    // Offset just past the last complete record; readers never look beyond it
+    private volatile long endOffset;
+
+    public AdmissionEventLog(@Value("${app.admission-log.dir:admission-log}") String directory,
+                             @Value("${app.admission-log.segment-bytes:67108864}") long segmentBytes,
+                             @Value("${app.admission-log.retention-bytes:1073741824}") long retentionBytes) throws IOException {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.segmentBytes = segmentBytes;
+        this.retentionBytes = retentionBytes;
+        recover();
+    }
+
+    @TransactionalEventListener
+    public void onStudentAdmitted(StudentAdmittedEvent event) {
+        try {
+            append(event, System.currentTimeMillis());
+        } catch (RuntimeException ex) {
+            // The admission is already committed; losing the log record must not fail the request
+            log.error("Unable to append admission of student {} to the event log", event.studentId(), ex);
+        }
+    }
+
+    public void append(StudentAdmittedEvent event, long committedAt) {
+        byte[][] strings = {
+                utf8(event.rollNumber()),
+                utf8(event.firstName()),
+                utf8(event.lastName()),
+                utf8(event.email()),
+                utf8(event.domainProgram())
+        };
+        int bodyLength = FIXED_BODY_BYTES;
+        for (byte[] value : strings) {
+            bodyLength += 2 + value.length;
+        }
+        int recordLength = HEADER_BYTES + bodyLength;
+        if (recordLength > segmentBytes) {
+            throw new IllegalArgumentException("Admission record of " + recordLength + " bytes exceeds the segment size");
+        }
+
+        synchronized (this) {
+            if (position + recordLength > active.capacity) {
+                roll();
+            }
+            MappedByteBuffer buffer = active.buffer;
+            int bodyStart = position + HEADER_BYTES;
+            buffer.position(bodyStart);
+            buffer.putLong(event.studentId() != null ? event.studentId() : -1L);
+            buffer.putLong(event.domainId() != null ? event.domainId() : -1L);
+            buffer.putInt(event.joinYear() != null ? event.joinYear() : 0);
+            buffer.putLong(committedAt);
+            for (byte[] value : strings) {
+                buffer.putShort((short) value.length);
+                buffer.put(value);
+            }
+
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(bodyStart, bodyLength));
+            buffer.putInt(position + 4, (int) crc.getValue());
+            buffer.putInt(position, bodyLength);
+
+            position += recordLength;
+            dirty = true;
+            endOffset = active.baseOffset + position;
+        }
+        if (!appendWaiters.isEmpty() && wakeScheduled.compareAndSet(false, true)) {
+            waker.execute(() -> {
+                // Cleared before the scan, so an append during it schedules another
+                wakeScheduled.set(false);
+                wakeWaiters();
+            });
+        }
+    }
+
+    /**
+     * Returns a cursor positioned at {@code fromOffset}, which must be 0, the start
+     * offset, or an offset previously returned by a reader.
+     */
+    public AdmissionLogReader reader(long fromOffset) {
+        return new AdmissionLogReader(this, fromOffset);
+    }
+
+    public long startOffset() {
+        return segments.firstKey();
+    }
+
+    public long endOffset() {
+        return endOffset;
+    }
+
+    /**
+     * Runs {@code callback} once a record at or beyond {@code offset} has been appended:
+     * right away if one exists, otherwise on the log's waiter thread after the append.
+     * Waiting holds no thread. The callback runs at most once and should be quick.
+     */
+    public void awaitAppend(long offset, Runnable callback) {
+        appendWaiters.put(callback, offset);
+        // Checked after registering, so an append racing the registration is not missed
+        if (endOffset > offset && appendWaiters.remove(callback, offset)) {
+            callback.run();
+        }
+    }
+
+    /**
+     * Drops a callback registered with {@link #awaitAppend}. Returns false if it has
+     * already run or is running.
+     */
+    public boolean cancelAwait(Runnable callback) {
+        return appendWaiters.remove(callback) != null;
+    }
+
+    @Scheduled(fixedDelayString = "${app.admission-log.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (dirty) {
+            active.buffer.force();
+            dirty = false;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        waker.shutdownNow();
+        flush();
+    }
+
+    private void wakeWaiters() {
+        long end = endOffset;
+        appendWaiters.forEach((callback, offset) -> {
+            if (end > offset && appendWaiters.remove(callback, offset)) {
+                try {
+                    callback.run();
+                } catch (RuntimeException ex) {
+                    log.warn("Admission log waiter failed", ex);
+                }
+            }
+        });
+    }
+
+    /**
+     * The readable part of the segment holding {@code offset}, or null if nothing has
+     * been appended at or beyond it yet.
+     */
+    SegmentView view(long offset) {
+        // Read the end first: every byte before it is visible once this volatile read happens
+        long end = endOffset;
+        if (offset >= end) {
+            return null;
+        }
+        Map.Entry<Long, Segment> entry = segments.floorEntry(offset);
+        if (entry == null || offset < segments.firstKey()) {
+            throw new IllegalArgumentException("Offset " + offset + " is no longer retained; the log starts at " + startOffset());
+        }
+        Map.Entry<Long, Segment> next = segments.higherEntry(entry.getKey());
+        long segmentEnd = next != null ? next.getKey() : end;
+        if (offset >= segmentEnd) {
+            // Only reachable if the offset was not a record boundary
+            throw new IllegalArgumentException("Offset " + offset + " is not a record boundary");
+        }
+        return new SegmentView(entry.getKey(), entry.getValue().buffer.asReadOnlyBuffer(), segmentEnd);
+    }
+
+    private void recover() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(file -> file.getFileName().toString().matches("\\d{20}\\" + SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long baseOffset = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+            segments.put(baseOffset, map(file, baseOffset, Files.size(file)));
+        }
+        if (segments.isEmpty()) {
+            segments.put(0L, create(0L));
+        }
+
+        active = segments.lastEntry().getValue();
+        position = scan(active);
+        endOffset = active.baseOffset + position;
+        log.info("Opened admission event log in {}: {} segments, offsets {} to {}",
+                directory, segments.size(), startOffset(), endOffset);
+    }
+
+    // Finds the end of the last intact record, zeroing a torn tail so it is not mistaken for data
+    private static int scan(Segment segment) {
+        ByteBuffer buffer = segment.buffer;
+        CRC32C crc = new CRC32C();
+        int offset = 0;
+        while (offset + HEADER_BYTES <= segment.capacity) {
+            int bodyLength = buffer.getInt(offset);
+            if (bodyLength < FIXED_BODY_BYTES || offset + HEADER_BYTES + bodyLength > segment.capacity) {
+                break;
+            }
+            crc.reset();
+            crc.update(buffer.slice(offset + HEADER_BYTES, bodyLength));
+            if ((int) crc.getValue() != buffer.getInt(offset + 4)) {
+                break;
+            }
+            offset += HEADER_BYTES + bodyLength;
+        }
+        if (offset + HEADER_BYTES <= segment.capacity && buffer.getInt(offset) != 0) {
+            log.warn("Discarding torn record at offset {} of admission log segment {}",
+                    segment.baseOffset + offset, segment.file);
+            for (int i = offset; i < segment.capacity && i < offset + HEADER_BYTES; i++) {
+                buffer.put(i, (byte) 0);
+            }
+        }
+        return offset;
+    }
+
+    private void roll() {
+        active.buffer.force();
+        long baseOffset = active.baseOffset + position;
+        Segment next;
+        try {
+            next = create(baseOffset);
+        } catch (IOException ex) {
+            throw new RuntimeException("Unable to create admission log segment at offset " + baseOffset, ex);
+        }
+        segments.put(baseOffset, next);
+        active = next;
+        position = 0;
+        dirty = false;
+
+        long retained = segments.values().stream().mapToLong(segment -> segment.capacity).sum();
+        while (retained > retentionBytes && segments.size() > 1) {
+            Segment oldest = segments.pollFirstEntry().getValue();
+            retained -= oldest.capacity;
+            try {
+                // Readers still holding the mapping keep reading it until they move on
+                Files.deleteIfExists(oldest.file);
+            } catch (IOException ex) {
+                log.warn("Unable to delete admission log segment {}", oldest.file, ex);
+            }
+        }
+    }
+
+    private Segment create(long baseOffset) throws IOException {
+        Path file = directory.resolve(String.format("%020d", baseOffset) + SEGMENT_SUFFIX);
+        try (RandomAccessFile segmentFile = new RandomAccessFile(file.toFile(), "rw")) {
+            segmentFile.setLength(segmentBytes);
+        }
+        return map(file, baseOffset, segmentBytes);
+    }
+
+    private static Segment map(Path file, long baseOffset, long capacity) throws IOException {
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Admission log segment " + file + " is larger than 2 GB");
+        }
+        try (RandomAccessFile segmentFile = new RandomAccessFile(file.toFile(), "rw")) {
+            // The mapping outlives the channel
+            MappedByteBuffer buffer = segmentFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            return new Segment(baseOffset, file, buffer, (int) capacity);
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Admission log field longer than 65535 bytes");
+        }
+        return bytes;
+    }
+
+    record SegmentView(long baseOffset, ByteBuffer buffer, long endOffset) {
+    }
+
+    private record Segment(long baseOffset, Path file, MappedByteBuffer buffer, int capacity) {
+    }
+}
@@ -0,0 +1,191 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.StudentResponseDto;
+import com.academic.erp.backend.event.StudentAdmittedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed admissions to Server-Sent Events subscribers.
+ * <p>
+ * Connections are servlet-async {@link SseEmitter}s, so an idle subscriber holds no
+ * request thread. Publishing only appends to a ring buffer and offers to each
+ * subscriber's bounded queue; a small dispatcher pool does the socket writes. A
+ * subscriber whose queue overflows is disconnected and resumes with {@code Last-Event-ID}.
+ */
+@Service
+@Slf4j
+public class AdmissionFeedService {
+
+    private static final String ADMISSION_EVENT = "admission";
+    private static final String RESET_EVENT = "reset";
+
+    private final FeedEvent[] ring;
+    private final int queueCapacity;
+    private final long emitterTimeoutMillis;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService dispatcher;
+    // Seeded from the clock so IDs issued after a restart are newer than any a client holds
+    private long latestId = System.currentTimeMillis() * 1000;
+
+    public AdmissionFeedService(@Value("${app.feed.buffer-size:1024}") int bufferSize,
+                                @Value("${app.feed.subscriber-queue:256}") int queueCapacity,
+                                @Value("${app.feed.timeout-ms:1800000}") long emitterTimeoutMillis,
+                                @Value("${app.feed.dispatcher-threads:2}") int dispatcherThreads) {
+        this.ring = new FeedEvent[bufferSize];
+        this.queueCapacity = queueCapacity;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads, r -> {
+            Thread thread = new Thread(r, "admission-feed-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Registers a subscriber. Events newer than {@code resumeAfter} that are still in the
+     * ring buffer are replayed first; if the client is too far behind it receives a
+     * {@code reset} event and should reload the full list.
+     */
+    public SseEmitter subscribe(Long resumeAfter) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(queueCapacity));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+
+        synchronized (ring) {
+            if (resumeAfter != null && resumeAfter != latestId) {
+                long missed = latestId - resumeAfter;
+                if (missed < 0 || missed > ring.length || missed > queueCapacity) {
+                    subscriber.queue.offer(FeedEvent.reset(latestId));
+                } else {
+                    for (long id = resumeAfter + 1; id <= latestId; id++) {
+                        subscriber.queue.offer(ring[(int) (id % ring.length)]);
+                    }
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onStudentAdmitted(StudentAdmittedEvent event) {
+        StudentResponseDto student = StudentResponseDto.builder()
+                .studentId(event.studentId())
+                .rollNumber(event.rollNumber())
+                .firstName(event.firstName())
+                .lastName(event.lastName())
+                .email(event.email())
+                .domainProgram(event.domainProgram())
+                .joinYear(event.joinYear())
+                .build();
+
+        FeedEvent feedEvent;
+        synchronized (ring) {
+            latestId++;
+            feedEvent = new FeedEvent(latestId, ADMISSION_EVENT, student);
+            ring[(int) (latestId % ring.length)] = feedEvent;
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.queue.offer(feedEvent)) {
+                // Never block the admission path on a slow reader; it can resume via Last-Event-ID
+                disconnect(subscriber);
+                continue;
+            }
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * Keeps idle connections open through proxies that close silent streams.
+     */
+    @Scheduled(fixedDelayString = "${app.feed.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            dispatcher.execute(() -> {
+                try {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException ex) {
+                    disconnect(subscriber);
+                }
+            });
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        dispatcher.shutdownNow();
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            FeedEvent event;
+            while ((event = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(Long.toString(event.id()))
+                        .name(event.name())
+                        .data(event.student() != null ? event.student() : ""));
+            }
+        } catch (IOException | IllegalStateException ex) {
+            disconnect(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // An event may have been queued after the last poll but before draining was cleared
+        if (!subscriber.queue.isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            log.debug("Disconnecting admission feed subscriber");
+            subscriber.queue.clear();
+            subscriber.emitter.complete();
+        }
+    }
+
+    private record Subscriber(SseEmitter emitter, BlockingQueue<FeedEvent> queue, AtomicBoolean draining) {
+        private Subscriber(SseEmitter emitter, BlockingQueue<FeedEvent> queue) {
+            this(emitter, queue, new AtomicBoolean());
+        }
+    }
+
+    private record FeedEvent(long id, String name, StudentResponseDto student) {
+        private static FeedEvent reset(long id) {
+            return new FeedEvent(id, RESET_EVENT, null);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.AdmissionLogRecordDto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.zip.CRC32C;
+
+/**
+ * Forward cursor over the {@link AdmissionEventLog}. {@link #next()} moves to the next
+ * record and the accessors read the current one straight from the mapped segment;
+ * strings are only decoded when asked for, so a replay that needs just IDs and years
+ * allocates nothing per record.
+ * <p>
+ * When {@code next()} returns false the cursor has caught up with the log; calling it
+ * again later continues with records appended since, which is how the log is tailed.
+ * Each record's checksum is verified as it is reached. Not thread-safe.
+ */
+public final class AdmissionLogReader {
+
+    private static final int ROLL_NUMBER = 0;
+    private static final int FIRST_NAME = 1;
+    private static final int LAST_NAME = 2;
+    private static final int EMAIL = 3;
+    private static final int DOMAIN_PROGRAM = 4;
+
+    private final AdmissionEventLog log;
+    private final CRC32C crc = new CRC32C();
+    private long nextOffset;
+
+    private ByteBuffer segment;
+    private long segmentBase;
+    private long segmentEnd;
+
+    private long recordOffset = -1;
+    private int bodyStart;
+
+    AdmissionLogReader(AdmissionEventLog log, long fromOffset) {
+        long startOffset = log.startOffset();
+        if (fromOffset > 0 && fromOffset < startOffset) {
+            throw new IllegalArgumentException("Offset " + fromOffset + " is no longer retained; the log starts at " + startOffset);
+        }
+        this.log = log;
+        this.nextOffset = Math.max(fromOffset, startOffset);
+    }
+
+    /**
+     * Moves to the next record. Returns false, leaving the cursor where it was, if no
+     * further record has been appended yet.
+     */
+    public boolean next() {
+        if (segment == null || nextOffset >= segmentEnd) {
+            AdmissionEventLog.SegmentView view = log.view(nextOffset);
+            if (view == null) {
+                return false;
+            }
+            segment = view.buffer();
+            segmentBase = view.baseOffset();
+            segmentEnd = view.endOffset();
+        }
+
+        int position = (int) (nextOffset - segmentBase);
+        int bodyLength = segment.getInt(position);
+        if (bodyLength < AdmissionEventLog.FIXED_BODY_BYTES
+                || segmentBase + position + AdmissionEventLog.HEADER_BYTES + bodyLength > segmentEnd) {
+            throw new IllegalStateException("Corrupt admission log record at offset " + nextOffset);
+        }
+        crc.reset();
+        crc.update(segment.slice(position + AdmissionEventLog.HEADER_BYTES, bodyLength));
+        if ((int) crc.getValue() != segment.getInt(position + 4)) {
+            throw new IllegalStateException("Checksum mismatch in admission log record at offset " + nextOffset);
+        }
+
+        recordOffset = nextOffset;
+        bodyStart = position + AdmissionEventLog.HEADER_BYTES;
+        nextOffset += AdmissionEventLog.HEADER_BYTES + bodyLength;
+        return true;
+    }
+
+    /**
+     * Offset of the current record.
+     */
+    public long offset() {
+        return recordOffset;
+    }
+
+    /**
+     * Offset to resume from after the current record.
+     */
+    public long nextOffset() {
+        return nextOffset;
+    }
+
+    public long studentId() {
+        return segment.getLong(bodyStart);
+    }
+
+    /**
+     * @return the domain ID, or -1 if the admission had none
+     */
+    public long domainId() {
+        return segment.getLong(bodyStart + 8);
+    }
+
+    public int joinYear() {
+        return segment.getInt(bodyStart + 16);
+    }
+
+    public long committedAtMillis() {
+        return segment.getLong(bodyStart + 20);
+    }
+
+    public String rollNumber() {
+        return string(ROLL_NUMBER);
+    }
+
+    public String firstName() {
+        return string(FIRST_NAME);
+    }
+
+    public String lastName() {
+        return string(LAST_NAME);
+    }
+
+    public String email() {
+        return string(EMAIL);
+    }
+
+    public String domainProgram() {
+        return string(DOMAIN_PROGRAM);
+    }
+
+    public AdmissionLogRecordDto toDto() {
+        return AdmissionLogRecordDto.builder()
+                .offset(recordOffset)
+                .studentId(studentId())
+                .rollNumber(rollNumber())
+                .firstName(firstName())
+                .lastName(lastName())
+                .email(email())
+                .domainId(domainId() >= 0 ? domainId() : null)
+                .domainProgram(domainProgram())
+                .joinYear(joinYear())
+                .committedAt(Instant.ofEpochMilli(committedAtMillis()))
+                .build();
+    }
+
+    private String string(int field) {
+        int position = bodyStart + AdmissionEventLog.FIXED_BODY_BYTES;
+        for (int i = 0; i < field; i++) {
+            position += 2 + Short.toUnsignedInt(segment.getShort(position));
+        }
+        int length = Short.toUnsignedInt(segment.getShort(position));
+        byte[] bytes = new byte[length];
+        segment.get(position + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,244 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.AdmissionTicketDto;
+import com.academic.erp.backend.dto.StudentAdmissionRequestDto;
+import com.academic.erp.backend.dto.StudentResponseDto;
+import com.academic.erp.backend.entity.Domain;
+import com.academic.erp.backend.exception.AdmissionQueueFullException;
+import com.academic.erp.backend.repository.DomainRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous admission path. Requests are queued per department and a single
+ * writer thread per department drains its queue, admitting everything it finds
+ * (up to {@code max-batch}) in one transaction. Under light load a writer finds a
+ * single request and commits it immediately; under heavy load batches grow and
+ * many admissions share one commit. If a batch fails, its requests are retried one
+ * at a time; a request that names a {@code seatHoldId} still consumes that hold.
+ * <p>
+ * On shutdown new requests are refused and the writers commit what is already queued,
+ * for up to {@code shutdown-drain-ms}. Requests still queued after that are marked
+ * failed so their tickets do not stay pending.
+ */
+@Service
+@Slf4j
+public class AdmissionQueueService {
+
+    private static final String PENDING = "PENDING";
+    private static final String ADMITTED = "ADMITTED";
+    private static final String FAILED = "FAILED";
+    // How long an idle writer waits before checking whether it should stop
+    private static final long IDLE_POLL_MILLIS = 250;
+
+    private final AdmissionService admissionService;
+    private final DomainRepository domainRepository;
+    private final RollNumberGenerator rollNumberGenerator;
+    private final int queueCapacity;
+    private final int maxBatch;
+    private final long ticketTtlMillis;
+    private final long shutdownDrainMillis;
+    private volatile boolean accepting = true;
+
+    private final Map<Long, RollNumberGenerator.DepartmentRange> departmentsByDomain = new ConcurrentHashMap<>();
+    private final Map<RollNumberGenerator.DepartmentRange, DepartmentWriter> writers = new ConcurrentHashMap<>();
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+    public AdmissionQueueService(AdmissionService admissionService,
+                                 DomainRepository domainRepository,
+                                 RollNumberGenerator rollNumberGenerator,
+                                 @Value("${app.admissions.async.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${app.admissions.async.max-batch:100}") int maxBatch,
+                                 @Value("${app.admissions.async.ticket-ttl-ms:3600000}") long ticketTtlMillis,
+                                 @Value("${app.admissions.async.shutdown-drain-ms:30000}") long shutdownDrainMillis) {
+        this.admissionService = admissionService;
+        this.domainRepository = domainRepository;
+        this.rollNumberGenerator = rollNumberGenerator;
+        this.queueCapacity = queueCapacity;
+        this.maxBatch = maxBatch;
+        this.ticketTtlMillis = ticketTtlMillis;
+        this.shutdownDrainMillis = shutdownDrainMillis;
+    }
+
+    public AdmissionTicketDto enqueue(StudentAdmissionRequestDto request) {
+        if (!accepting) {
+            throw new AdmissionQueueFullException("Admissions are shutting down, please retry shortly");
+        }
+        RollNumberGenerator.DepartmentRange department = departmentsByDomain.computeIfAbsent(request.getDomainId(), domainId -> {
+            Domain domain = domainRepository.findById(domainId)
+                    .orElseThrow(() -> new RuntimeException("Invalid domain ID"));
+            return rollNumberGenerator.resolveDepartmentRange(domain.getProgram());
+        });
+
+        Ticket ticket = new Ticket(UUID.randomUUID().toString());
+        tickets.put(ticket.id, ticket);
+        DepartmentWriter writer = writers.computeIfAbsent(department, DepartmentWriter::new);
+        PendingAdmission pending = new PendingAdmission(request, ticket);
+        if (!writer.queue.offer(pending)) {
+            tickets.remove(ticket.id);
+            throw new AdmissionQueueFullException("Admission queue is full, please retry shortly");
+        }
+        // Shutdown began after the check above; take the request back unless a writer already has it
+        if (!accepting && writer.queue.remove(pending)) {
+            tickets.remove(ticket.id);
+            throw new AdmissionQueueFullException("Admissions are shutting down, please retry shortly");
+        }
+        return ticket.toDto();
+    }
+
+    public AdmissionTicketDto getTicket(String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new IllegalArgumentException("Unknown admission ticket: " + ticketId);
+        }
+        return ticket.toDto();
+    }
+
+    @Scheduled(fixedDelayString = "${app.admissions.async.ticket-sweep-interval-ms:60000}")
+    public void evictResolvedTickets() {
+        long cutoff = System.currentTimeMillis() - ticketTtlMillis;
+        tickets.values().removeIf(ticket -> ticket.resolvedAt != 0 && ticket.resolvedAt < cutoff);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        accepting = false;
+        // Writers stop once their queue is empty; they are not interrupted, so no commit is cut short
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownDrainMillis);
+        for (DepartmentWriter writer : writers.values()) {
+            try {
+                writer.thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        List<PendingAdmission> leftover = new ArrayList<>();
+        writers.values().forEach(writer -> writer.queue.drainTo(leftover));
+        for (PendingAdmission pending : leftover) {
+            pending.ticket().failed("Admission service shut down before this request was processed");
+        }
+        if (!leftover.isEmpty()) {
+            log.warn("Failed {} queued admissions that were not committed within {} ms of shutdown",
+                    leftover.size(), shutdownDrainMillis);
+        }
+    }
+
+    private void commit(List<PendingAdmission> batch) {
+        try {
+            List<StudentResponseDto> admitted = admissionService.admitStudents(
+                    batch.stream().map(PendingAdmission::request).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).ticket().admitted(admitted.get(i));
+            }
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                batch.get(0).ticket().failed(ex.getMessage());
+                return;
+            }
+            // One bad request must not fail its neighbours: retry each on its own. The batch's
+            // rollback has already run, which put every consumed seat hold back, so each retry
+            // takes its own hold again instead of competing for a free seat
+            log.debug("Admission batch of {} failed, retrying individually: {}", batch.size(), ex.getMessage());
+            for (PendingAdmission pending : batch) {
+                try {
+                    pending.ticket().admitted(admissionService.admitStudent(pending.request()));
+                } catch (RuntimeException single) {
+                    pending.ticket().failed(single.getMessage());
+                }
+            }
+        }
+    }
+
+    private record PendingAdmission(StudentAdmissionRequestDto request, Ticket ticket) {
+    }
+
+    private final class DepartmentWriter {
+
+        private final BlockingQueue<PendingAdmission> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final Thread thread;
+
+        private DepartmentWriter(RollNumberGenerator.DepartmentRange department) {
+            this.thread = new Thread(this::run, "admission-writer-" + department.startInclusive());
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        private void run() {
+            List<PendingAdmission> batch = new ArrayList<>(maxBatch);
+            while (true) {
+                PendingAdmission next;
+                try {
+                    next = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (next == null) {
+                    if (!accepting) {
+                        return;
+                    }
+                    continue;
+                }
+                batch.add(next);
+                queue.drainTo(batch, maxBatch - 1);
+                try {
+                    commit(batch);
+                } catch (RuntimeException ex) {
+                    log.error("Admission writer failed to resolve a batch", ex);
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    private static final class Ticket {
+
+        private final String id;
+        private volatile String status = PENDING;
+        private volatile StudentResponseDto student;
+        private volatile String error;
+        private volatile long resolvedAt;
+
+        private Ticket(String id) {
+            this.id = id;
+        }
+
+        private void admitted(StudentResponseDto admitted) {
+            this.student = admitted;
+            this.status = ADMITTED;
+            this.resolvedAt = System.currentTimeMillis();
+        }
+
+        private void failed(String message) {
+            this.error = message;
+            this.status = FAILED;
+            this.resolvedAt = System.currentTimeMillis();
+        }
+
+        private AdmissionTicketDto toDto() {
+            StudentResponseDto admitted = student;
+            return AdmissionTicketDto.builder()
+                    .ticketId(id)
+                    .status(status)
+                    .studentId(admitted != null ? admitted.getStudentId() : null)
+                    .rollNumber(admitted != null ? admitted.getRollNumber() : null)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -3,6 +3,10 @@ package com.academic.erp.backend.service;
 import com.academic.erp.backend.dto.StudentAdmissionRequestDto;
 import com.academic.erp.backend.dto.StudentResponseDto;
 
+import java.util.List;
+
 public interface AdmissionService {
     StudentResponseDto admitStudent(StudentAdmissionRequestDto request);
+
+    List<StudentResponseDto> admitStudents(List<StudentAdmissionRequestDto> requests);
 }
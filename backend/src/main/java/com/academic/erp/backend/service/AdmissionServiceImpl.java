@@ -4,12 +4,20 @@ import com.academic.erp.backend.dto.StudentAdmissionRequestDto;
 import com.academic.erp.backend.dto.StudentResponseDto;
 import com.academic.erp.backend.entity.Domain;
 import com.academic.erp.backend.entity.Student;
+import com.academic.erp.backend.event.StudentAdmittedEvent;
+import com.academic.erp.backend.exception.DuplicateEmailException;
 import com.academic.erp.backend.repository.DomainRepository;
 import com.academic.erp.backend.repository.StudentRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class AdmissionServiceImpl implements AdmissionService {
@@ -17,10 +25,45 @@ public class AdmissionServiceImpl implements AdmissionService {
     private final DomainRepository domainRepository;
     private final StudentRepository studentRepository;
     private final RollNumberGenerator rollNumberGenerator;
+    private final SeatCapacityService seatCapacityService;
+    private final AdmittedEmailFilter admittedEmailFilter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public StudentResponseDto admitStudent(StudentAdmissionRequestDto request) {
+        return admit(request, new HashMap<>());
+    }
+
+    /**
+     * Admits all requests in one transaction. The last sequence of each department is
+     * read once and then advanced in memory, so a batch costs one sequence query per
+     * department rather than one per student. Any failure rolls back the whole batch.
+     */
+    @Override
+    @Transactional
+    public List<StudentResponseDto> admitStudents(List<StudentAdmissionRequestDto> requests) {
+        Map<String, Integer> lastSequences = new HashMap<>();
+        List<StudentResponseDto> admitted = new ArrayList<>(requests.size());
+        for (StudentAdmissionRequestDto request : requests) {
+            admitted.add(admit(request, lastSequences));
+        }
+        return admitted;
+    }
+
+    private StudentResponseDto admit(StudentAdmissionRequestDto request, Map<String, Integer> lastSequences) {
+
+        // 0a) Reject known emails before any write work; only filter hits need the exact lookup
+        if (admittedEmailFilter.mightContain(request.getEmail()) && studentRepository.existsByEmail(request.getEmail())) {
+            throw new DuplicateEmailException("Email already exists: " + request.getEmail());
+        }
+
+        // 0b) Claim a seat (or consume the operator's hold) before doing any database work
+        seatCapacityService.reserveForCurrentTransaction(
+                request.getDomainId(),
+                request.getJoinYear(),
+                request.getSeatHoldId()
+        );
 
         // 1) Validate domain
         Domain domain = domainRepository.findById(request.getDomainId())
@@ -33,7 +76,8 @@ public class AdmissionServiceImpl implements AdmissionService {
         // 3) Fetch last sequence inside the department range for this join year
         String rollBase = rollNumberGenerator.buildRollBase(prefix, request.getJoinYear());
 
-        int lastSeq = studentRepository
+        String sequenceKey = rollBase + ":" + range.startInclusive();
+        int lastSeq = lastSequences.computeIfAbsent(sequenceKey, key -> studentRepository
                 .findTopByJoinYearAndSeqNoBetweenAndRollNumberStartingWithOrderBySeqNoDesc(
                         request.getJoinYear(),
                         range.startInclusive(),
@@ -41,12 +85,13 @@ public class AdmissionServiceImpl implements AdmissionService {
                         rollBase
                 )
                 .map(Student::getSeqNo)
-                .orElse(range.startInclusive() - 1);
+                .orElse(range.startInclusive() - 1));
 
         int newSeq = lastSeq + 1;
         if (newSeq > range.endInclusive()) {
             throw new RuntimeException("Seat range exhausted for department: " + domain.getProgram());
         }
+        lastSequences.put(sequenceKey, newSeq);
 
         // 4) Generate roll number
         String rollNumber = rollNumberGenerator.formatRollNumber(
@@ -69,6 +114,16 @@ public class AdmissionServiceImpl implements AdmissionService {
 
         // 6) Save
         studentRepository.save(student);
+        eventPublisher.publishEvent(new StudentAdmittedEvent(
+                student.getStudentId(),
+                student.getRollNumber(),
+                student.getFirstName(),
+                student.getLastName(),
+                student.getEmail(),
+                domain.getDomainId(),
+                domain.getProgram(),
+                student.getJoinYear()
+        ));
 
         // 7) Return response
         return StudentResponseDto.builder()
@@ -0,0 +1,198 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.AdmissionStatisticsDto;
+import com.academic.erp.backend.dto.StatisticsBucketDto;
+import com.academic.erp.backend.event.GradesUpdatedEvent;
+import com.academic.erp.backend.event.SpecialisationsAllottedEvent;
+import com.academic.erp.backend.event.StudentAdmittedEvent;
+import com.academic.erp.backend.event.StudentGradeChange;
+import com.academic.erp.backend.event.StudentSpecialisationChange;
+import com.academic.erp.backend.repository.DomainRepository;
+import com.academic.erp.backend.repository.DomainYearCount;
+import com.academic.erp.backend.repository.JoinYearCgpaSummary;
+import com.academic.erp.backend.repository.SpecialisationCount;
+import com.academic.erp.backend.repository.SpecialisationRepository;
+import com.academic.erp.backend.repository.StudentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Student counts per domain, join year and specialisation, plus cgpa averages, kept in
+ * memory so the dashboard never queries {@code students}.
+ * <p>
+ * The aggregates are built from grouped queries at startup and then adjusted by a
+ * constant amount of work per committed admission, grade change or specialisation
+ * allotment. A scheduled reconcile rebuilds them from the database; an event that
+ * commits while a rebuild is being read may be missed, and the next reconcile corrects it.
+ */
+@Service
+@Slf4j
+public class AdmissionStatisticsService {
+
+    private final StudentRepository studentRepository;
+    private final DomainRepository domainRepository;
+    private final SpecialisationRepository specialisationRepository;
+
+    private Aggregates aggregates = new Aggregates();
+    private Instant reconciledAt;
+
+    public AdmissionStatisticsService(StudentRepository studentRepository,
+                                      DomainRepository domainRepository,
+                                      SpecialisationRepository specialisationRepository) {
+        this.studentRepository = studentRepository;
+        this.domainRepository = domainRepository;
+        this.specialisationRepository = specialisationRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval-ms:300000}", initialDelayString = "${app.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        Aggregates rebuilt = new Aggregates();
+        domainRepository.findAll().forEach(domain -> rebuilt.domainLabels.put(domain.getDomainId(), domain.getProgram()));
+        specialisationRepository.findAll().forEach(specialisation ->
+                rebuilt.specialisationLabels.put(specialisation.getSpecialisationId(), specialisation.getCode()));
+
+        for (DomainYearCount count : studentRepository.countByDomainAndJoinYear()) {
+            rebuilt.byDomain.merge(count.getDomainId(), count.getAdmitted(), Long::sum);
+        }
+        for (SpecialisationCount count : studentRepository.countBySpecialisation()) {
+            rebuilt.bySpecialisation.put(count.getSpecialisationId(), count.getStudents());
+            rebuilt.specialised += count.getStudents();
+        }
+        for (JoinYearCgpaSummary summary : studentRepository.summariseCgpaByJoinYear()) {
+            YearTotals totals = rebuilt.year(summary.getJoinYear());
+            totals.students = summary.getStudents();
+            totals.graded = summary.getGraded();
+            totals.cgpaSum = summary.getCgpaSum() != null ? summary.getCgpaSum() : 0;
+            rebuilt.total += totals.students;
+        }
+
+        synchronized (this) {
+            if (reconciledAt != null && aggregates.total != rebuilt.total) {
+                log.warn("Admission statistics drift: {} students in memory, {} in database", aggregates.total, rebuilt.total);
+            }
+            aggregates = rebuilt;
+            reconciledAt = Instant.now();
+        }
+    }
+
+    @TransactionalEventListener
+    public synchronized void onStudentAdmitted(StudentAdmittedEvent event) {
+        aggregates.total++;
+        aggregates.byDomain.merge(event.domainId(), 1L, Long::sum);
+        aggregates.domainLabels.putIfAbsent(event.domainId(), event.domainProgram());
+        aggregates.year(event.joinYear()).students++;
+    }
+
+    @TransactionalEventListener
+    public synchronized void onGradesUpdated(GradesUpdatedEvent event) {
+        for (StudentGradeChange change : event.changes()) {
+            YearTotals totals = aggregates.year(change.joinYear());
+            if (change.previousCgpa() != null) {
+                totals.graded--;
+                totals.cgpaSum -= change.previousCgpa();
+            }
+            if (change.cgpa() != null) {
+                totals.graded++;
+                totals.cgpaSum += change.cgpa();
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public synchronized void onSpecialisationsAllotted(SpecialisationsAllottedEvent event) {
+        for (StudentSpecialisationChange change : event.changes()) {
+            if (change.previousSpecialisationId() != null) {
+                aggregates.bySpecialisation.merge(change.previousSpecialisationId(), -1L, Long::sum);
+                aggregates.specialised--;
+            }
+            if (change.specialisationId() != null) {
+                aggregates.bySpecialisation.merge(change.specialisationId(), 1L, Long::sum);
+                aggregates.specialised++;
+            }
+        }
+    }
+
+    public synchronized AdmissionStatisticsDto getStatistics() {
+        List<StatisticsBucketDto> byDomain = new ArrayList<>();
+        new TreeMap<>(aggregates.byDomain).forEach((domainId, students) -> byDomain.add(StatisticsBucketDto.builder()
+                .key(String.valueOf(domainId))
+                .label(aggregates.domainLabels.get(domainId))
+                .students(students)
+                .build()));
+
+        List<StatisticsBucketDto> bySpecialisation = new ArrayList<>();
+        new TreeMap<>(aggregates.bySpecialisation).forEach((specialisationId, students) -> bySpecialisation.add(StatisticsBucketDto.builder()
+                .key(String.valueOf(specialisationId))
+                .label(aggregates.specialisationLabels.get(specialisationId))
+                .students(students)
+                .build()));
+
+        List<StatisticsBucketDto> byJoinYear = new ArrayList<>();
+        long graded = 0;
+        double cgpaSum = 0;
+        for (Map.Entry<Integer, YearTotals> entry : new TreeMap<>(aggregates.byJoinYear).entrySet()) {
+            YearTotals totals = entry.getValue();
+            graded += totals.graded;
+            cgpaSum += totals.cgpaSum;
+            byJoinYear.add(StatisticsBucketDto.builder()
+                    .key(String.valueOf(entry.getKey()))
+                    .label(String.valueOf(entry.getKey()))
+                    .students(totals.students)
+                    .averageCgpa(average(totals.cgpaSum, totals.graded))
+                    .build());
+        }
+
+        return AdmissionStatisticsDto.builder()
+                .totalStudents(aggregates.total)
+                .gradedStudents(graded)
+                .averageCgpa(average(cgpaSum, graded))
+                .unassignedSpecialisation(aggregates.total - aggregates.specialised)
+                .byDomain(byDomain)
+                .byJoinYear(byJoinYear)
+                .bySpecialisation(bySpecialisation)
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+
+    private static Double average(double sum, long count) {
+        return count > 0 ? Math.round(sum / count * 100) / 100.0 : null;
+    }
+
+    private static final class Aggregates {
+
+        private final Map<Long, Long> byDomain = new HashMap<>();
+        private final Map<Long, Long> bySpecialisation = new HashMap<>();
+        private final Map<Integer, YearTotals> byJoinYear = new HashMap<>();
+        private final Map<Long, String> domainLabels = new HashMap<>();
+        private final Map<Long, String> specialisationLabels = new HashMap<>();
+        private long total;
+        private long specialised;
+
+        private YearTotals year(Integer joinYear) {
+            return byJoinYear.computeIfAbsent(joinYear, y -> new YearTotals());
+        }
+    }
+
+    private static final class YearTotals {
+
+        private long students;
+        private long graded;
+        private double cgpaSum;
+    }
+}
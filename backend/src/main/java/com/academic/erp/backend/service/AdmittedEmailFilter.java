@@ -0,0 +1,142 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.event.StudentAdmittedEvent;
+import com.academic.erp.backend.repository.StudentEmailRow;
+import com.academic.erp.backend.repository.StudentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over the emails of admitted students. A miss means the email is
+ * certainly free, so the admission path can skip the exact lookup; a hit only means
+ * the email may be taken and must be confirmed with {@code existsByEmail}.
+ * <p>
+ * Sized for {@code expected-emails} at the configured false-positive rate: 1M emails
+ * at 1% take about 1.2 MB. Emails are lower-cased so a case-insensitive unique index
+ * never produces a false negative. Until the startup build finishes every email is a
+ * possible hit, so admissions are never let through on an incomplete filter.
+ */
+@Component
+@Slf4j
+public class AdmittedEmailFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final StudentRepository studentRepository;
+    private final long expectedEmails;
+    private final int pageSize;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private volatile boolean ready;
+
+    public AdmittedEmailFilter(StudentRepository studentRepository,
+                               @Value("${app.admissions.email-filter.expected-emails:1000000}") long expectedEmails,
+                               @Value("${app.admissions.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${app.admissions.email-filter.page-size:10000}") int pageSize) {
+        this.studentRepository = studentRepository;
+        this.expectedEmails = expectedEmails;
+        this.pageSize = pageSize;
+        long optimalBits = (long) Math.ceil(-expectedEmails * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((optimalBits + 63) / 64));
+        this.bitCount = (long) bits.length() * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEmails * Math.log(2)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.nanoTime();
+        long count = 0;
+        long afterId = 0;
+        List<StudentEmailRow> page;
+        do {
+            page = studentRepository.findEmailsAfter(afterId, PageRequest.of(0, pageSize));
+            for (StudentEmailRow row : page) {
+                add(row.email());
+                afterId = row.studentId();
+            }
+            count += page.size();
+        } while (page.size() == pageSize);
+
+        ready = true;
+        log.info("Built admitted-email filter with {} emails ({} KB, {} hashes) in {} ms",
+                count, bitCount / 8 / 1024, hashCount, (System.nanoTime() - start) / 1_000_000);
+        if (count > expectedEmails) {
+            log.warn("Admitted-email filter holds {} emails but is sized for {}; raise app.admissions.email-filter.expected-emails",
+                    count, expectedEmails);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onStudentAdmitted(StudentAdmittedEvent event) {
+        add(event.email());
+    }
+
+    /**
+     * @return false if no admitted student has this email; true if one might
+     */
+    public boolean mightContain(String email) {
+        if (!ready) {
+            return true;
+        }
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1, h2, i);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(String email) {
+        if (email == null) {
+            return;
+        }
+        long hash = hash(email);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1, h2, i);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((bits.get(word) & mask) == 0) {
+                bits.getAndAccumulate(word, mask, (current, m) -> current | m);
+            }
+        }
+    }
+
+    // Kirsch-Mitzenmacher: k indexes from two halves of one 64-bit hash
+    private long index(int h1, int h2, int i) {
+        long combined = h1 + (long) i * h2;
+        return Math.floorMod(combined, bitCount);
+    }
+
+    // FNV-1a over the lower-cased email, finished with the murmur3 mixer for better bit spread
+    private static long hash(String email) {
+        String normalized = email.trim().toLowerCase(Locale.ROOT);
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < normalized.length(); i++) {
+            hash ^= normalized.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
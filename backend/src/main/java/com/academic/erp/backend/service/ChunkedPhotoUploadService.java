@@ -0,0 +1,314 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.PhotoUploadResponse;
+import com.academic.erp.backend.dto.PhotoUploadSessionDto;
+import com.academic.erp.backend.dto.PhotoUploadSessionRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Resumable photo uploads. A session preallocates the whole file; numbered chunks are
+ * written at their offsets with positional {@link FileChannel} writes, so they may
+ * arrive in parallel, out of order, or more than once. Completing the session hands the
+ * assembled file to {@link PhotoStorageService}.
+ * <p>
+ * Sessions idle for longer than the TTL are discarded together with their partial file.
+ * A completed session keeps its result until then, so a retried completion is answered
+ * with the same photo path.
+ */
+@Service
+@Slf4j
+public class ChunkedPhotoUploadService {
+
+    private static final int MIN_CHUNK_SIZE = 64 * 1024;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final String PARTIAL_SUFFIX = ".part";
+
+    private final PhotoStorageService photoStorageService;
+    private final Path sessionDirectory;
+    private final long maxFileSize;
+    private final int defaultChunkSize;
+    private final int maxChunkSize;
+    private final int maxOpenSessions;
+    private final long ttlMillis;
+
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    public ChunkedPhotoUploadService(PhotoStorageService photoStorageService,
+                                     @Value("${app.upload-dir:uploads}") String uploadRoot,
+                                     @Value("${app.uploads.chunked.max-file-size:10485760}") long maxFileSize,
+                                     @Value("${app.uploads.chunked.default-chunk-size:524288}") int defaultChunkSize,
+                                     @Value("${app.uploads.chunked.max-chunk-size:4194304}") int maxChunkSize,
+                                     @Value("${app.uploads.chunked.max-open-sessions:100}") int maxOpenSessions,
+                                     @Value("${app.uploads.chunked.session-ttl-minutes:30}") long ttlMinutes) {
+        this.photoStorageService = photoStorageService;
+        this.sessionDirectory = Paths.get(uploadRoot, "chunked").toAbsolutePath().normalize();
+        this.maxFileSize = maxFileSize;
+        this.defaultChunkSize = defaultChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.maxOpenSessions = maxOpenSessions;
+        this.ttlMillis = ttlMinutes * 60_000;
+    }
+
+    public PhotoUploadSessionDto createSession(PhotoUploadSessionRequest request) {
+        photoStorageService.validateContentType(request.getContentType());
+        long totalSize = request.getTotalSize();
+        if (totalSize > maxFileSize) {
+            throw new IllegalArgumentException("Photo exceeds the maximum size of " + maxFileSize + " bytes");
+        }
+        int chunkSize = request.getChunkSize() != null ? request.getChunkSize() : defaultChunkSize;
+        if (chunkSize < MIN_CHUNK_SIZE || chunkSize > maxChunkSize) {
+            throw new IllegalArgumentException("Chunk size must be between " + MIN_CHUNK_SIZE + " and " + maxChunkSize + " bytes");
+        }
+        long open = sessions.values().stream().filter(session -> session.result == null).count();
+        if (open >= maxOpenSessions) {
+            throw new IllegalArgumentException("Too many uploads in progress; try again later");
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        Path file = sessionDirectory.resolve(uploadId + PARTIAL_SUFFIX);
+        FileChannel channel;
+        try {
+            Files.createDirectories(sessionDirectory);
+            try (RandomAccessFile partial = new RandomAccessFile(file.toFile(), "rw")) {
+                partial.setLength(totalSize);
+            }
+            channel = FileChannel.open(file, StandardOpenOption.WRITE);
+        } catch (IOException ex) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException cleanup) {
+                ex.addSuppressed(cleanup);
+            }
+            throw new RuntimeException("Unable to create upload session", ex);
+        }
+        UploadSession session = new UploadSession(uploadId, request.getFileName(), request.getContentType(),
+                totalSize, chunkSize, file, channel);
+        sessions.put(uploadId, session);
+        return toDto(session);
+    }
+
+    /**
+     * Writes one chunk at its offset. Every chunk but the last must be exactly
+     * {@code chunkSize} bytes; re-sending a chunk overwrites it.
+     */
+    public void writeChunk(String uploadId, int index, InputStream body) {
+        UploadSession session = session(uploadId);
+        if (index < 0 || index >= session.chunkCount) {
+            throw new IllegalArgumentException("Chunk index must be between 0 and " + (session.chunkCount - 1));
+        }
+        long offset = (long) index * session.chunkSize;
+        long expected = Math.min(session.chunkSize, session.totalSize - offset);
+
+        session.lock.readLock().lock();
+        try {
+            if (session.closed) {
+                throw new IllegalArgumentException("Upload session " + uploadId + " is already complete");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+            long written = 0;
+            int read;
+            while ((read = body.read(buffer.array())) != -1) {
+                if (written + read > expected) {
+                    throw new IllegalArgumentException("Chunk " + index + " is larger than " + expected + " bytes");
+                }
+                buffer.clear().limit(read);
+                while (buffer.hasRemaining()) {
+                    written += session.channel.write(buffer, offset + written);
+                }
+            }
+            if (written != expected) {
+                throw new IllegalArgumentException("Chunk " + index + " has " + written + " bytes, expected " + expected);
+            }
+            synchronized (session.received) {
+                session.received.set(index);
+            }
+            session.touch();
+        } catch (IOException ex) {
+            throw new RuntimeException("Unable to write chunk " + index, ex);
+        } finally {
+            session.lock.readLock().unlock();
+        }
+    }
+
+    public PhotoUploadSessionDto getSession(String uploadId) {
+        return toDto(session(uploadId));
+    }
+
+    /**
+     * Stores the assembled photo once every chunk has arrived. Completing an already
+     * completed session returns the original result.
+     */
+    public PhotoUploadResponse complete(String uploadId) {
+        UploadSession session = session(uploadId);
+        session.lock.writeLock().lock();
+        try {
+            if (session.result != null) {
+                return session.result;
+            }
+            int received;
+            synchronized (session.received) {
+                received = session.received.cardinality();
+            }
+            if (received < session.chunkCount) {
+                throw new IllegalArgumentException("Upload session " + uploadId + " is missing "
+                        + (session.chunkCount - received) + " of " + session.chunkCount + " chunks");
+            }
+
+            session.closed = true;
+            try {
+                session.channel.close();
+                String path = photoStorageService.storePhoto(session.file, session.fileName, session.contentType);
+                session.result = new PhotoUploadResponse(path, session.fileName, session.totalSize);
+                session.touch();
+                return session.result;
+            } catch (IOException | RuntimeException ex) {
+                discard(session);
+                if (ex instanceof IllegalArgumentException validation) {
+                    throw validation;
+                }
+                throw new RuntimeException("Unable to store uploaded photo", ex);
+            }
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+    }
+
+    public void cancel(String uploadId) {
+        discard(session(uploadId));
+    }
+
+    @Scheduled(fixedDelayString = "${app.uploads.chunked.sweep-interval-ms:60000}")
+    public void expireSessions() {
+        long cutoff = System.currentTimeMillis() - ttlMillis;
+        int expired = 0;
+        for (UploadSession session : sessions.values()) {
+            if (session.lastActivity < cutoff) {
+                discard(session);
+                expired++;
+            }
+        }
+        expired += deleteOrphans(cutoff);
+        if (expired > 0) {
+            log.info("Expired {} stale photo upload sessions", expired);
+        }
+    }
+
+    private UploadSession session(String uploadId) {
+        UploadSession session = sessions.get(uploadId);
+        if (session == null) {
+            throw new IllegalArgumentException("Unknown upload session: " + uploadId);
+        }
+        return session;
+    }
+
+    private void discard(UploadSession session) {
+        sessions.remove(session.uploadId, session);
+        session.lock.writeLock().lock();
+        try {
+            session.closed = true;
+            session.channel.close();
+            Files.deleteIfExists(session.file);
+        } catch (IOException ex) {
+            log.warn("Unable to remove partial upload {}", session.file, ex);
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+    }
+
+    // Partial files left behind by a restart have no session to expire them
+    private int deleteOrphans(long cutoff) {
+        if (!Files.isDirectory(sessionDirectory)) {
+            return 0;
+        }
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(sessionDirectory, "*" + PARTIAL_SUFFIX)) {
+            for (Path file : files) {
+                String uploadId = file.getFileName().toString().replace(PARTIAL_SUFFIX, "");
+                if (!sessions.containsKey(uploadId) && Files.getLastModifiedTime(file).toMillis() < cutoff) {
+                    Files.deleteIfExists(file);
+                    deleted++;
+                }
+            }
+        } catch (IOException ex) {
+            log.warn("Unable to clean up partial uploads in {}", sessionDirectory, ex);
+        }
+        return deleted;
+    }
+
+    private PhotoUploadSessionDto toDto(UploadSession session) {
+        BitSet received;
+        synchronized (session.received) {
+            received = (BitSet) session.received.clone();
+        }
+        return PhotoUploadSessionDto.builder()
+                .uploadId(session.uploadId)
+                .fileName(session.fileName)
+                .contentType(session.contentType)
+                .totalSize(session.totalSize)
+                .chunkSize(session.chunkSize)
+                .chunkCount(session.chunkCount)
+                .receivedChunks(received.stream().boxed().toList())
+                .complete(session.result != null)
+                .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(session.lastActivity + ttlMillis), ZoneId.systemDefault()))
+                .result(session.result)
+                .build();
+    }
+
+    private static final class UploadSession {
+
+        private final String uploadId;
+        private final String fileName;
+        private final String contentType;
+        private final long totalSize;
+        private final int chunkSize;
+        private final int chunkCount;
+        private final Path file;
+        private final FileChannel channel;
+        private final BitSet received;
+        // Chunk writes share the read lock so they run in parallel; completion and removal take the write lock
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile boolean closed;
+        private volatile long lastActivity = System.currentTimeMillis();
+        private volatile PhotoUploadResponse result;
+
+        private UploadSession(String uploadId, String fileName, String contentType, long totalSize, int chunkSize,
+                              Path file, FileChannel channel) {
+            this.uploadId = uploadId;
+            this.fileName = fileName;
+            this.contentType = contentType;
+            this.totalSize = totalSize;
+            this.chunkSize = chunkSize;
+            this.chunkCount = (int) ((totalSize + chunkSize - 1) / chunkSize);
+            this.file = file;
+            this.channel = channel;
+            this.received = new BitSet(chunkCount);
+        }
+
+        private void touch() {
+            lastActivity = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.GradeIngestionStatus;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface GradeIngestionService {
+    GradeIngestionStatus submit(MultipartFile file);
+
+    GradeIngestionStatus getStatus(String jobId);
+}
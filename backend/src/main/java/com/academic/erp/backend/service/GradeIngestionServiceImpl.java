@@ -0,0 +1,429 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.GradeIngestionStatus;
+import com.academic.erp.backend.event.GradesUpdatedEvent;
+import com.academic.erp.backend.event.StudentGradeChange;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Streams exam-cell grade files ({@code roll_number,cgpa,total_credits}) into
+ * {@code students} in chunked transactions. Each upload is stored under its SHA-256
+ * so a re-upload of the same file, or a restart, resumes from the last committed chunk.
+ * Re-applying a chunk is harmless because every update sets absolute values.
+ * <p>
+ * Roll numbers are trimmed and upper-cased on both sides of the lookup, so a roll the
+ * database collation matches despite different case or trailing spaces is still paired
+ * with its file row.
+ */
+@Service
+@Slf4j
+public class GradeIngestionServiceImpl implements GradeIngestionService {
+
+    private static final int MAX_REPORTED_REJECTIONS = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Path workDirectory;
+    private final int chunkSize;
+
+    private final Map<String, IngestionJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "grade-ingestion");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public GradeIngestionServiceImpl(JdbcTemplate jdbcTemplate,
+                                     TransactionTemplate transactionTemplate,
+                                     ApplicationEventPublisher eventPublisher,
+                                     @Value("${app.upload-dir:uploads}") String uploadRoot,
+                                     @Value("${app.grades.chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.workDirectory = Paths.get(uploadRoot, "ingestion").toAbsolutePath().normalize();
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public GradeIngestionStatus submit(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("Grade file is required");
+        }
+
+        String jobId;
+        try {
+            Files.createDirectories(workDirectory);
+            Path upload = Files.createTempFile(workDirectory, "upload-", ".tmp");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, upload, StandardCopyOption.REPLACE_EXISTING);
+            }
+            jobId = HexFormat.of().formatHex(digest.digest());
+            if (Files.exists(dataFile(jobId))) {
+                Files.delete(upload);
+            } else {
+                Files.move(upload, dataFile(jobId), StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException | NoSuchAlgorithmException ex) {
+            throw new RuntimeException("Unable to store grade file", ex);
+        }
+
+        IngestionJob job = jobs.computeIfAbsent(jobId, this::loadJob);
+        schedule(job);
+        return job.toStatus();
+    }
+
+    @Override
+    public GradeIngestionStatus getStatus(String jobId) {
+        IngestionJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("Unknown grade ingestion job: " + jobId);
+        }
+        return job.toStatus();
+    }
+
+    /**
+     * Picks up jobs that were interrupted by a shutdown or crash.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        if (!Files.isDirectory(workDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(workDirectory, "*.csv")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                IngestionJob job = jobs.computeIfAbsent(name.substring(0, name.length() - ".csv".length()), this::loadJob);
+                if (!"COMPLETED".equals(job.state)) {
+                    log.info("Resuming grade ingestion {} from line {}", job.id, job.linesCommitted);
+                    schedule(job);
+                }
+            }
+        } catch (IOException ex) {
+            log.error("Unable to scan grade ingestion directory {}", workDirectory, ex);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    private synchronized void schedule(IngestionJob job) {
+        if ("QUEUED".equals(job.state) || "RUNNING".equals(job.state) || "COMPLETED".equals(job.state)) {
+            return;
+        }
+        job.state = "QUEUED";
+        worker.submit(() -> run(job));
+    }
+
+    private void run(IngestionJob job) {
+        // Counters past the last checkpoint belong to lines that are about to be re-read
+        try {
+            restoreCheckpoint(job);
+        } catch (RuntimeException ex) {
+            job.state = "FAILED";
+            job.failure = ex.getMessage();
+            log.error("Grade ingestion {} could not be resumed", job.id, ex);
+            return;
+        }
+        job.state = "RUNNING";
+        job.startedAt = LocalDateTime.now();
+        job.startNanos = System.nanoTime();
+        job.rowsAppliedAtStart = job.rowsApplied;
+        job.failure = null;
+
+        try (BufferedReader reader = Files.newBufferedReader(dataFile(job.id), StandardCharsets.UTF_8)) {
+            List<GradeRow> chunk = new ArrayList<>(chunkSize);
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber <= job.linesCommitted || line.isBlank() || (lineNumber == 1 && isHeader(line))) {
+                    continue;
+                }
+                GradeRow row = parse(job, lineNumber, line);
+                if (row != null) {
+                    chunk.add(row);
+                }
+                if (chunk.size() >= chunkSize) {
+                    applyChunk(job, chunk, lineNumber);
+                    chunk.clear();
+                }
+            }
+            applyChunk(job, chunk, lineNumber);
+
+            job.state = "COMPLETED";
+            job.finishedAt = LocalDateTime.now();
+            writeCheckpoint(job);
+            log.info("Grade ingestion {} completed: {} applied, {} rejected, {} rows/s",
+                    job.id, job.rowsApplied, job.rowsRejected, String.format("%.0f", job.rowsPerSecond()));
+        } catch (Exception ex) {
+            job.state = "FAILED";
+            job.failure = ex.getMessage();
+            job.finishedAt = LocalDateTime.now();
+            log.error("Grade ingestion {} failed after line {}", job.id, job.linesCommitted, ex);
+        }
+    }
+
+    private void applyChunk(IngestionJob job, List<GradeRow> chunk, long lastLine) throws IOException {
+        // Group by roll number so a student appearing twice in a chunk is written once (last row wins)
+        Map<String, GradeRow> byRoll = new LinkedHashMap<>();
+        for (GradeRow row : chunk) {
+            byRoll.put(row.rollNumber(), row);
+        }
+
+        List<String> unknownRolls = new ArrayList<>();
+        Integer applied = byRoll.isEmpty() ? Integer.valueOf(0) : transactionTemplate.execute(status -> {
+            String placeholders = String.join(",", Collections.nCopies(byRoll.size(), "?"));
+            List<StudentGradeChange> changes = new ArrayList<>(byRoll.size());
+            jdbcTemplate.query(
+                    "SELECT student_id, join_year, roll_number, cgpa, total_credits FROM students WHERE roll_number IN (" + placeholders + ")",
+                    rs -> {
+                        GradeRow row = byRoll.remove(normalizeRoll(rs.getString("roll_number")));
+                        if (row == null) {
+                            // Matched only under the collation; the file row stays unmatched and is rejected
+                            return;
+                        }
+                        changes.add(new StudentGradeChange(
+                                rs.getLong("student_id"),
+                                rs.getInt("join_year"),
+                                rs.getObject("cgpa", Double.class),
+                                row.cgpa(),
+                                rs.getObject("total_credits", Integer.class),
+                                row.totalCredits()
+                        ));
+                    },
+                    new ArrayList<>(byRoll.keySet()).toArray()
+            );
+            unknownRolls.addAll(byRoll.keySet());
+
+            // Write in primary-key order to keep lock acquisition consistent across chunks
+            changes.sort(Comparator.comparing(StudentGradeChange::studentId));
+            List<Object[]> args = new ArrayList<>(changes.size());
+            for (StudentGradeChange change : changes) {
+                args.add(new Object[]{change.cgpa(), change.totalCredits(), change.studentId()});
+            }
+            jdbcTemplate.batchUpdate("UPDATE students SET cgpa = ?, total_credits = ? WHERE student_id = ?", args);
+
+            eventPublisher.publishEvent(new GradesUpdatedEvent(changes));
+            return changes.size();
+        });
+
+        for (String roll : unknownRolls) {
+            job.reject("Unknown roll number: " + roll);
+        }
+        job.rowsApplied += applied;
+        job.linesCommitted = lastLine;
+        job.chunksCommitted++;
+        writeCheckpoint(job);
+        log.debug("Grade ingestion {}: line {}, {} applied, {} rejected, {} rows/s",
+                job.id, lastLine, job.rowsApplied, job.rowsRejected, String.format("%.0f", job.rowsPerSecond()));
+    }
+
+    private GradeRow parse(IngestionJob job, long lineNumber, String line) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != 3) {
+            job.reject("Line " + lineNumber + ": expected roll_number,cgpa,total_credits");
+            return null;
+        }
+        String rollNumber = normalizeRoll(fields[0]);
+        if (rollNumber.isEmpty()) {
+            job.reject("Line " + lineNumber + ": roll number is required");
+            return null;
+        }
+        try {
+            double cgpa = Double.parseDouble(fields[1].trim());
+            int totalCredits = Integer.parseInt(fields[2].trim());
+            if (cgpa < 0 || cgpa > 10) {
+                job.reject("Line " + lineNumber + ": cgpa must be between 0 and 10");
+                return null;
+            }
+            if (totalCredits < 0) {
+                job.reject("Line " + lineNumber + ": total credits must not be negative");
+                return null;
+            }
+            return new GradeRow(rollNumber, cgpa, totalCredits);
+        } catch (NumberFormatException ex) {
+            job.reject("Line " + lineNumber + ": invalid number");
+            return null;
+        }
+    }
+
+    private static String normalizeRoll(String rollNumber) {
+        return rollNumber.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private boolean isHeader(String line) {
+        return line.trim().toLowerCase().startsWith("roll");
+    }
+
+    private Path dataFile(String jobId) {
+        return workDirectory.resolve(jobId + ".csv");
+    }
+
+    private Path checkpointFile(String jobId) {
+        return workDirectory.resolve(jobId + ".checkpoint");
+    }
+
+    private IngestionJob loadJob(String jobId) {
+        IngestionJob job = new IngestionJob(jobId);
+        restoreCheckpoint(job);
+        return job;
+    }
+
+    private void restoreCheckpoint(IngestionJob job) {
+        Path checkpoint = checkpointFile(job.id);
+        if (Files.exists(checkpoint)) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(checkpoint, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IOException ex) {
+                throw new RuntimeException("Unable to read grade ingestion checkpoint", ex);
+            }
+            job.linesCommitted = Long.parseLong(properties.getProperty("linesCommitted", "0"));
+            job.rowsApplied = Long.parseLong(properties.getProperty("rowsApplied", "0"));
+            job.rowsRejected = Long.parseLong(properties.getProperty("rowsRejected", "0"));
+            job.chunksCommitted = Long.parseLong(properties.getProperty("chunksCommitted", "0"));
+            job.state = properties.getProperty("state", "PENDING");
+            List<String> rejections = new ArrayList<>();
+            for (int i = 0; properties.containsKey("rejection." + i); i++) {
+                rejections.add(properties.getProperty("rejection." + i));
+            }
+            job.restoreRejections(rejections);
+        } else {
+            // Nothing was committed: the whole file is read again
+            job.linesCommitted = 0;
+            job.rowsApplied = 0;
+            job.rowsRejected = 0;
+            job.chunksCommitted = 0;
+            job.restoreRejections(List.of());
+        }
+    }
+
+    private void writeCheckpoint(IngestionJob job) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("linesCommitted", Long.toString(job.linesCommitted));
+        properties.setProperty("rowsApplied", Long.toString(job.rowsApplied));
+        properties.setProperty("rowsRejected", Long.toString(job.rowsRejected));
+        properties.setProperty("chunksCommitted", Long.toString(job.chunksCommitted));
+        properties.setProperty("state", "COMPLETED".equals(job.state) ? "COMPLETED" : "PENDING");
+        // Stored with the counters so a resume reports exactly the rejections of committed lines
+        List<String> rejections = job.reportedRejections();
+        for (int i = 0; i < rejections.size(); i++) {
+            properties.setProperty("rejection." + i, rejections.get(i));
+        }
+
+        Path temp = workDirectory.resolve(job.id + ".checkpoint.tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            properties.store(writer, null);
+        }
+        Files.move(temp, checkpointFile(job.id), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private record GradeRow(String rollNumber, double cgpa, int totalCredits) {
+    }
+
+    /**
+     * Mutable progress of one job. Written only by the worker thread; read by status requests.
+     */
+    private static final class IngestionJob {
+
+        private final String id;
+        private final List<String> rejections = Collections.synchronizedList(new ArrayList<>());
+        private volatile String state = "PENDING";
+        private volatile long linesCommitted;
+        private volatile long rowsApplied;
+        private volatile long rowsRejected;
+        private volatile long chunksCommitted;
+        private volatile long rowsAppliedAtStart;
+        private volatile long startNanos;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String failure;
+
+        private IngestionJob(String id) {
+            this.id = id;
+        }
+
+        private void reject(String reason) {
+            rowsRejected++;
+            if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                rejections.add(reason);
+            }
+        }
+
+        private void restoreRejections(List<String> restored) {
+            synchronized (rejections) {
+                rejections.clear();
+                rejections.addAll(restored);
+            }
+        }
+
+        private double rowsPerSecond() {
+            long elapsed = System.nanoTime() - startNanos;
+            return startNanos == 0 || elapsed <= 0 ? 0.0 : (rowsApplied - rowsAppliedAtStart) * 1_000_000_000.0 / elapsed;
+        }
+
+        private List<String> reportedRejections() {
+            synchronized (rejections) {
+                return List.copyOf(rejections);
+            }
+        }
+
+        private GradeIngestionStatus toStatus() {
+            return GradeIngestionStatus.builder()
+                    .jobId(id)
+                    .state(state)
+                    .linesCommitted(linesCommitted)
+                    .rowsApplied(rowsApplied)
+                    .rowsRejected(rowsRejected)
+                    .chunksCommitted(chunksCommitted)
+                    .rowsPerSecond(rowsPerSecond())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .failure(failure)
+                    .rejections(reportedRejections())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.IdCardBatchStatus;
+import org.springframework.core.io.Resource;
+
+public interface IdCardBatchService {
+    IdCardBatchStatus submit(Integer joinYear);
+
+    IdCardBatchStatus getStatus(String jobId);
+
+    Resource getArchive(String jobId);
+}
@@ -0,0 +1,398 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.IdCardBatchStatus;
+import com.academic.erp.backend.repository.IdCardRow;
+import com.academic.erp.backend.repository.StudentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Renders ID cards for a cohort into a ZIP of JPEG images.
+ * <p>
+ * Students are read a page at a time in ID order. Each page is rendered on a
+ * fork-join pool sized to the cores while the job thread fetches the next page and
+ * writes the previous one into the archive, so at most two pages of cards are in
+ * memory. Every card starts as a copy of one pre-drawn template; photos are decoded
+ * once, subsampled close to the size they are printed at.
+ */
+@Service
+@Slf4j
+public class IdCardBatchServiceImpl implements IdCardBatchService {
+
+    // CR80 card, portrait, at 300 dpi
+    private static final int CARD_WIDTH = 638;
+    private static final int CARD_HEIGHT = 1011;
+    private static final int HEADER_HEIGHT = 170;
+    private static final int PHOTO_X = 169;
+    private static final int PHOTO_Y = 220;
+    private static final int PHOTO_WIDTH = 300;
+    private static final int PHOTO_HEIGHT = 380;
+    private static final int TEXT_MARGIN = 40;
+
+    private static final Color HEADER_COLOR = new Color(30, 64, 120);
+    private static final Color LABEL_COLOR = new Color(110, 110, 110);
+    private static final Font TITLE_FONT = new Font(Font.SANS_SERIF, Font.BOLD, 44);
+    private static final Font NAME_FONT = new Font(Font.SANS_SERIF, Font.BOLD, 40);
+    private static final Font LABEL_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 24);
+    private static final Font VALUE_FONT = new Font(Font.SANS_SERIF, Font.BOLD, 32);
+
+    private final StudentRepository studentRepository;
+    private final Path uploadRoot;
+    private final Path outputDirectory;
+    private final int pageSize;
+    private final float jpegQuality;
+    private final String institutionName;
+
+    private final Map<String, BatchJob> jobs = new ConcurrentHashMap<>();
+    private final ForkJoinPool renderPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "id-card-batch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public IdCardBatchServiceImpl(StudentRepository studentRepository,
+                                  @Value("${app.upload-dir:uploads}") String uploadRoot,
+                                  @Value("${app.id-cards.page-size:200}") int pageSize,
+                                  @Value("${app.id-cards.jpeg-quality:0.9}") float jpegQuality,
+                                  @Value("${app.id-cards.institution-name:Academic ERP}") String institutionName) {
+        this.studentRepository = studentRepository;
+        this.uploadRoot = Paths.get(uploadRoot).toAbsolutePath().normalize();
+        this.outputDirectory = this.uploadRoot.resolve("id-cards");
+        this.pageSize = pageSize;
+        this.jpegQuality = jpegQuality;
+        this.institutionName = institutionName;
+    }
+
+    @Override
+    public IdCardBatchStatus submit(Integer joinYear) {
+        if (joinYear == null) {
+            throw new IllegalArgumentException("Join year is required");
+        }
+        BatchJob job = new BatchJob(UUID.randomUUID().toString(), joinYear, studentRepository.countByJoinYear(joinYear));
+        jobs.put(job.id, job);
+        worker.execute(() -> run(job));
+        return job.toDto();
+    }
+
+    @Override
+    public IdCardBatchStatus getStatus(String jobId) {
+        return job(jobId).toDto();
+    }
+
+    @Override
+    public Resource getArchive(String jobId) {
+        BatchJob job = job(jobId);
+        if (!"COMPLETED".equals(job.state)) {
+            throw new IllegalArgumentException("ID card batch " + jobId + " is " + job.state.toLowerCase());
+        }
+        return new FileSystemResource(archivePath(job));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+        renderPool.shutdownNow();
+    }
+
+    private BatchJob job(String jobId) {
+        BatchJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("Unknown ID card batch: " + jobId);
+        }
+        return job;
+    }
+
+    private Path archivePath(BatchJob job) {
+        return outputDirectory.resolve(job.id + ".zip");
+    }
+
+    private void run(BatchJob job) {
+        job.state = "RUNNING";
+        job.startedAt = LocalDateTime.now();
+        Path partial = outputDirectory.resolve(job.id + ".zip.part");
+        try {
+            Files.createDirectories(outputDirectory);
+            BufferedImage template = drawTemplate();
+            try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(partial), 1 << 16))) {
+                long afterId = 0;
+                ForkJoinTask<List<RenderedCard>> pending = null;
+                List<IdCardRow> page;
+                do {
+                    page = studentRepository.findIdCardsAfter(job.joinYear, afterId, PageRequest.of(0, pageSize));
+                    List<IdCardRow> rows = page;
+                    ForkJoinTask<List<RenderedCard>> next = rows.isEmpty() ? null : renderPool.submit(() ->
+                            rows.parallelStream().map(row -> render(row, template, job)).toList());
+                    if (pending != null) {
+                        write(zip, pending.join());
+                    }
+                    pending = next;
+                    if (!page.isEmpty()) {
+                        afterId = page.get(page.size() - 1).studentId();
+                    }
+                } while (page.size() == pageSize);
+                if (pending != null) {
+                    write(zip, pending.join());
+                }
+            }
+            Files.move(partial, archivePath(job), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            job.finishedAt = LocalDateTime.now();
+            job.state = "COMPLETED";
+            log.info("Rendered {} ID cards for join year {} ({} without photo) in {} ms", job.rendered.get(), job.joinYear,
+                    job.missingPhotos.get(), Duration.between(job.startedAt, job.finishedAt).toMillis());
+        } catch (Exception ex) {
+            log.error("ID card batch {} failed", job.id, ex);
+            job.failure = ex.getMessage();
+            job.finishedAt = LocalDateTime.now();
+            job.state = "FAILED";
+            try {
+                Files.deleteIfExists(partial);
+            } catch (IOException ignored) {
+                // Leftover partial archives are harmless and overwritten by the next run with this ID
+            }
+        }
+    }
+
+    /**
+     * Everything that is identical on every card, drawn once per batch.
+     */
+    private BufferedImage drawTemplate() {
+        BufferedImage template = new BufferedImage(CARD_WIDTH, CARD_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = template.createGraphics();
+        try {
+            applyHints(g);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, CARD_WIDTH, CARD_HEIGHT);
+            g.setColor(HEADER_COLOR);
+            g.fillRect(0, 0, CARD_WIDTH, HEADER_HEIGHT);
+            g.fillRect(0, CARD_HEIGHT - 40, CARD_WIDTH, 40);
+
+            g.setColor(Color.WHITE);
+            drawCentered(g, institutionName, TITLE_FONT, 80);
+            drawCentered(g, "STUDENT IDENTITY CARD", LABEL_FONT, 130);
+
+            g.setColor(LABEL_COLOR);
+            g.setStroke(new BasicStroke(3));
+            g.drawRect(PHOTO_X - 2, PHOTO_Y - 2, PHOTO_WIDTH + 3, PHOTO_HEIGHT + 3);
+            drawCentered(g, "Roll Number", LABEL_FONT, 730);
+            drawCentered(g, "Program", LABEL_FONT, 840);
+        } finally {
+            g.dispose();
+        }
+        return template;
+    }
+
+    private RenderedCard render(IdCardRow row, BufferedImage template, BatchJob job) {
+        BufferedImage card = new BufferedImage(CARD_WIDTH, CARD_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        template.copyData(card.getRaster());
+
+        Graphics2D g = card.createGraphics();
+        try {
+            applyHints(g);
+            BufferedImage photo = loadPhoto(row.photographPath());
+            if (photo != null) {
+                // Scale to cover the photo box, cropping the overflow
+                double scale = Math.max((double) PHOTO_WIDTH / photo.getWidth(), (double) PHOTO_HEIGHT / photo.getHeight());
+                int width = (int) Math.round(photo.getWidth() * scale);
+                int height = (int) Math.round(photo.getHeight() * scale);
+                g.setClip(PHOTO_X, PHOTO_Y, PHOTO_WIDTH, PHOTO_HEIGHT);
+                g.drawImage(photo, PHOTO_X + (PHOTO_WIDTH - width) / 2, PHOTO_Y + (PHOTO_HEIGHT - height) / 2, width, height, null);
+                g.setClip(null);
+            } else {
+                job.missingPhotos.incrementAndGet();
+                g.setColor(LABEL_COLOR);
+                drawCentered(g, "No photo", LABEL_FONT, PHOTO_Y + PHOTO_HEIGHT / 2);
+            }
+
+            g.setColor(Color.BLACK);
+            drawCentered(g, row.firstName() + " " + row.lastName(), NAME_FONT, 670);
+            drawCentered(g, row.rollNumber(), VALUE_FONT, 775);
+            drawCentered(g, row.program(), VALUE_FONT, 885);
+        } finally {
+            g.dispose();
+        }
+
+        String name = row.rollNumber() != null ? row.rollNumber().replaceAll("[^A-Za-z0-9_-]", "_") : "student-" + row.studentId();
+        byte[] jpeg = encode(card);
+        job.rendered.incrementAndGet();
+        return new RenderedCard(name + ".jpg", jpeg);
+    }
+
+    /**
+     * Decodes a stored photo, subsampling large images while reading so a 12 MP upload
+     * is never fully materialised. Returns null if the photo is missing or unreadable.
+     */
+    private BufferedImage loadPhoto(String photographPath) {
+        if (photographPath == null || photographPath.isBlank()) {
+            return null;
+        }
+        // Stored paths are public URLs of the form /uploads/photos/<file>
+        String relative = photographPath.replaceFirst("^/?uploads/", "");
+        Path file = uploadRoot.resolve(relative).normalize();
+        if (!file.startsWith(uploadRoot) || !Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int subsampling = Math.max(1, Math.min(reader.getWidth(0) / PHOTO_WIDTH, reader.getHeight(0) / PHOTO_HEIGHT));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.debug("Unable to read photo {}: {}", photographPath, ex.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] encode(BufferedImage card) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(96 * 1024);
+        try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(card, null, null), param);
+        } catch (IOException ex) {
+            throw new RuntimeException("Unable to encode ID card", ex);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    // JPEGs do not deflate further, so entries are stored as-is
+    private static void write(ZipOutputStream zip, List<RenderedCard> cards) throws IOException {
+        CRC32 crc = new CRC32();
+        for (RenderedCard card : cards) {
+            crc.reset();
+            crc.update(card.jpeg());
+            ZipEntry entry = new ZipEntry(card.name());
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(card.jpeg().length);
+            entry.setCompressedSize(card.jpeg().length);
+            entry.setCrc(crc.getValue());
+            zip.putNextEntry(entry);
+            zip.write(card.jpeg());
+            zip.closeEntry();
+        }
+    }
+
+    private static void applyHints(Graphics2D g) {
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+    }
+
+    private static void drawCentered(Graphics2D g, String text, Font font, int baseline) {
+        if (text == null) {
+            return;
+        }
+        g.setFont(font);
+        FontMetrics metrics = g.getFontMetrics();
+        int maxWidth = CARD_WIDTH - 2 * TEXT_MARGIN;
+        String fitted = text;
+        while (metrics.stringWidth(fitted) > maxWidth && fitted.length() > 1) {
+            fitted = fitted.substring(0, fitted.length() - 2) + "…";
+        }
+        g.drawString(fitted, (CARD_WIDTH - metrics.stringWidth(fitted)) / 2, baseline);
+    }
+
+    private record RenderedCard(String name, byte[] jpeg) {
+    }
+
+    private static final class BatchJob {
+
+        private final String id;
+        private final Integer joinYear;
+        private final long totalCards;
+        private final AtomicLong rendered = new AtomicLong();
+        private final AtomicLong missingPhotos = new AtomicLong();
+        private volatile String state = "QUEUED";
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String failure;
+
+        private BatchJob(String id, Integer joinYear, long totalCards) {
+            this.id = id;
+            this.joinYear = joinYear;
+            this.totalCards = totalCards;
+        }
+
+        private IdCardBatchStatus toDto() {
+            LocalDateTime started = startedAt;
+            Double cardsPerSecond = null;
+            if (started != null) {
+                LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+                long millis = Math.max(1, Duration.between(started, end).toMillis());
+                cardsPerSecond = Math.round(rendered.get() * 10_000.0 / millis) / 10.0;
+            }
+            return IdCardBatchStatus.builder()
+                    .jobId(id)
+                    .joinYear(joinYear)
+                    .state(state)
+                    .totalCards(totalCards)
+                    .cardsRendered(rendered.get())
+                    .missingPhotos(missingPhotos.get())
+                    .cardsPerSecond(cardsPerSecond)
+                    .startedAt(started)
+                    .finishedAt(finishedAt)
+                    .failure(failure)
+                    .archiveUrl("COMPLETED".equals(state) ? "/api/id-cards/batches/" + id + "/archive" : null)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.entity.IdempotencyRecord;
+import com.academic.erp.backend.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Replays the stored response of a request that carried an {@code Idempotency-Key}
+ * instead of executing it again. Responses are kept in a bounded LRU map and in the
+ * {@code idempotency_keys} table, so replays survive restarts. A retry that arrives
+ * while the original is still running waits for it rather than executing in parallel.
+ * Failed executions are not stored, so the client may retry them with the same key.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration retention;
+    private final long inFlightWaitMillis;
+
+    private final Map<String, IdempotencyRecord> cache;
+    private final Map<String, CompletableFuture<IdempotencyRecord>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyRecordRepository recordRepository,
+                              ObjectMapper objectMapper,
+                              @Value("${app.idempotency.cache-size:10000}") int cacheSize,
+                              @Value("${app.idempotency.retention-hours:24}") long retentionHours,
+                              @Value("${app.idempotency.in-flight-wait-ms:30000}") long inFlightWaitMillis) {
+        this.recordRepository = recordRepository;
+        this.objectMapper = objectMapper;
+        this.retention = Duration.ofHours(retentionHours);
+        this.inFlightWaitMillis = inFlightWaitMillis;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * Runs {@code action} once per (caller, scope, key). Without a key the action simply runs.
+     *
+     * @param scope        endpoint the key belongs to, so one key cannot replay another endpoint
+     * @param key          value of the {@code Idempotency-Key} header, may be null
+     * @param fingerprint  fingerprint of the request body, computed only when a key is present;
+     *                     reusing a key with a different body is rejected
+     * @param responseType type used to rebuild a stored response
+     */
+    public <T> T execute(String scope, String key, Supplier<String> fingerprint, Class<T> responseType, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String fullKey = sha256(principal() + ":" + scope + ":" + key);
+        String requestHash = fingerprint.get();
+        CompletableFuture<IdempotencyRecord> mine = new CompletableFuture<>();
+        CompletableFuture<IdempotencyRecord> running = inFlight.putIfAbsent(fullKey, mine);
+        if (running != null) {
+            return replay(awaitOriginal(running), requestHash, responseType);
+        }
+
+        try {
+            IdempotencyRecord stored = lookup(fullKey);
+            if (stored == null) {
+                T response = action.get();
+                stored = store(fullKey, requestHash, response);
+                mine.complete(stored);
+                return response;
+            }
+            mine.complete(stored);
+            return replay(stored, requestHash, responseType);
+        } catch (RuntimeException ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(fullKey, mine);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int removed = recordRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+        if (removed > 0) {
+            log.info("Purged {} expired idempotency keys", removed);
+        }
+    }
+
+    private IdempotencyRecord lookup(String fullKey) {
+        IdempotencyRecord cached = cache.get(fullKey);
+        if (cached != null) {
+            return cached;
+        }
+        IdempotencyRecord stored;
+        try {
+            stored = recordRepository.findById(fullKey).orElse(null);
+        } catch (RuntimeException ex) {
+            // Without the stored copy the request runs as if the key were new, as it would without a key
+            log.warn("Unable to look up idempotency key {}: {}", fullKey, ex.getMessage());
+            return null;
+        }
+        if (stored != null) {
+            cache.put(fullKey, stored);
+        }
+        return stored;
+    }
+
+    private IdempotencyRecord store(String fullKey, String requestHash, Object response) {
+        IdempotencyRecord record;
+        try {
+            record = IdempotencyRecord.builder()
+                    .idempotencyKey(fullKey)
+                    .requestHash(requestHash)
+                    .responseBody(objectMapper.writeValueAsString(response))
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new RuntimeException("Unable to record idempotent response", ex);
+        }
+        cache.put(fullKey, record);
+        try {
+            recordRepository.save(record);
+        } catch (RuntimeException ex) {
+            // The request itself succeeded; losing durability of the key must not fail it
+            log.warn("Unable to persist idempotency key {}: {}", fullKey, ex.getMessage());
+        }
+        return record;
+    }
+
+    private IdempotencyRecord awaitOriginal(CompletableFuture<IdempotencyRecord> running) {
+        try {
+            return running.get(inFlightWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("Original request failed", ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new RuntimeException("A request with this Idempotency-Key is still in progress");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the original request");
+        }
+    }
+
+    private <T> T replay(IdempotencyRecord record, String requestHash, Class<T> responseType) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new IllegalArgumentException("Idempotency-Key was already used with a different request");
+        }
+        try {
+            return objectMapper.readValue(record.getResponseBody(), responseType);
+        } catch (JsonProcessingException ex) {
+            throw new RuntimeException("Unable to replay idempotent response", ex);
+        }
+    }
+
+    public String fingerprint(Object body) {
+        try {
+            return sha256(objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException ex) {
+            throw new RuntimeException("Unable to fingerprint request", ex);
+        }
+    }
+
+    public String fingerprint(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            MessageDigest digest = sha256Digest();
+            digest.update(String.valueOf(file.getOriginalFilename()).getBytes(StandardCharsets.UTF_8));
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException ex) {
+            throw new RuntimeException("Unable to fingerprint upload", ex);
+        }
+    }
+
+    private static String sha256(String value) {
+        return sha256(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256(byte[] value) {
+        return HexFormat.of().formatHex(sha256Digest().digest(value));
+    }
+
+    private static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "anonymous";
+    }
+}
@@ -48,34 +48,68 @@ public class PhotoStorageService {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("Photo file is required");
         }
-
-        String contentType = file.getContentType();
-        if (contentType == null || ALLOWED_TYPES.stream().noneMatch(contentType::equalsIgnoreCase)) {
-            throw new IllegalArgumentException("Only image files (jpeg/png/gif/webp) are allowed");
-        }
+        validateContentType(file.getContentType());
 
         try {
-            Path photoDirectory = Paths.get(uploadRoot, "photos")
-                    .toAbsolutePath()
-                    .normalize();
-            Files.createDirectories(photoDirectory);
-
-            String extension = StringUtils.getFilenameExtension(file.getOriginalFilename());
-            String sanitizedExtension = (extension != null && !extension.isBlank())
-                    ? "." + extension.toLowerCase()
-                    : "";
-            String filename = UUID.randomUUID() + sanitizedExtension;
-
-            Path target = photoDirectory.resolve(filename);
+            Path target = newPhotoFile(file.getOriginalFilename());
             try (InputStream inputStream = file.getInputStream()) {
                 Files.copy(inputStream, target, StandardCopyOption.REPLACE_EXISTING);
             }
+            return publicPath(target);
+        } catch (IOException ex) {
+            throw new RuntimeException("Unable to store photo file", ex);
+        }
+    }
 
-            Path publicPath = Paths.get("uploads", "photos", filename);
-            return "/" + publicPath.toString().replace("\\", "/");
+    /**
+     * Stores a photo that has already been assembled on disk, e.g. by a chunked upload.
+     * Applies the same validation as {@link #storePhoto(MultipartFile)} and moves the
+     * file into place instead of copying it.
+     *
+     * @param source The assembled file; it no longer exists after this call succeeds
+     * @param originalFilename The client's file name, used for the extension
+     * @param contentType The declared content type
+     * @return The public path to the stored file
+     */
+    public String storePhoto(Path source, String originalFilename, String contentType) {
+        validateContentType(contentType);
+        try {
+            if (Files.size(source) == 0) {
+                throw new IllegalArgumentException("Photo file is required");
+            }
+            Path target = newPhotoFile(originalFilename);
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+            return publicPath(target);
         } catch (IOException ex) {
             throw new RuntimeException("Unable to store photo file", ex);
         }
     }
+
+    /**
+     * @throws IllegalArgumentException if the content type is not an allowed image type
+     */
+    public void validateContentType(String contentType) {
+        if (contentType == null || ALLOWED_TYPES.stream().noneMatch(contentType::equalsIgnoreCase)) {
+            throw new IllegalArgumentException("Only image files (jpeg/png/gif/webp) are allowed");
+        }
+    }
+
+    private Path newPhotoFile(String originalFilename) throws IOException {
+        Path photoDirectory = Paths.get(uploadRoot, "photos")
+                .toAbsolutePath()
+                .normalize();
+        Files.createDirectories(photoDirectory);
+
+        String extension = StringUtils.getFilenameExtension(originalFilename);
+        String sanitizedExtension = (extension != null && !extension.isBlank())
+                ? "." + extension.toLowerCase()
+                : "";
+        return photoDirectory.resolve(UUID.randomUUID() + sanitizedExtension);
+    }
+
+    private static String publicPath(Path target) {
+        Path publicPath = Paths.get("uploads", "photos", target.getFileName().toString());
+        return "/" + publicPath.toString().replace("\\", "/");
+    }
 }
 
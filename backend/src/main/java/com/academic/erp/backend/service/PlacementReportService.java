@@ -0,0 +1,321 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.PlacementReportDto;
+import com.academic.erp.backend.dto.StatisticsBucketDto;
+import com.academic.erp.backend.entity.Domain;
+import com.academic.erp.backend.entity.Placement;
+import com.academic.erp.backend.event.PlacementsAssignedEvent;
+import com.academic.erp.backend.exception.PlacementReportNotFoundException;
+import com.academic.erp.backend.repository.DomainRepository;
+import com.academic.erp.backend.repository.PlacementReportRow;
+import com.academic.erp.backend.repository.PlacementRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-organisation placement reports held as immutable in-memory snapshots.
+ * <p>
+ * Placed students are summarised per placement (by domain and whole-number cgpa band)
+ * with one grouped query; an organisation's report is the sum of its placements. A
+ * committed batch assignment re-summarises only the placements it touched and rebuilds
+ * only their organisations. A scheduled full refresh picks up changes made elsewhere.
+ * Each report carries a version that changes only when its figures change, and the
+ * list as a whole carries one that changes whenever a report is added, changed or
+ * removed.
+ */
+@Service
+@Slf4j
+public class PlacementReportService {
+
+    private static final int CGPA_BANDS = 10;
+    private static final String UNGRADED = "ungraded";
+
+    private final PlacementRepository placementRepository;
+    private final DomainRepository domainRepository;
+    private final double fullRefreshRatio;
+
+    private final Set<Long> dirtyPlacements = ConcurrentHashMap.newKeySet();
+    // Guarded by this; only touched by refreshes
+    private final Map<Long, PlacementTotals> placementTotals = new HashMap<>();
+    // Seeded from the clock so versions issued after a restart never match an ETag a client holds
+    private long lastVersion = System.currentTimeMillis();
+    private volatile Map<Long, OrganisationReport> reports = Map.of();
+    // Written after reports, so a reader that reads it first never sees an older list
+    private volatile long reportsVersion = lastVersion;
+
+    public PlacementReportService(PlacementRepository placementRepository,
+                                  DomainRepository domainRepository,
+                                  @Value("${app.placement-reports.full-refresh-ratio:0.5}") double fullRefreshRatio) {
+        this.placementRepository = placementRepository;
+        this.domainRepository = domainRepository;
+        this.fullRefreshRatio = fullRefreshRatio;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        refreshAll();
+    }
+
+    @Scheduled(fixedDelayString = "${app.placement-reports.refresh-interval-ms:600000}", initialDelayString = "${app.placement-reports.refresh-interval-ms:600000}")
+    public synchronized void refreshAll() {
+        long start = System.nanoTime();
+        dirtyPlacements.clear();
+        Map<Long, Placement> placements = loadPlacements();
+        placementTotals.clear();
+        placementTotals.putAll(summarise(placementRepository.summarisePlacedStudents()));
+
+        Set<Long> organisationIds = new HashSet<>();
+        placements.values().forEach(placement -> organisationIds.add(organisationId(placement)));
+        organisationIds.addAll(reports.keySet());
+        int changed = publish(organisationIds, placements);
+        log.info("Refreshed placement reports for {} organisations ({} changed) in {} ms",
+                organisationIds.size(), changed, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onPlacementsAssigned(PlacementsAssignedEvent event) {
+        dirtyPlacements.addAll(event.placementIds());
+        refreshDirty();
+    }
+
+    /**
+     * Re-summarises only the placements marked dirty. Falls back to a full refresh when
+     * most placements changed, since the unfiltered query is then cheaper.
+     */
+    public synchronized void refreshDirty() {
+        Set<Long> placementIds = new HashSet<>(dirtyPlacements);
+        dirtyPlacements.removeAll(placementIds);
+        if (placementIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Placement> placements = loadPlacements();
+        if (placementIds.size() > placements.size() * fullRefreshRatio) {
+            refreshAll();
+            return;
+        }
+
+        Map<Long, PlacementTotals> fresh = summarise(placementRepository.summarisePlacedStudents(placementIds));
+        Set<Long> organisationIds = new HashSet<>();
+        for (Long placementId : placementIds) {
+            PlacementTotals previous = fresh.containsKey(placementId)
+                    ? placementTotals.put(placementId, fresh.get(placementId))
+                    : placementTotals.remove(placementId);
+            if (previous != null || fresh.containsKey(placementId)) {
+                Placement placement = placements.get(placementId);
+                if (placement != null) {
+                    organisationIds.add(organisationId(placement));
+                }
+            }
+        }
+        int changed = publish(organisationIds, placements);
+        log.debug("Incrementally refreshed {} placements, {} organisation reports changed", placementIds.size(), changed);
+    }
+
+    /**
+     * Version of the whole report list. Read it before {@link #getReports()}: the list
+     * returned is then at least as new as the version.
+     */
+    public long getReportsVersion() {
+        return reportsVersion;
+    }
+
+    public List<PlacementReportDto> getReports() {
+        return reports.values().stream()
+                .sorted(Comparator.comparing(OrganisationReport::organisationId))
+                .map(PlacementReportService::toDto)
+                .toList();
+    }
+
+    public PlacementReportDto getReport(Long organisationId) {
+        OrganisationReport report = reports.get(organisationId);
+        if (report == null) {
+            throw new PlacementReportNotFoundException("No placement report for organisation " + organisationId);
+        }
+        return toDto(report);
+    }
+
+    private Map<Long, Placement> loadPlacements() {
+        Map<Long, Placement> placements = new HashMap<>();
+        placementRepository.findAllWithOrganisation().forEach(placement -> placements.put(placement.getPlacementId(), placement));
+        return placements;
+    }
+
+    private static Map<Long, PlacementTotals> summarise(List<PlacementReportRow> rows) {
+        Map<Long, PlacementTotals> totals = new HashMap<>();
+        for (PlacementReportRow row : rows) {
+            totals.computeIfAbsent(row.getPlacementId(), id -> new PlacementTotals()).add(row);
+        }
+        return totals;
+    }
+
+    /**
+     * Rebuilds the given organisations' reports from the per-placement totals and swaps
+     * in a new snapshot map. Returns how many reports were added, changed or removed.
+     */
+    private int publish(Set<Long> organisationIds, Map<Long, Placement> placements) {
+        Map<Long, String> domainPrograms = new HashMap<>();
+        for (Domain domain : domainRepository.findAll()) {
+            domainPrograms.put(domain.getDomainId(), domain.getProgram());
+        }
+
+        Map<Long, Figures.Builder> builders = new HashMap<>();
+        Map<Long, String> organisationNames = new HashMap<>();
+        for (Placement placement : placements.values()) {
+            Long organisationId = organisationId(placement);
+            if (!organisationIds.contains(organisationId)) {
+                continue;
+            }
+            organisationNames.put(organisationId, placement.getOrganisation() != null ? placement.getOrganisation().getName() : null);
+            Figures.Builder builder = builders.computeIfAbsent(organisationId, id -> new Figures.Builder());
+            PlacementTotals totals = placementTotals.get(placement.getPlacementId());
+            if (totals != null) {
+                builder.add(placement.getProfile(), totals, domainPrograms);
+            }
+        }
+
+        Map<Long, OrganisationReport> next = new HashMap<>(reports);
+        Instant now = Instant.now();
+        int changed = 0;
+        for (Long organisationId : organisationIds) {
+            Figures.Builder builder = builders.get(organisationId);
+            if (builder == null) {
+                if (next.remove(organisationId) != null) {
+                    changed++;
+                }
+                continue;
+            }
+            Figures figures = builder.build();
+            OrganisationReport current = next.get(organisationId);
+            if (current == null || !current.figures().equals(figures)) {
+                next.put(organisationId, new OrganisationReport(
+                        organisationId, organisationNames.get(organisationId), ++lastVersion, figures, now));
+                changed++;
+            }
+        }
+        if (changed > 0) {
+            reports = Collections.unmodifiableMap(next);
+            reportsVersion = ++lastVersion;
+        }
+        return changed;
+    }
+
+    // Placements without an organisation are reported together under ID 0
+    private static Long organisationId(Placement placement) {
+        return placement.getOrganisation() != null ? placement.getOrganisation().getOrganisationId() : 0L;
+    }
+
+    private static PlacementReportDto toDto(OrganisationReport report) {
+        Figures figures = report.figures();
+        List<StatisticsBucketDto> distribution = new ArrayList<>();
+        for (int band = 0; band < CGPA_BANDS; band++) {
+            distribution.add(bucket(String.valueOf(band), band + "-" + (band + 1), figures.cgpaBands().get(band)));
+        }
+        distribution.add(bucket(UNGRADED, UNGRADED, figures.ungraded()));
+
+        return PlacementReportDto.builder()
+                .organisationId(report.organisationId())
+                .organisationName(report.organisationName())
+                .version(report.version())
+                .studentsPlaced(figures.students())
+                .averageCgpa(figures.graded() > 0 ? Math.round(figures.cgpaSum() / figures.graded() * 100) / 100.0 : null)
+                .byProfile(figures.byProfile().entrySet().stream()
+                        .map(entry -> bucket(entry.getKey(), entry.getKey(), entry.getValue()))
+                        .toList())
+                .byDomain(figures.byDomain().entrySet().stream()
+                        .map(entry -> bucket(entry.getKey(), entry.getKey(), entry.getValue()))
+                        .toList())
+                .cgpaDistribution(distribution)
+                .refreshedAt(report.refreshedAt())
+                .build();
+    }
+
+    private static StatisticsBucketDto bucket(String key, String label, long students) {
+        return StatisticsBucketDto.builder().key(key).label(label).students(students).build();
+    }
+
+    private record OrganisationReport(Long organisationId, String organisationName, long version, Figures figures,
+                                      Instant refreshedAt) {
+    }
+
+    /**
+     * Comparable report figures; maps are sorted so equal figures compare equal.
+     */
+    private record Figures(long students, long graded, double cgpaSum, Map<String, Long> byProfile,
+                           Map<String, Long> byDomain, List<Long> cgpaBands, long ungraded) {
+
+        private static final class Builder {
+
+            private long students;
+            private long graded;
+            private double cgpaSum;
+            private final Map<String, Long> byProfile = new TreeMap<>();
+            private final Map<String, Long> byDomain = new TreeMap<>();
+            private final long[] cgpaBands = new long[CGPA_BANDS];
+            private long ungraded;
+
+            private void add(String profile, PlacementTotals totals, Map<Long, String> domainPrograms) {
+                students += totals.students;
+                graded += totals.graded;
+                cgpaSum += totals.cgpaSum;
+                ungraded += totals.ungraded;
+                byProfile.merge(profile != null ? profile : "", totals.students, Long::sum);
+                totals.byDomain.forEach((domainId, count) ->
+                        byDomain.merge(domainPrograms.getOrDefault(domainId, String.valueOf(domainId)), count, Long::sum));
+                for (int band = 0; band < CGPA_BANDS; band++) {
+                    cgpaBands[band] += totals.cgpaBands[band];
+                }
+            }
+
+            private Figures build() {
+                List<Long> bands = new ArrayList<>(CGPA_BANDS);
+                for (long count : cgpaBands) {
+                    bands.add(count);
+                }
+                return new Figures(students, graded, cgpaSum, Collections.unmodifiableMap(byProfile), Collections.unmodifiableMap(byDomain),
+                        List.copyOf(bands), ungraded);
+            }
+        }
+    }
+
+    private static final class PlacementTotals {
+
+        private long students;
+        private long graded;
+        private double cgpaSum;
+        private long ungraded;
+        private final Map<Long, Long> byDomain = new HashMap<>();
+        private final long[] cgpaBands = new long[CGPA_BANDS];
+
+        private void add(PlacementReportRow row) {
+            long count = row.getStudents();
+            students += count;
+            byDomain.merge(row.getDomainId(), count, Long::sum);
+            if (row.getCgpaBand() == null) {
+                ungraded += count;
+                return;
+            }
+            graded += count;
+            cgpaSum += row.getCgpaSum() != null ? row.getCgpaSum() : 0;
+            // A cgpa of exactly 10 belongs to the top band
+            int band = Math.max(0, Math.min(CGPA_BANDS - 1, row.getCgpaBand().intValue()));
+            cgpaBands[band] += count;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.PlacementAssignmentResponse;
+import com.academic.erp.backend.dto.PlacementShortlistDto;
+
+import java.util.List;
+
+public interface PlacementShortlistService {
+    List<PlacementShortlistDto> shortlist(Integer joinYear);
+
+    PlacementAssignmentResponse assign(Integer joinYear);
+}
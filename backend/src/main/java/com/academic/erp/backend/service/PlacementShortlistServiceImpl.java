@@ -0,0 +1,203 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.PlacementAssignmentResponse;
+import com.academic.erp.backend.dto.PlacementShortlistDto;
+import com.academic.erp.backend.entity.Placement;
+import com.academic.erp.backend.event.PlacementsAssignedEvent;
+import com.academic.erp.backend.repository.PlacementCount;
+import com.academic.erp.backend.repository.PlacementRepository;
+import com.academic.erp.backend.repository.StudentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Shortlists students for placements from the in-memory {@link StudentCgpaIndex}.
+ * Eligibility is a binary search over the cgpa-sorted cohort, so each placement
+ * costs O(log n + intake) regardless of how many students the cohort holds.
+ * <p>
+ * A placement's intake is its total across all join years: students already holding
+ * the placement, from this cohort or an earlier run, count against it, so repeated
+ * runs only fill the seats that are still open.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlacementShortlistServiceImpl implements PlacementShortlistService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final Comparator<Placement> MOST_SELECTIVE_FIRST = Comparator
+            .comparingDouble(PlacementShortlistServiceImpl::minimumGrade).reversed()
+            .thenComparing(Placement::getPlacementId);
+
+    private final PlacementRepository placementRepository;
+    private final StudentRepository studentRepository;
+    private final StudentCgpaIndex cgpaIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ForkJoinPool shortlistPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    private final ReentrantLock assignLock = new ReentrantLock();
+
+    @Override
+    public List<PlacementShortlistDto> shortlist(Integer joinYear) {
+        StudentCgpaIndex.Cohort cohort = cgpaIndex.cohort(joinYear);
+        List<Placement> placements = new ArrayList<>(placementRepository.findAllWithOrganisation());
+        placements.sort(MOST_SELECTIVE_FIRST);
+
+        return computeCandidates(placements, cohort, assignedCounts())
+                .stream()
+                .map(candidates -> toDto(candidates, cohort))
+                .toList();
+    }
+
+    /**
+     * Assigns students to placements, most selective placement first. A student
+     * shortlisted by several placements goes to the first one; later placements are
+     * refilled from the remainder of their eligible range.
+     */
+    @Override
+    public PlacementAssignmentResponse assign(Integer joinYear) {
+        if (!assignLock.tryLock()) {
+            throw new RuntimeException("Placement assignment is already running");
+        }
+        try {
+            long start = System.nanoTime();
+            StudentCgpaIndex.Cohort cohort = cgpaIndex.cohort(joinYear);
+            List<Placement> placements = new ArrayList<>(placementRepository.findAllWithOrganisation());
+            placements.sort(MOST_SELECTIVE_FIRST);
+
+            List<Candidates> shortlists = computeCandidates(placements, cohort, assignedCounts());
+
+            BitSet taken = cohort.placedCopy();
+            List<Object[]> assignments = new ArrayList<>();
+            Set<Long> assignedIds = new HashSet<>();
+            for (Candidates candidates : shortlists) {
+                int openSeats = candidates.openSeats();
+                int filled = 0;
+                int position = -1;
+                for (int shortlisted : candidates.positions()) {
+                    position = shortlisted;
+                    if (filled < openSeats && !taken.get(shortlisted)) {
+                        taken.set(shortlisted);
+                        assignments.add(new Object[]{candidates.placement().getPlacementId(), cohort.studentIdAt(shortlisted)});
+                        filled++;
+                    }
+                }
+                position = taken.nextClearBit(position + 1);
+                while (filled < openSeats && position < candidates.bound()) {
+                    taken.set(position);
+                    assignments.add(new Object[]{candidates.placement().getPlacementId(), cohort.studentIdAt(position)});
+                    filled++;
+                    position = taken.nextClearBit(position + 1);
+                }
+            }
+
+            Set<Long> placementIds = new HashSet<>();
+            for (Object[] assignment : assignments) {
+                placementIds.add((Long) assignment[0]);
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int from = 0; from < assignments.size(); from += BATCH_SIZE) {
+                    List<Object[]> chunk = assignments.subList(from, Math.min(from + BATCH_SIZE, assignments.size()));
+                    jdbcTemplate.batchUpdate("UPDATE students SET placement_id = ? WHERE student_id = ?", chunk);
+                }
+                eventPublisher.publishEvent(new PlacementsAssignedEvent(joinYear, placementIds));
+            });
+            for (Object[] assignment : assignments) {
+                assignedIds.add((Long) assignment[1]);
+            }
+            cgpaIndex.markPlaced(joinYear, assignedIds);
+
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            log.info("Assigned {} students across {} placements for join year {} in {} ms",
+                    assignments.size(), placements.size(), joinYear, elapsedMillis);
+
+            return PlacementAssignmentResponse.builder()
+                    .joinYear(joinYear)
+                    .placementsProcessed(placements.size())
+                    .studentsAssigned(assignments.size())
+                    .elapsedMillis(elapsedMillis)
+                    .build();
+        } finally {
+            assignLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shortlistPool.shutdown();
+    }
+
+    private Map<Long, Long> assignedCounts() {
+        Map<Long, Long> counts = new HashMap<>();
+        for (PlacementCount count : studentRepository.countByPlacement()) {
+            counts.put(count.getPlacementId(), count.getStudents());
+        }
+        return counts;
+    }
+
+    private List<Candidates> computeCandidates(List<Placement> placements, StudentCgpaIndex.Cohort cohort, Map<Long, Long> assigned) {
+        return shortlistPool
+                .submit(() -> placements.parallelStream()
+                        .map(placement -> scan(placement, cohort, assigned.getOrDefault(placement.getPlacementId(), 0L)))
+                        .toList())
+                .join();
+    }
+
+    private Candidates scan(Placement placement, StudentCgpaIndex.Cohort cohort, long alreadyAssigned) {
+        int bound = cohort.eligibleBound(minimumGrade(placement));
+        int openSeats = (int) Math.max(0, intake(placement) - alreadyAssigned);
+        int[] positions = new int[Math.min(openSeats, bound)];
+        int count = 0;
+        for (int i = cohort.nextUnplaced(0); i < bound && count < positions.length; i = cohort.nextUnplaced(i + 1)) {
+            positions[count++] = i;
+        }
+        return new Candidates(placement, bound, openSeats, count == positions.length ? positions : Arrays.copyOf(positions, count));
+    }
+
+    private PlacementShortlistDto toDto(Candidates candidates, StudentCgpaIndex.Cohort cohort) {
+        Placement placement = candidates.placement();
+        List<Long> studentIds = new ArrayList<>(candidates.positions().length);
+        for (int position : candidates.positions()) {
+            studentIds.add(cohort.studentIdAt(position));
+        }
+        return PlacementShortlistDto.builder()
+                .placementId(placement.getPlacementId())
+                .organisationName(placement.getOrganisation() != null ? placement.getOrganisation().getName() : null)
+                .profile(placement.getProfile())
+                .minimumGrade(placement.getMinimumGrade())
+                .intake(placement.getIntake())
+                .eligibleCount(cohort.unplacedCount(candidates.bound()))
+                .studentIds(studentIds)
+                .build();
+    }
+
+    private static double minimumGrade(Placement placement) {
+        return placement.getMinimumGrade() != null ? placement.getMinimumGrade() : 0.0;
+    }
+
+    private static int intake(Placement placement) {
+        return placement.getIntake() != null ? Math.max(placement.getIntake(), 0) : 0;
+    }
+
+    private record Candidates(Placement placement, int bound, int openSeats, int[] positions) {
+    }
+}
@@ -0,0 +1,157 @@
+package com.academic.erp.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user token buckets for write endpoints, plus a global cap on concurrently
+ * running expensive requests.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the bucket's "theoretical arrival
+ * time" (the GCRA formulation of a token bucket), so a check is one map lookup and one
+ * CAS with no locking. A bucket whose arrival time is in the past is full and carries
+ * no state, so the scheduled sweep drops idle buckets without changing behaviour.
+ * <p>
+ * The sweep first swaps an idle bucket's arrival time for {@code EVICTED} and only then
+ * removes it, so a request that looked the bucket up just before cannot take a token
+ * from a bucket that is no longer in the map; it sees the marker and looks up again.
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    public enum EndpointClass {
+        ADMISSION,
+        UPLOAD,
+        // Chunk writes and completion of an upload session, many per file
+        UPLOAD_CHUNK,
+        BULK
+    }
+
+    private static final String OVERFLOW_KEY = "";
+    // Arrival time of a bucket the sweep has claimed; never a real nanoTime in practice
+    private static final long EVICTED = Long.MIN_VALUE;
+
+    private final Map<EndpointClass, Limit> limits = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Map<String, AtomicLong>> buckets = new EnumMap<>(EndpointClass.class);
+    private final int maxKeys;
+    private final Semaphore expensiveSlots;
+
+    public RateLimiter(@Value("${app.rate-limit.admission.per-minute:60}") int admissionPerMinute,
+                       @Value("${app.rate-limit.admission.burst:10}") int admissionBurst,
+                       @Value("${app.rate-limit.upload.per-minute:30}") int uploadPerMinute,
+                       @Value("${app.rate-limit.upload.burst:5}") int uploadBurst,
+                       @Value("${app.rate-limit.upload-chunk.per-minute:600}") int uploadChunkPerMinute,
+                       @Value("${app.rate-limit.upload-chunk.burst:40}") int uploadChunkBurst,
+                       @Value("${app.rate-limit.bulk.per-minute:6}") int bulkPerMinute,
+                       @Value("${app.rate-limit.bulk.burst:2}") int bulkBurst,
+                       @Value("${app.rate-limit.max-keys:100000}") int maxKeys,
+                       @Value("${app.rate-limit.max-concurrent-expensive:32}") int maxConcurrentExpensive) {
+        limits.put(EndpointClass.ADMISSION, new Limit(admissionPerMinute, admissionBurst));
+        limits.put(EndpointClass.UPLOAD, new Limit(uploadPerMinute, uploadBurst));
+        limits.put(EndpointClass.UPLOAD_CHUNK, new Limit(uploadChunkPerMinute, uploadChunkBurst));
+        limits.put(EndpointClass.BULK, new Limit(bulkPerMinute, bulkBurst));
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            buckets.put(endpointClass, new ConcurrentHashMap<>());
+        }
+        this.maxKeys = maxKeys;
+        this.expensiveSlots = new Semaphore(maxConcurrentExpensive);
+    }
+
+    /**
+     * Takes one token from the caller's bucket.
+     *
+     * @return 0 if the request may proceed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(EndpointClass endpointClass, String caller) {
+        Limit limit = limits.get(endpointClass);
+        Map<String, AtomicLong> classBuckets = buckets.get(endpointClass);
+        while (true) {
+            String key = caller;
+            AtomicLong bucket = classBuckets.get(key);
+            if (bucket == null) {
+                // Callers beyond the key limit share one bucket until the scheduled sweep frees
+                // keys, so memory stays bounded and the request path never scans the map
+                key = classBuckets.size() < maxKeys ? caller : OVERFLOW_KEY;
+                // A new bucket starts full: its arrival time is "now"
+                bucket = classBuckets.computeIfAbsent(key, k -> new AtomicLong(System.nanoTime()));
+            }
+            long wait = take(bucket, limit);
+            if (wait >= 0) {
+                return wait;
+            }
+            // Claimed by the sweep after the lookup; finish removing it so the next lookup creates a new one
+            classBuckets.remove(key, bucket);
+        }
+    }
+
+    public boolean tryEnterExpensive() {
+        return expensiveSlots.tryAcquire();
+    }
+
+    public void exitExpensive() {
+        expensiveSlots.release();
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        int evicted = 0;
+        for (Map<String, AtomicLong> classBuckets : buckets.values()) {
+            for (Map.Entry<String, AtomicLong> entry : classBuckets.entrySet()) {
+                AtomicLong bucket = entry.getValue();
+                long arrival = bucket.get();
+                // Re-checked against the current time, and claimed only if no request took a token since the read
+                if (arrival != EVICTED && arrival - System.nanoTime() <= 0 && bucket.compareAndSet(arrival, EVICTED)) {
+                    if (classBuckets.remove(entry.getKey(), bucket)) {
+                        evicted++;
+                    }
+                }
+            }
+        }
+        if (evicted > 0) {
+            log.debug("Evicted {} idle rate-limit buckets", evicted);
+        }
+    }
+
+    /**
+     * @return 0 if a token was taken, the nanoseconds until one is available, or -1 if
+     * the bucket has been evicted
+     */
+    private static long take(AtomicLong bucket, Limit limit) {
+        long now = System.nanoTime();
+        while (true) {
+            long arrival = bucket.get();
+            if (arrival == EVICTED) {
+                return -1;
+            }
+            long next = Math.max(arrival, now) + limit.intervalNanos();
+            long allowedAt = next - limit.toleranceNanos();
+            if (allowedAt > now) {
+                return allowedAt - now;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * @param intervalNanos  time to earn one token
+     * @param toleranceNanos how far ahead of real time a caller may run, i.e. the burst size
+     */
+    private record Limit(long intervalNanos, long toleranceNanos) {
+        private Limit(int perMinute, int burst) {
+            this(TimeUnit.MINUTES.toNanos(1) / Math.max(perMinute, 1),
+                    TimeUnit.MINUTES.toNanos(1) / Math.max(perMinute, 1) * Math.max(burst, 1));
+        }
+    }
+}
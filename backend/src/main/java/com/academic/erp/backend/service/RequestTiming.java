@@ -0,0 +1,168 @@
+package com.academic.erp.backend.service;
+
+import java.util.Locale;
+
+/**
+ * Phase timings of the request running on the current thread: token validation, JDBC
+ * statements, the handler excluding its statements (service logic and DTO mapping) and
+ * response serialization. {@code ServerTimingFilter} binds one per request when timing
+ * is enabled; instrumented code looks it up with {@link #current()} and skips the
+ * bookkeeping when it is null.
+ * <p>
+ * Only the request thread touches an instance, so nothing is synchronized. Work handed
+ * to other threads, such as batch sub-requests, is not attributed to the request.
+ */
+public final class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private long authNanos;
+    private long dbNanos;
+    private int queries;
+    private long queryStartNanos;
+    private long handlerStartNanos;
+    private long dbNanosAtHandlerStart;
+    private long handlerNanos = -1;
+    private long handlerDbNanos;
+    private long serializeStartNanos;
+    private long endNanos;
+    private boolean exposed;
+    private boolean headerWritten;
+
+    private RequestTiming() {
+    }
+
+    public static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    public void recordAuth(long nanos) {
+        authNanos += nanos;
+    }
+
+    public void queryStarted() {
+        queryStartNanos = System.nanoTime();
+    }
+
+    public void queryFinished() {
+        if (queryStartNanos != 0) {
+            dbNanos += System.nanoTime() - queryStartNanos;
+            queries++;
+            queryStartNanos = 0;
+        }
+    }
+
+    /**
+     * Marks the start of the handler; {@code exposed} says whether the caller may see the
+     * timings in a response header.
+     */
+    public void handlerStarted(boolean exposed) {
+        this.exposed = exposed;
+        handlerStartNanos = System.nanoTime();
+        dbNanosAtHandlerStart = dbNanos;
+    }
+
+    /**
+     * Marks the end of the handler; only the first call counts. {@code serializing} is
+     * true when a response body is about to be written.
+     */
+    public void handlerFinished(boolean serializing) {
+        if (handlerStartNanos == 0 || handlerNanos >= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        handlerNanos = now - handlerStartNanos;
+        handlerDbNanos = dbNanos - dbNanosAtHandlerStart;
+        if (serializing) {
+            serializeStartNanos = now;
+        }
+    }
+
+    public void finish() {
+        endNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns true once, the first time the header should be written for this request.
+     */
+    public boolean claimHeader() {
+        if (!exposed || headerWritten) {
+            return false;
+        }
+        headerWritten = true;
+        return true;
+    }
+
+    /**
+     * {@code Server-Timing} value for the phases measured so far. Serialization is
+     * measured up to now, so when the header goes out with the first body bytes it
+     * covers the serialization done before them.
+     */
+    public String header() {
+        long now = endNanos != 0 ? endNanos : System.nanoTime();
+        StringBuilder header = new StringBuilder(128);
+        if (authNanos > 0) {
+            entry(header, "auth", authNanos).append(";desc=\"token validation\"");
+        }
+        if (queries > 0) {
+            entry(header, "db", dbNanos).append(";desc=\"").append(queries).append(queries == 1 ? " query\"" : " queries\"");
+        }
+        if (handlerNanos >= 0) {
+            entry(header, "app", appNanos()).append(";desc=\"handler excluding db\"");
+        }
+        if (serializeStartNanos != 0) {
+            entry(header, "ser", now - serializeStartNanos).append(";desc=\"serialization\"");
+        }
+        return entry(header, "total", now - startNanos).toString();
+    }
+
+    public double totalMillis() {
+        return millis((endNanos != 0 ? endNanos : System.nanoTime()) - startNanos);
+    }
+
+    public double authMillis() {
+        return millis(authNanos);
+    }
+
+    public double dbMillis() {
+        return millis(dbNanos);
+    }
+
+    public int queries() {
+        return queries;
+    }
+
+    public double appMillis() {
+        return handlerNanos >= 0 ? millis(appNanos()) : 0;
+    }
+
+    public double serializeMillis() {
+        return serializeStartNanos != 0 ? millis((endNanos != 0 ? endNanos : System.nanoTime()) - serializeStartNanos) : 0;
+    }
+
+    private long appNanos() {
+        return Math.max(0, handlerNanos - handlerDbNanos);
+    }
+
+    private static StringBuilder entry(StringBuilder header, String name, long nanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        return header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.1f", millis(nanos)));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
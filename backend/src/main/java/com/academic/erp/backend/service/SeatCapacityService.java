@@ -0,0 +1,298 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.SeatAvailabilityDto;
+import com.academic.erp.backend.dto.SeatHoldResponse;
+import com.academic.erp.backend.entity.Domain;
+import com.academic.erp.backend.exception.SeatUnavailableException;
+import com.academic.erp.backend.repository.DomainRepository;
+import com.academic.erp.backend.repository.DomainYearCount;
+import com.academic.erp.backend.repository.StudentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory seat accounting per (domain, join year), so admission can be refused
+ * without counting rows in {@code students}.
+ * <p>
+ * {@code admitted} tracks committed admissions and is reconciled against the database;
+ * {@code reserved} tracks in-flight admissions plus live seat holds. A seat is free while
+ * {@code admitted + reserved < capacity}. A domain without a capacity is unlimited.
+ * <p>
+ * Admission transactions hold the read side of {@code commitGate} from just before
+ * their commit until {@code admitted} is incremented, and reconciling holds the write
+ * side around its count, so a count never misses a commit that the counter has not
+ * seen yet.
+ * <p>
+ * Counters are only created for a known domain and a join year in the range admission
+ * accepts, so requests for arbitrary pairs cannot grow the map. A hold belongs to the
+ * user who took it and only that user can release it early.
+ */
+@Service
+@Slf4j
+public class SeatCapacityService {
+
+    private static final int MIN_JOIN_YEAR = 2000;
+    private static final int MAX_JOIN_YEAR = 2100;
+    // Stands in for a pair nobody has reserved yet; never modified
+    private static final SeatCounter EMPTY = new SeatCounter();
+
+    private final DomainRepository domainRepository;
+    private final StudentRepository studentRepository;
+    private final Duration holdTtl;
+
+    private final Map<SeatKey, SeatCounter> counters = new ConcurrentHashMap<>();
+    private final Map<Long, Domain> domains = new ConcurrentHashMap<>();
+    private final Map<String, SeatHold> holds = new ConcurrentHashMap<>();
+    private final ReadWriteLock commitGate = new ReentrantReadWriteLock();
+
+    public SeatCapacityService(DomainRepository domainRepository,
+                               StudentRepository studentRepository,
+                               @Value("${app.seats.hold-ttl-seconds:300}") long holdTtlSeconds) {
+        this.domainRepository = domainRepository;
+        this.studentRepository = studentRepository;
+        this.holdTtl = Duration.ofSeconds(holdTtlSeconds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    /**
+     * Re-reads capacities and committed counts. In-flight reservations and holds are
+     * kept as they are, so reconciling never frees a seat that is about to be taken.
+     */
+    @Scheduled(fixedDelayString = "${app.seats.reconcile-interval-ms:60000}", initialDelayString = "${app.seats.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        domainRepository.findAll().forEach(domain -> domains.put(domain.getDomainId(), domain));
+
+        commitGate.writeLock().lock();
+        try {
+            Map<SeatKey, Integer> actual = new HashMap<>();
+            for (DomainYearCount count : studentRepository.countByDomainAndJoinYear()) {
+                actual.put(new SeatKey(count.getDomainId(), count.getJoinYear()), count.getAdmitted().intValue());
+            }
+
+            counters.forEach((key, counter) -> actual.putIfAbsent(key, 0));
+            actual.forEach((key, admitted) -> {
+                int previous = counter(key).admitted.getAndSet(admitted);
+                if (previous != admitted) {
+                    log.warn("Seat counter drift for domain {} year {}: {} in memory, {} in database",
+                            key.domainId(), key.joinYear(), previous, admitted);
+                }
+            });
+        } finally {
+            commitGate.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Claims a seat for the admission running in the current transaction. The seat is
+     * counted as admitted if the transaction commits and released if it rolls back.
+     * A matching, unexpired hold is consumed instead of claiming a new seat; if the
+     * transaction rolls back the hold is put back, still holding its seat.
+     */
+    public void reserveForCurrentTransaction(Long domainId, Integer joinYear, String holdId) {
+        SeatKey key = validKey(domainId, joinYear);
+        SeatCounter counter = counter(key);
+
+        SeatHold consumed = consumeHold(holdId, key);
+        if (consumed == null) {
+            reserve(key, counter);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean gateHeld;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitGate.readLock().lock();
+                gateHeld = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        counter.admitted.incrementAndGet();
+                        counter.reserved.decrementAndGet();
+                    } else if (consumed != null) {
+                        // The seat stays reserved by the restored hold; the sweep releases it if it has expired
+                        holds.put(consumed.id(), consumed);
+                    } else {
+                        counter.reserved.decrementAndGet();
+                    }
+                } finally {
+                    if (gateHeld) {
+                        commitGate.readLock().unlock();
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * @param owner name of the user taking the hold; only they can release it early
+     */
+    public SeatHoldResponse hold(Long domainId, Integer joinYear, String owner) {
+        SeatKey key = validKey(domainId, joinYear);
+        reserve(key, counter(key));
+
+        SeatHold hold = new SeatHold(UUID.randomUUID().toString(), key, owner, Instant.now().plus(holdTtl));
+        holds.put(hold.id(), hold);
+        return SeatHoldResponse.builder()
+                .holdId(hold.id())
+                .domainId(domainId)
+                .joinYear(joinYear)
+                .expiresAt(hold.expiresAt())
+                .build();
+    }
+
+    /**
+     * Releases a hold taken by {@code owner}. Unknown holds and other users' holds are
+     * left alone, as if already gone.
+     */
+    public void release(String holdId, String owner) {
+        SeatHold hold = holds.get(holdId);
+        if (hold == null) {
+            return;
+        }
+        if (!hold.owner().equals(owner)) {
+            log.warn("User {} tried to release seat hold {} taken by {}", owner, holdId, hold.owner());
+            return;
+        }
+        releaseHold(hold);
+    }
+
+    @Scheduled(fixedDelayString = "${app.seats.hold-sweep-interval-ms:5000}")
+    public void expireHolds() {
+        Instant now = Instant.now();
+        holds.values().stream()
+                .filter(hold -> hold.expiresAt().isBefore(now))
+                .toList()
+                .forEach(this::releaseHold);
+    }
+
+    public List<SeatAvailabilityDto> availability(Integer joinYear) {
+        Map<SeatKey, SeatCounter> selected = new HashMap<>();
+        counters.forEach((key, counter) -> {
+            if (joinYear == null || joinYear.equals(key.joinYear())) {
+                selected.put(key, counter);
+            }
+        });
+        if (joinYear != null) {
+            // Every domain is listed for the year, without creating counters for it
+            domains.keySet().forEach(domainId -> selected.putIfAbsent(new SeatKey(domainId, joinYear), EMPTY));
+        }
+        List<SeatAvailabilityDto> result = new ArrayList<>(selected.size());
+        selected.forEach((key, counter) -> result.add(toDto(key, counter)));
+        result.sort(Comparator.comparing(SeatAvailabilityDto::getJoinYear).thenComparing(SeatAvailabilityDto::getDomainId));
+        return result;
+    }
+
+    private void reserve(SeatKey key, SeatCounter counter) {
+        Integer capacity = capacity(key.domainId());
+        while (true) {
+            int reserved = counter.reserved.get();
+            if (capacity != null && counter.admitted.get() + reserved >= capacity) {
+                throw new SeatUnavailableException("No seats available for " + program(key.domainId()) + " in " + key.joinYear());
+            }
+            if (counter.reserved.compareAndSet(reserved, reserved + 1)) {
+                return;
+            }
+        }
+    }
+
+    // Removes the hold only if it is still there, so a release racing expiry or consumption frees one seat
+    private void releaseHold(SeatHold hold) {
+        if (holds.remove(hold.id(), hold)) {
+            counter(hold.key()).reserved.decrementAndGet();
+        }
+    }
+
+    private SeatKey validKey(Long domainId, Integer joinYear) {
+        // Throws for an unknown domain
+        capacity(domainId);
+        if (joinYear == null || joinYear < MIN_JOIN_YEAR || joinYear > MAX_JOIN_YEAR) {
+            throw new IllegalArgumentException("Join year must be valid");
+        }
+        return new SeatKey(domainId, joinYear);
+    }
+
+    private SeatHold consumeHold(String holdId, SeatKey key) {
+        if (holdId == null || holdId.isBlank()) {
+            return null;
+        }
+        SeatHold hold = holds.get(holdId);
+        if (hold == null || !hold.key().equals(key) || hold.expiresAt().isBefore(Instant.now())) {
+            return null;
+        }
+        // Removing the hold transfers its reserved seat to this admission
+        return holds.remove(holdId, hold) ? hold : null;
+    }
+
+    private SeatCounter counter(SeatKey key) {
+        return counters.computeIfAbsent(key, k -> new SeatCounter());
+    }
+
+    private Integer capacity(Long domainId) {
+        Domain domain = domains.get(domainId);
+        if (domain == null) {
+            domain = domainRepository.findById(domainId)
+                    .orElseThrow(() -> new RuntimeException("Invalid domain ID"));
+            domains.put(domainId, domain);
+        }
+        return domain.getCapacity();
+    }
+
+    private String program(Long domainId) {
+        Domain domain = domains.get(domainId);
+        return domain != null ? domain.getProgram() : String.valueOf(domainId);
+    }
+
+    private SeatAvailabilityDto toDto(SeatKey key, SeatCounter counter) {
+        Domain domain = domains.get(key.domainId());
+        Integer capacity = domain != null ? domain.getCapacity() : null;
+        int admitted = counter.admitted.get();
+        int held = counter.reserved.get();
+        return SeatAvailabilityDto.builder()
+                .domainId(key.domainId())
+                .program(domain != null ? domain.getProgram() : null)
+                .joinYear(key.joinYear())
+                .capacity(capacity)
+                .admitted(admitted)
+                .held(held)
+                .available(capacity != null ? Math.max(capacity - admitted - held, 0) : null)
+                .build();
+    }
+
+    private record SeatKey(Long domainId, Integer joinYear) {
+    }
+
+    private record SeatHold(String id, SeatKey key, String owner, Instant expiresAt) {
+    }
+
+    private static final class SeatCounter {
+        private final AtomicInteger admitted = new AtomicInteger();
+        private final AtomicInteger reserved = new AtomicInteger();
+    }
+}
@@ -0,0 +1,8 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.SpecialisationAllotmentRequest;
+import com.academic.erp.backend.dto.SpecialisationAllotmentResponse;
+
+public interface SpecialisationAllotmentService {
+    SpecialisationAllotmentResponse allot(SpecialisationAllotmentRequest request);
+}
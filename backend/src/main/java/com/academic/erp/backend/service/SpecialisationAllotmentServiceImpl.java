@@ -0,0 +1,241 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.SpecialisationAllotmentChangeDto;
+import com.academic.erp.backend.dto.SpecialisationAllotmentRequest;
+import com.academic.erp.backend.dto.SpecialisationAllotmentResponse;
+import com.academic.erp.backend.dto.SpecialisationAllotmentSummaryDto;
+import com.academic.erp.backend.dto.StudentPreferenceDto;
+import com.academic.erp.backend.entity.Specialisation;
+import com.academic.erp.backend.event.SpecialisationsAllottedEvent;
+import com.academic.erp.backend.event.StudentSpecialisationChange;
+import com.academic.erp.backend.repository.SpecialisationRepository;
+import com.academic.erp.backend.repository.StudentAllotmentRow;
+import com.academic.erp.backend.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Allots a join-year cohort to specialisations by ranked preference, cgpa and capacity.
+ * <p>
+ * Every specialisation ranks students the same way, by cgpa descending with ties by
+ * student ID and ungraded students last. With one shared ranking, student-proposing
+ * deferred acceptance reduces to serial dictatorship: walking the cohort in rank order
+ * and giving each student their first preference with a seat left yields the unique
+ * stable matching. The cohort is read already in rank order, so a row's index is its
+ * rank; preferences are flattened into one array of specialisation indexes and seats
+ * are counted in an int array, so a run is linear in students plus preferences.
+ * <p>
+ * Students who submitted no preferences keep their specialisation and hold its seat.
+ * Only changed students are written, in one batched update that also stamps the
+ * {@link StudentChangeSequence}; a dry run returns the same diff without writing.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SpecialisationAllotmentServiceImpl implements SpecialisationAllotmentService {
+
+    private static final int NONE = -1;
+
+    private final StudentRepository studentRepository;
+    private final SpecialisationRepository specialisationRepository;
+    private final StudentChangeSequence changeSequence;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReentrantLock allotLock = new ReentrantLock();
+
+    @Override
+    public SpecialisationAllotmentResponse allot(SpecialisationAllotmentRequest request) {
+        boolean dryRun = request.isDryRun();
+        if (!dryRun && !allotLock.tryLock()) {
+            throw new RuntimeException("Specialisation allotment is already running");
+        }
+        try {
+            return run(request.getJoinYear(), request.getPreferences(), dryRun);
+        } finally {
+            if (!dryRun) {
+                allotLock.unlock();
+            }
+        }
+    }
+
+    private SpecialisationAllotmentResponse run(Integer joinYear, List<StudentPreferenceDto> preferences, boolean dryRun) {
+        long start = System.nanoTime();
+
+        List<Specialisation> specialisations = new ArrayList<>(specialisationRepository.findAll());
+        specialisations.sort(Comparator.comparing(Specialisation::getSpecialisationId));
+        Map<Long, Integer> specialisationIndex = new HashMap<>();
+        for (int s = 0; s < specialisations.size(); s++) {
+            specialisationIndex.put(specialisations.get(s).getSpecialisationId(), s);
+        }
+
+        List<StudentAllotmentRow> cohort = studentRepository.findAllotmentRows(joinYear);
+        int students = cohort.size();
+        Map<Long, Integer> rankById = new HashMap<>(students * 2);
+        int[] current = new int[students];
+        for (int rank = 0; rank < students; rank++) {
+            StudentAllotmentRow row = cohort.get(rank);
+            rankById.put(row.studentId(), rank);
+            current[rank] = row.specialisationId() != null ? specialisationIndex.getOrDefault(row.specialisationId(), NONE) : NONE;
+        }
+
+        // Preferences in compressed rows: student rank r ranks preferred[preferenceStart[r]] .. preferred[preferenceStart[r + 1] - 1]
+        boolean[] participating = new boolean[students];
+        int[] submittedRank = new int[preferences.size()];
+        int[] preferenceStart = new int[students + 1];
+        for (int i = 0; i < preferences.size(); i++) {
+            StudentPreferenceDto preference = preferences.get(i);
+            Integer rank = rankById.get(preference.getStudentId());
+            if (rank == null) {
+                throw new IllegalArgumentException("Student " + preference.getStudentId() + " is not in the " + joinYear + " cohort");
+            }
+            if (participating[rank]) {
+                throw new IllegalArgumentException("Preferences for student " + preference.getStudentId() + " are given more than once");
+            }
+            participating[rank] = true;
+            submittedRank[i] = rank;
+            preferenceStart[rank + 1] = preference.getSpecialisationIds().size();
+        }
+        for (int rank = 0; rank < students; rank++) {
+            preferenceStart[rank + 1] += preferenceStart[rank];
+        }
+        int[] preferred = new int[preferenceStart[students]];
+        for (int i = 0; i < preferences.size(); i++) {
+            StudentPreferenceDto preference = preferences.get(i);
+            int from = preferenceStart[submittedRank[i]];
+            int at = from;
+            for (Long specialisationId : preference.getSpecialisationIds()) {
+                Integer index = specialisationId != null ? specialisationIndex.get(specialisationId) : null;
+                if (index == null) {
+                    throw new IllegalArgumentException("Unknown specialisation " + specialisationId + " in preferences of student " + preference.getStudentId());
+                }
+                for (int earlier = from; earlier < at; earlier++) {
+                    if (preferred[earlier] == index) {
+                        throw new IllegalArgumentException("Student " + preference.getStudentId() + " lists specialisation " + specialisationId + " twice");
+                    }
+                }
+                preferred[at++] = index;
+            }
+        }
+
+        int[] retained = new int[specialisations.size()];
+        for (int rank = 0; rank < students; rank++) {
+            if (!participating[rank] && current[rank] != NONE) {
+                retained[current[rank]]++;
+            }
+        }
+        int[] seatsLeft = new int[specialisations.size()];
+        for (int s = 0; s < seatsLeft.length; s++) {
+            Integer capacity = specialisations.get(s).getCapacity();
+            seatsLeft[s] = capacity != null ? Math.max(0, capacity - retained[s]) : Integer.MAX_VALUE;
+        }
+
+        int[] allotted = new int[students];
+        int[] allottedPreference = new int[students];
+        int[] filled = new int[specialisations.size()];
+        int[] lastRank = new int[specialisations.size()];
+        Arrays.fill(allotted, NONE);
+        Arrays.fill(lastRank, NONE);
+        for (int rank = 0; rank < students; rank++) {
+            if (!participating[rank]) {
+                continue;
+            }
+            for (int p = preferenceStart[rank]; p < preferenceStart[rank + 1]; p++) {
+                int s = preferred[p];
+                if (seatsLeft[s] > 0) {
+                    seatsLeft[s]--;
+                    allotted[rank] = s;
+                    allottedPreference[rank] = p - preferenceStart[rank] + 1;
+                    filled[s]++;
+                    lastRank[s] = rank;
+                    break;
+                }
+            }
+        }
+
+        int allottedCount = 0;
+        List<SpecialisationAllotmentChangeDto> changes = new ArrayList<>();
+        List<StudentSpecialisationChange> writes = new ArrayList<>();
+        for (int rank = 0; rank < students; rank++) {
+            if (!participating[rank]) {
+                continue;
+            }
+            if (allotted[rank] != NONE) {
+                allottedCount++;
+            }
+            if (allotted[rank] == current[rank]) {
+                continue;
+            }
+            StudentAllotmentRow row = cohort.get(rank);
+            Specialisation previous = current[rank] != NONE ? specialisations.get(current[rank]) : null;
+            Specialisation next = allotted[rank] != NONE ? specialisations.get(allotted[rank]) : null;
+            changes.add(SpecialisationAllotmentChangeDto.builder()
+                    .studentId(row.studentId())
+                    .rollNumber(row.rollNumber())
+                    .cgpa(row.cgpa())
+                    .previousSpecialisationId(previous != null ? previous.getSpecialisationId() : null)
+                    .previousSpecialisationCode(previous != null ? previous.getCode() : null)
+                    .specialisationId(next != null ? next.getSpecialisationId() : null)
+                    .specialisationCode(next != null ? next.getCode() : null)
+                    .preferenceRank(next != null ? allottedPreference[rank] : null)
+                    .build());
+            writes.add(new StudentSpecialisationChange(row.studentId(),
+                    previous != null ? previous.getSpecialisationId() : null,
+                    next != null ? next.getSpecialisationId() : null));
+        }
+
+        if (!dryRun && !writes.isEmpty()) {
+            // Write in primary-key order to keep lock acquisition consistent with other bulk writers
+            writes.sort(Comparator.comparing(StudentSpecialisationChange::studentId));
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Object[]> args = new ArrayList<>(writes.size());
+                for (StudentSpecialisationChange write : writes) {
+                    args.add(new Object[]{write.specialisationId(), changeSequence.next(), write.studentId()});
+                }
+                jdbcTemplate.batchUpdate("UPDATE students SET specialisation_id = ?, change_seq = ? WHERE student_id = ?", args);
+                eventPublisher.publishEvent(new SpecialisationsAllottedEvent(joinYear, writes));
+            });
+        }
+
+        List<SpecialisationAllotmentSummaryDto> summaries = new ArrayList<>(specialisations.size());
+        for (int s = 0; s < specialisations.size(); s++) {
+            Specialisation specialisation = specialisations.get(s);
+            summaries.add(SpecialisationAllotmentSummaryDto.builder()
+                    .specialisationId(specialisation.getSpecialisationId())
+                    .code(specialisation.getCode())
+                    .capacity(specialisation.getCapacity())
+                    .retained(retained[s])
+                    .allotted(filled[s])
+                    .cutoffCgpa(lastRank[s] != NONE ? cohort.get(lastRank[s]).cgpa() : null)
+                    .build());
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("{} specialisations for join year {}: {} of {} students allotted, {} changed, in {} ms",
+                dryRun ? "Dry run allotted" : "Allotted", joinYear, allottedCount, preferences.size(), changes.size(), elapsedMillis);
+
+        return SpecialisationAllotmentResponse.builder()
+                .joinYear(joinYear)
+                .dryRun(dryRun)
+                .studentsConsidered(preferences.size())
+                .studentsAllotted(allottedCount)
+                .studentsUnallotted(preferences.size() - allottedCount)
+                .studentsChanged(changes.size())
+                .specialisations(summaries)
+                .changes(changes)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+}
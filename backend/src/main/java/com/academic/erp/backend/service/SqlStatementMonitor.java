@@ -0,0 +1,199 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.SlowQueryDto;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Times every JDBC statement through the datasource proxy. Statements slower than
+ * the threshold are logged at WARN with their bind parameters and the repository
+ * method that issued them; a sampled fraction of the rest is logged at INFO. The
+ * slowest statements taking at least {@code top-min-ms} are kept, one entry per
+ * distinct SQL string.
+ * <p>
+ * The fast path for a normal statement is one comparison and, if sampling is on, one
+ * random draw; nothing is formatted unless it is going to be logged or kept. When the
+ * calling thread has a {@link RequestTiming}, each statement is also added to its db time.
+ */
+@Component
+@Slf4j
+public class SqlStatementMonitor implements QueryExecutionListener {
+
+    private static final String APPLICATION_PACKAGE = "com.academic.erp.backend";
+    private static final int MAX_PARAMETER_LENGTH = 100;
+    private static final ThreadLocal<String> REPOSITORY_METHOD = new ThreadLocal<>();
+    // JDBC parameter indexes are ints and must sort numerically; named parameters follow by name
+    private static final Comparator<ParameterSetOperation> PARAMETER_ORDER = Comparator
+            .comparingInt((ParameterSetOperation operation) -> operation.getArgs()[0] instanceof Number index ? index.intValue() : Integer.MAX_VALUE)
+            .thenComparing(operation -> String.valueOf(operation.getArgs()[0]));
+
+    private final long slowThresholdMillis;
+    private final double sampleRate;
+    private final int topSize;
+    private final long topMinMillis;
+
+    private final List<SlowQueryDto> slowest = new ArrayList<>();
+    // Elapsed time a statement must beat to enter the slowest list once it is full
+    private volatile long slowestFloor;
+
+    public SqlStatementMonitor(@Value("${app.sql.slow-threshold-ms:200}") long slowThresholdMillis,
+                               @Value("${app.sql.sample-rate:0.0}") double sampleRate,
+                               @Value("${app.sql.top-size:20}") int topSize,
+                               @Value("${app.sql.top-min-ms:20}") long topMinMillis) {
+        this.slowThresholdMillis = slowThresholdMillis;
+        this.sampleRate = sampleRate;
+        this.topSize = topSize;
+        this.topMinMillis = topMinMillis;
+    }
+
+    /**
+     * Records the repository method running on this thread and returns the previous one,
+     * which the caller must pass back to {@link #exitRepositoryMethod} when it returns.
+     */
+    public static String enterRepositoryMethod(String method) {
+        String previous = REPOSITORY_METHOD.get();
+        REPOSITORY_METHOD.set(method);
+        return previous;
+    }
+
+    public static void exitRepositoryMethod(String previous) {
+        if (previous == null) {
+            REPOSITORY_METHOD.remove();
+        } else {
+            REPOSITORY_METHOD.set(previous);
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.queryStarted();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestTiming timing = RequestTiming.current();
+        if (timing != null) {
+            timing.queryFinished();
+        }
+        long elapsed = execInfo.getElapsedTime();
+        boolean slow = elapsed >= slowThresholdMillis;
+        boolean sampled = !slow && sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+        // Until the list is full its floor is 0, so very fast statements are kept out explicitly
+        boolean top = elapsed >= topMinMillis && elapsed > slowestFloor;
+        if (!slow && !sampled && !top) {
+            return;
+        }
+
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        String parameters = parameters(queryInfoList);
+        String caller = caller();
+        int batchSize = execInfo.isBatch() ? execInfo.getBatchSize() : 1;
+
+        if (slow) {
+            log.warn("Slow SQL ({} ms, batch {}) from {}: {} params {}", elapsed, batchSize, caller, sql, parameters);
+        } else if (sampled) {
+            log.info("Sampled SQL ({} ms, batch {}) from {}: {} params {}", elapsed, batchSize, caller, sql, parameters);
+        }
+        if (top) {
+            recordSlowest(SlowQueryDto.builder()
+                    .sql(sql)
+                    .parameters(parameters)
+                    .caller(caller)
+                    .elapsedMillis(elapsed)
+                    .batchSize(batchSize)
+                    .executedAt(Instant.now())
+                    .build());
+        }
+    }
+
+    public List<SlowQueryDto> getSlowestQueries() {
+        synchronized (slowest) {
+            return new ArrayList<>(slowest);
+        }
+    }
+
+    public void resetSlowestQueries() {
+        synchronized (slowest) {
+            slowest.clear();
+            slowestFloor = 0;
+        }
+    }
+
+    private void recordSlowest(SlowQueryDto query) {
+        synchronized (slowest) {
+            SlowQueryDto same = slowest.stream()
+                    .filter(existing -> existing.getSql().equals(query.getSql()))
+                    .findFirst()
+                    .orElse(null);
+            if (same != null) {
+                if (same.getElapsedMillis() >= query.getElapsedMillis()) {
+                    return;
+                }
+                slowest.remove(same);
+            } else if (slowest.size() >= topSize) {
+                if (slowest.get(slowest.size() - 1).getElapsedMillis() >= query.getElapsedMillis()) {
+                    return;
+                }
+                slowest.remove(slowest.size() - 1);
+            }
+            slowest.add(query);
+            slowest.sort(Comparator.comparing(SlowQueryDto::getElapsedMillis).reversed());
+            slowestFloor = slowest.size() >= topSize ? slowest.get(slowest.size() - 1).getElapsedMillis() : 0;
+        }
+    }
+
+    private static String parameters(List<QueryInfo> queryInfoList) {
+        // Batches repeat one statement; the first parameter set shows its shape
+        for (QueryInfo queryInfo : queryInfoList) {
+            if (!queryInfo.getParametersList().isEmpty()) {
+                return queryInfo.getParametersList().get(0).stream()
+                        .sorted(PARAMETER_ORDER)
+                        .map(SqlStatementMonitor::parameter)
+                        .collect(Collectors.joining(", ", "[", "]"));
+            }
+        }
+        return "[]";
+    }
+
+    private static String parameter(ParameterSetOperation operation) {
+        Object[] args = operation.getArgs();
+        if ("setNull".equals(operation.getMethod().getName())) {
+            return "null";
+        }
+        String value = args.length > 1 ? String.valueOf(args[1]) : "";
+        return value.length() > MAX_PARAMETER_LENGTH ? value.substring(0, MAX_PARAMETER_LENGTH) + "..." : value;
+    }
+
+    private static String caller() {
+        String repositoryMethod = REPOSITORY_METHOD.get();
+        if (repositoryMethod != null) {
+            return repositoryMethod;
+        }
+        // Statements issued through JdbcTemplate or the EntityManager: name the application frame
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().equals(SqlStatementMonitor.class.getName()))
+                .findFirst()
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+                .orElse("unknown"));
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,88 @@
+package com.academic.erp.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Logs where startup time went once the application is ready: total time-to-ready,
+ * time per startup phase and the slowest bean instantiations. Bean timings include
+ * the beans they depend on, since those are created inside the parent's step.
+ * <p>
+ * The buffered timeline is drained either way, so it does not hold memory after startup.
+ */
+@Component
+@Slf4j
+public class StartupTimingReporter {
+
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+
+    private final boolean enabled;
+    private final int topBeans;
+
+    public StartupTimingReporter(@Value("${app.startup.report.enabled:false}") boolean enabled,
+                                 @Value("${app.startup.report.top-beans:20}") int topBeans) {
+        this.enabled = enabled;
+        this.topBeans = topBeans;
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        StartupTimeline timeline = startup.drainBufferedTimeline();
+        if (!enabled) {
+            return;
+        }
+
+        Map<String, Duration> phases = new HashMap<>();
+        Map<String, Duration> beans = new HashMap<>();
+        for (StartupTimeline.TimelineEvent timelineEvent : timeline.getEvents()) {
+            StartupStep step = timelineEvent.getStartupStep();
+            if (BEAN_INSTANTIATE_STEP.equals(step.getName())) {
+                beans.put(beanName(step), timelineEvent.getDuration());
+            } else {
+                phases.merge(step.getName(), timelineEvent.getDuration(), Duration::plus);
+            }
+        }
+
+        StringBuilder report = new StringBuilder()
+                .append("Startup timing: ready in ").append(millis(event.getTimeTaken())).append(" ms")
+                .append(", ").append(beans.size()).append(" beans instantiated");
+        report.append(System.lineSeparator()).append("  phases:");
+        phases.entrySet().stream()
+                .sorted(Map.Entry.<String, Duration>comparingByValue().reversed())
+                .forEach(phase -> report.append(System.lineSeparator())
+                        .append(String.format("    %8d ms  %s", millis(phase.getValue()), phase.getKey())));
+        report.append(System.lineSeparator()).append("  slowest beans:");
+        beans.entrySet().stream()
+                .sorted(Map.Entry.<String, Duration>comparingByValue().reversed())
+                .limit(topBeans)
+                .forEach(bean -> report.append(System.lineSeparator())
+                        .append(String.format("    %8d ms  %s", millis(bean.getValue()), bean.getKey())));
+        log.info(report.toString());
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "step-" + step.getId();
+    }
+
+    private static long millis(Duration duration) {
+        return duration == null ? 0 : duration.toMillis();
+    }
+}
@@ -0,0 +1,185 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.DomainResponseDto;
+import com.academic.erp.backend.dto.StudentProfileDto;
+import com.academic.erp.backend.dto.StudentResponseDto;
+import com.academic.erp.backend.repository.StudentEmailRow;
+import com.academic.erp.backend.repository.StudentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Warms a freshly started node before it takes traffic: fills the connection pool,
+ * then runs the hot student and domain read paths and serializes their DTOs in every
+ * registered Jackson format, so Hibernate query plans, Jackson serializers and the
+ * JIT are ready for the first real requests.
+ * <p>
+ * It runs on the startup thread once the context is refreshed. Spring Boot marks the
+ * application ready, and {@code /api/health/ready} starts answering 200, only after
+ * this returns. Work is bounded by an iteration count and a time budget, and failures
+ * are logged rather than failing startup.
+ */
+@Component
+@Slf4j
+public class StartupWarmup {
+
+    private static final int SAMPLE_STUDENTS = 50;
+
+    private final DataSource dataSource;
+    private final StudentRepository studentRepository;
+    private final StudentQueryService studentQueryService;
+    private final DomainService domainService;
+    private final List<AbstractJackson2HttpMessageConverter> converters;
+    private final boolean enabled;
+    private final int iterations;
+    private final long budgetMillis;
+    private final int threads;
+    private final int connections;
+
+    public StartupWarmup(DataSource dataSource,
+                         StudentRepository studentRepository,
+                         StudentQueryService studentQueryService,
+                         DomainService domainService,
+                         List<AbstractJackson2HttpMessageConverter> converters,
+                         @Value("${app.warmup.enabled:true}") boolean enabled,
+                         @Value("${app.warmup.iterations:500}") int iterations,
+                         @Value("${app.warmup.budget-ms:20000}") long budgetMillis,
+                         @Value("${app.warmup.threads:4}") int threads,
+                         @Value("${app.warmup.connections:10}") int connections) {
+        this.dataSource = dataSource;
+        this.studentRepository = studentRepository;
+        this.studentQueryService = studentQueryService;
+        this.domainService = domainService;
+        this.converters = converters;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.budgetMillis = budgetMillis;
+        this.threads = threads;
+        this.connections = connections;
+    }
+
+    @EventListener
+    public void onContextRefreshed(ContextRefreshedEvent event) {
+        // Only the root context; a child context refreshing later must not warm again
+        if (!enabled || event.getApplicationContext().getParent() != null) {
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(threads, connections), r -> {
+            Thread thread = new Thread(r, "warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            int primed = primeConnections(workers, deadline);
+            List<Long> sampleIds = studentRepository.findEmailsAfter(0L, PageRequest.of(0, SAMPLE_STUDENTS)).stream()
+                    .map(StudentEmailRow::studentId)
+                    .toList();
+
+            AtomicInteger completed = new AtomicInteger();
+            AtomicInteger failures = new AtomicInteger();
+            List<Future<?>> running = new ArrayList<>();
+            for (int worker = 0; worker < threads; worker++) {
+                running.add(workers.submit(() -> {
+                    int iteration;
+                    while (System.nanoTime() < deadline && (iteration = completed.getAndIncrement()) < iterations) {
+                        try {
+                            exercise(sampleIds, iteration);
+                        } catch (RuntimeException ex) {
+                            if (failures.incrementAndGet() == 1) {
+                                log.warn("Warm-up iteration failed: {}", ex.getMessage());
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : running) {
+                future.get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+            }
+            log.info("Warm-up finished in {} ms: {} connections primed, {} iterations over {} sample students, {} failed",
+                    (System.nanoTime() - start) / 1_000_000, primed, Math.min(completed.get(), iterations),
+                    sampleIds.size(), failures.get());
+        } catch (Exception ex) {
+            log.warn("Warm-up stopped after {} ms: {}", (System.nanoTime() - start) / 1_000_000, ex.toString());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Opens up to {@code connections} connections at once so the pool is full before
+     * the first burst, rather than growing one connection per request. A pool that
+     * cannot hand out connections times out with the rest of the budget.
+     */
+    private int primeConnections(ExecutorService workers, long deadline) throws Exception {
+        List<Future<Boolean>> opened = new ArrayList<>();
+        for (int i = 0; i < connections; i++) {
+            opened.add(workers.submit(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    // Hold the connection briefly so the others cannot reuse it
+                    boolean valid = connection.isValid(2);
+                    Thread.sleep(50);
+                    return valid;
+                }
+            }));
+        }
+        int primed = 0;
+        for (Future<Boolean> future : opened) {
+            if (future.get(remainingNanos(deadline), TimeUnit.NANOSECONDS)) {
+                primed++;
+            }
+        }
+        return primed;
+    }
+
+    // What is left of the budget, plus a grace period for work that started just before it ran out
+    private static long remainingNanos(long deadline) {
+        return Math.max(0, deadline - System.nanoTime()) + TimeUnit.SECONDS.toNanos(5);
+    }
+
+    private void exercise(List<Long> sampleIds, int iteration) {
+        List<DomainResponseDto> domains = domainService.getAllDomains();
+        serialize(domains);
+        if (sampleIds.isEmpty()) {
+            return;
+        }
+
+        Long studentId = sampleIds.get(iteration % sampleIds.size());
+        StudentResponseDto student = studentQueryService.getStudent(studentId);
+        serialize(student);
+        serialize(List.of(student));
+        // The cache answers repeat lookups, so also run the queries behind it
+        studentRepository.findWithDomainByStudentId(studentId);
+        studentRepository.findWithDomainByRollNumber(student.getRollNumber());
+
+        StudentProfileDto profile = studentQueryService.getStudentProfile(studentId);
+        serialize(profile);
+        serialize(studentQueryService.getStudentProfiles(sampleIds));
+    }
+
+    private void serialize(Object payload) {
+        for (AbstractJackson2HttpMessageConverter converter : converters) {
+            try {
+                converter.getObjectMapper().writeValueAsBytes(payload);
+            } catch (Exception ex) {
+                throw new IllegalStateException("Unable to serialize " + payload.getClass().getSimpleName(), ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,387 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.StudentAnalyticsGroupDto;
+import com.academic.erp.backend.dto.StudentAnalyticsQuery;
+import com.academic.erp.backend.dto.StudentAnalyticsQuery.Dimension;
+import com.academic.erp.backend.dto.StudentAnalyticsResultDto;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Filter, group-by and aggregate scans over the {@link StudentColumnStore} snapshot,
+ * e.g. cgpa histograms per domain and join year, or credit completion per specialisation.
+ * <p>
+ * The snapshot's chunks are split into contiguous slices scanned in parallel. Each
+ * chunk is processed a column at a time: one loop selects the matching rows, one loop
+ * per grouping dimension folds that column's codes into a group number, and a last loop
+ * accumulates into per-slice primitive arrays indexed by group. Chunks whose join years
+ * fall outside the filter are skipped without being read.
+ */
+@Service
+@RequiredArgsConstructor
+public class StudentAnalyticsService {
+
+    private static final double MAX_CGPA = 10.0;
+    private static final double DEFAULT_BUCKET_WIDTH = 0.5;
+    private static final double MIN_BUCKET_WIDTH = 0.05;
+    private static final int MAX_GROUPS = 10_000;
+    private static final String UNASSIGNED = "unassigned";
+
+    private final StudentColumnStore columnStore;
+    private final ForkJoinPool scanPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    public StudentAnalyticsResultDto query(StudentAnalyticsQuery query) {
+        long start = System.nanoTime();
+        StudentColumnStore.Snapshot snapshot = columnStore.snapshot();
+        Plan plan = new Plan(query, snapshot);
+
+        int slices = Math.min(snapshot.chunks.length, scanPool.getParallelism() * 4);
+        Accumulator total = slices == 0 ? new Accumulator(plan.groups) : scanPool
+                .submit(() -> IntStream.range(0, slices).parallel()
+                        .mapToObj(slice -> scanSlice(snapshot, plan, slice, slices))
+                        .reduce(Accumulator::merge)
+                        .orElseThrow())
+                .join();
+
+        List<StudentAnalyticsGroupDto> groups = new ArrayList<>();
+        long matched = 0;
+        for (int group = 0; group < plan.groups; group++) {
+            if (total.count[group] > 0) {
+                matched += total.count[group];
+                groups.add(toDto(total, group, plan, snapshot));
+            }
+        }
+        return StudentAnalyticsResultDto.builder()
+                .groups(groups)
+                .rowsScanned((long) snapshot.rows)
+                .rowsMatched(matched)
+                .elapsedMicros((System.nanoTime() - start) / 1_000)
+                .snapshotAt(snapshot.updatedAt())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scanPool.shutdown();
+    }
+
+    private Accumulator scanSlice(StudentColumnStore.Snapshot snapshot, Plan plan, int slice, int slices) {
+        StudentColumnStore.Chunk[] chunks = snapshot.chunks;
+        int from = (int) ((long) chunks.length * slice / slices);
+        int to = (int) ((long) chunks.length * (slice + 1) / slices);
+        Accumulator accumulator = new Accumulator(plan.groups);
+        int[] selection = null;
+        int[] groups = null;
+        for (int c = from; c < to; c++) {
+            StudentColumnStore.Chunk chunk = chunks[c];
+            if (chunk.maxJoinYear < plan.joinYearFrom || chunk.minJoinYear > plan.joinYearTo) {
+                continue;
+            }
+            if (selection == null || selection.length < chunk.size) {
+                selection = new int[chunk.size];
+                groups = new int[chunk.size];
+            }
+            int selected = select(chunk, plan, selection);
+            group(chunk, plan, selection, selected, groups);
+            accumulate(chunk, snapshot.dictionaries.creditsRequired, selection, selected, groups, accumulator);
+        }
+        return accumulator;
+    }
+
+    private static int select(StudentColumnStore.Chunk chunk, Plan plan, int[] selection) {
+        int[] joinYears = chunk.joinYears;
+        int[] domainCodes = chunk.domainCodes;
+        int[] programCodes = chunk.programCodes;
+        int[] specialisationCodes = chunk.specialisationCodes;
+        double[] cgpas = chunk.cgpas;
+        boolean[] domains = plan.domains;
+        boolean[] programs = plan.programs;
+        boolean[] specialisations = plan.specialisations;
+        int selected = 0;
+        for (int row = 0; row < chunk.size; row++) {
+            int year = joinYears[row];
+            double cgpa = cgpas[row];
+            if (year < plan.joinYearFrom || year > plan.joinYearTo
+                    || (domains != null && !domains[domainCodes[row]])
+                    || (programs != null && !programs[programCodes[row]])
+                    || (specialisations != null && !specialisations[specialisationCodes[row]])
+                    // NaN fails both comparisons, so a cgpa range also drops ungraded rows
+                    || (plan.cgpaRange && !(cgpa >= plan.minCgpa && cgpa <= plan.maxCgpa))
+                    || (plan.gradedOnly && cgpa != cgpa)
+                    || (plan.ungradedOnly && cgpa == cgpa)) {
+                continue;
+            }
+            selection[selected++] = row;
+        }
+        return selected;
+    }
+
+    private static void group(StudentColumnStore.Chunk chunk, Plan plan, int[] selection, int selected, int[] groups) {
+        Arrays.fill(groups, 0, selected, 0);
+        for (int d = 0; d < plan.dimensions.length; d++) {
+            int cardinality = plan.cardinalities[d];
+            switch (plan.dimensions[d]) {
+                case JOIN_YEAR -> {
+                    int[] joinYears = chunk.joinYears;
+                    int base = plan.joinYearBase;
+                    for (int i = 0; i < selected; i++) {
+                        groups[i] = groups[i] * cardinality + joinYears[selection[i]] - base;
+                    }
+                }
+                case DOMAIN -> fold(chunk.domainCodes, cardinality, selection, selected, groups);
+                case PROGRAM -> fold(chunk.programCodes, cardinality, selection, selected, groups);
+                case SPECIALISATION -> fold(chunk.specialisationCodes, cardinality, selection, selected, groups);
+                case CGPA_BUCKET -> {
+                    double[] cgpas = chunk.cgpas;
+                    double width = plan.bucketWidth;
+                    int lastBucket = cardinality - 1;
+                    for (int i = 0; i < selected; i++) {
+                        double cgpa = cgpas[selection[i]];
+                        // Bucket 0 holds ungraded students
+                        int bucket = Double.isNaN(cgpa) ? 0 : Math.min(lastBucket, Math.max(1, 1 + (int) (cgpa / width)));
+                        groups[i] = groups[i] * cardinality + bucket;
+                    }
+                }
+            }
+        }
+    }
+
+    private static void fold(int[] codes, int cardinality, int[] selection, int selected, int[] groups) {
+        for (int i = 0; i < selected; i++) {
+            groups[i] = groups[i] * cardinality + codes[selection[i]];
+        }
+    }
+
+    private static void accumulate(StudentColumnStore.Chunk chunk, int[] creditsRequired, int[] selection, int selected,
+                                   int[] groups, Accumulator accumulator) {
+        double[] cgpas = chunk.cgpas;
+        int[] totalCredits = chunk.totalCredits;
+        int[] specialisationCodes = chunk.specialisationCodes;
+        for (int i = 0; i < selected; i++) {
+            int row = selection[i];
+            int group = groups[i];
+            int credits = totalCredits[row];
+            accumulator.count[group]++;
+            accumulator.creditSum[group] += credits;
+            double cgpa = cgpas[row];
+            if (cgpa == cgpa) {
+                accumulator.graded[group]++;
+                accumulator.cgpaSum[group] += cgpa;
+                if (cgpa < accumulator.cgpaMin[group]) {
+                    accumulator.cgpaMin[group] = cgpa;
+                }
+                if (cgpa > accumulator.cgpaMax[group]) {
+                    accumulator.cgpaMax[group] = cgpa;
+                }
+            }
+            int specialisation = specialisationCodes[row];
+            if (specialisation != 0) {
+                accumulator.specialised[group]++;
+                if (credits >= creditsRequired[specialisation]) {
+                    accumulator.completed[group]++;
+                }
+            }
+        }
+    }
+
+    private static StudentAnalyticsGroupDto toDto(Accumulator total, int group, Plan plan, StudentColumnStore.Snapshot snapshot) {
+        String[] values = new String[plan.dimensions.length];
+        int remaining = group;
+        for (int d = plan.dimensions.length - 1; d >= 0; d--) {
+            int code = remaining % plan.cardinalities[d];
+            remaining /= plan.cardinalities[d];
+            values[d] = label(plan, plan.dimensions[d], code, snapshot.dictionaries);
+        }
+        Map<String, String> key = new LinkedHashMap<>();
+        for (int d = 0; d < plan.dimensions.length; d++) {
+            key.put(name(plan.dimensions[d]), values[d]);
+        }
+
+        long graded = total.graded[group];
+        long specialised = total.specialised[group];
+        return StudentAnalyticsGroupDto.builder()
+                .key(key)
+                .students(total.count[group])
+                .graded(graded)
+                .averageCgpa(graded > 0 ? total.cgpaSum[group] / graded : null)
+                .minCgpa(graded > 0 ? total.cgpaMin[group] : null)
+                .maxCgpa(graded > 0 ? total.cgpaMax[group] : null)
+                .averageCredits((double) total.creditSum[group] / total.count[group])
+                .specialised(specialised)
+                .creditsCompleted(total.completed[group])
+                .completionRate(specialised > 0 ? (double) total.completed[group] / specialised : null)
+                .build();
+    }
+
+    private static String label(Plan plan, Dimension dimension, int code, StudentColumnStore.Dictionaries dictionaries) {
+        return switch (dimension) {
+            case JOIN_YEAR -> String.valueOf(plan.joinYearBase + code);
+            case DOMAIN -> String.valueOf(dictionaries.domainIds[code]);
+            case PROGRAM -> dictionaries.programs[code];
+            case SPECIALISATION -> dictionaries.specialisationCodes[code];
+            case CGPA_BUCKET -> code == 0 ? "ungraded"
+                    : decimal((code - 1) * plan.bucketWidth) + "-" + decimal(Math.min(MAX_CGPA, code * plan.bucketWidth));
+        };
+    }
+
+    private static String name(Dimension dimension) {
+        return switch (dimension) {
+            case JOIN_YEAR -> "joinYear";
+            case DOMAIN -> "domain";
+            case PROGRAM -> "program";
+            case SPECIALISATION -> "specialisation";
+            case CGPA_BUCKET -> "cgpaBucket";
+        };
+    }
+
+    private static String decimal(double value) {
+        return BigDecimal.valueOf(Math.round(value * 1000) / 1000.0).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * The query resolved against one snapshot: filters become year bounds and lookup
+     * tables indexed by dictionary code, and dimensions get their cardinalities.
+     */
+    private static final class Plan {
+
+        private final int joinYearFrom;
+        private final int joinYearTo;
+        private final boolean[] domains;
+        private final boolean[] programs;
+        private final boolean[] specialisations;
+        private final boolean cgpaRange;
+        private final double minCgpa;
+        private final double maxCgpa;
+        private final boolean gradedOnly;
+        private final boolean ungradedOnly;
+        private final Dimension[] dimensions;
+        private final int[] cardinalities;
+        private final int groups;
+        private final int joinYearBase;
+        private final double bucketWidth;
+
+        private Plan(StudentAnalyticsQuery query, StudentColumnStore.Snapshot snapshot) {
+            StudentColumnStore.Dictionaries dictionaries = snapshot.dictionaries;
+            joinYearFrom = query.getJoinYearFrom() != null ? query.getJoinYearFrom() : Integer.MIN_VALUE;
+            joinYearTo = query.getJoinYearTo() != null ? query.getJoinYearTo() : Integer.MAX_VALUE;
+
+            if (query.getDomainIds() != null && !query.getDomainIds().isEmpty()) {
+                domains = new boolean[dictionaries.domainIds.length];
+                for (Long domainId : query.getDomainIds()) {
+                    int code = domainId != null ? dictionaries.domainCode(domainId) : -1;
+                    if (code >= 0) {
+                        domains[code] = true;
+                    }
+                }
+            } else {
+                domains = null;
+            }
+            if (query.getPrograms() != null && !query.getPrograms().isEmpty()) {
+                programs = new boolean[dictionaries.programs.length];
+                for (String program : query.getPrograms()) {
+                    int code = dictionaries.programCode(program);
+                    if (code >= 0) {
+                        programs[code] = true;
+                    }
+                }
+            } else {
+                programs = null;
+            }
+            if (query.getSpecialisations() != null && !query.getSpecialisations().isEmpty()) {
+                specialisations = new boolean[dictionaries.specialisationCodes.length];
+                for (String specialisation : query.getSpecialisations()) {
+                    int code = UNASSIGNED.equalsIgnoreCase(specialisation) ? 0 : dictionaries.specialisationCode(specialisation);
+                    if (code >= 0) {
+                        specialisations[code] = true;
+                    }
+                }
+            } else {
+                specialisations = null;
+            }
+
+            cgpaRange = query.getMinCgpa() != null || query.getMaxCgpa() != null;
+            minCgpa = query.getMinCgpa() != null ? query.getMinCgpa() : Double.NEGATIVE_INFINITY;
+            maxCgpa = query.getMaxCgpa() != null ? query.getMaxCgpa() : Double.POSITIVE_INFINITY;
+            gradedOnly = Boolean.TRUE.equals(query.getGraded());
+            ungradedOnly = Boolean.FALSE.equals(query.getGraded());
+
+            bucketWidth = query.getCgpaBucketWidth() != null ? query.getCgpaBucketWidth() : DEFAULT_BUCKET_WIDTH;
+            if (!(bucketWidth >= MIN_BUCKET_WIDTH && bucketWidth <= MAX_CGPA)) {
+                throw new IllegalArgumentException("cgpaBucketWidth must be between " + MIN_BUCKET_WIDTH + " and " + MAX_CGPA);
+            }
+            joinYearBase = snapshot.minJoinYear;
+
+            List<Dimension> groupBy = query.getGroupBy() != null ? query.getGroupBy() : List.of();
+            if (groupBy.stream().distinct().count() != groupBy.size()) {
+                throw new IllegalArgumentException("groupBy must not repeat a dimension");
+            }
+            dimensions = groupBy.toArray(Dimension[]::new);
+            cardinalities = new int[dimensions.length];
+            long product = 1;
+            for (int d = 0; d < dimensions.length; d++) {
+                cardinalities[d] = switch (dimensions[d]) {
+                    case JOIN_YEAR -> Math.max(1, snapshot.maxJoinYear - snapshot.minJoinYear + 1);
+                    case DOMAIN -> Math.max(1, dictionaries.domainIds.length);
+                    case PROGRAM -> Math.max(1, dictionaries.programs.length);
+                    case SPECIALISATION -> dictionaries.specialisationCodes.length;
+                    case CGPA_BUCKET -> 1 + (int) Math.ceil(MAX_CGPA / bucketWidth);
+                };
+                product *= cardinalities[d];
+                if (product > MAX_GROUPS) {
+                    throw new IllegalArgumentException("groupBy would produce more than " + MAX_GROUPS + " groups");
+                }
+            }
+            groups = (int) product;
+        }
+    }
+
+    // Per-slice totals, one array slot per group
+    private static final class Accumulator {
+
+        private final long[] count;
+        private final long[] graded;
+        private final double[] cgpaSum;
+        private final double[] cgpaMin;
+        private final double[] cgpaMax;
+        private final long[] creditSum;
+        private final long[] specialised;
+        private final long[] completed;
+
+        private Accumulator(int groups) {
+            count = new long[groups];
+            graded = new long[groups];
+            cgpaSum = new double[groups];
+            cgpaMin = new double[groups];
+            cgpaMax = new double[groups];
+            creditSum = new long[groups];
+            specialised = new long[groups];
+            completed = new long[groups];
+            Arrays.fill(cgpaMin, Double.POSITIVE_INFINITY);
+            Arrays.fill(cgpaMax, Double.NEGATIVE_INFINITY);
+        }
+
+        private Accumulator merge(Accumulator other) {
+            for (int group = 0; group < count.length; group++) {
+                count[group] += other.count[group];
+                graded[group] += other.graded[group];
+                cgpaSum[group] += other.cgpaSum[group];
+                cgpaMin[group] = Math.min(cgpaMin[group], other.cgpaMin[group]);
+                cgpaMax[group] = Math.max(cgpaMax[group], other.cgpaMax[group]);
+                creditSum[group] += other.creditSum[group];
+                specialised[group] += other.specialised[group];
+                completed[group] += other.completed[group];
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.event.GradesUpdatedEvent;
+import com.academic.erp.backend.event.StudentGradeChange;
+import com.academic.erp.backend.repository.StudentCgpaRow;
+import com.academic.erp.backend.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of graded students, one cgpa-sorted cohort per join year.
+ * Each cohort is an immutable snapshot of primitive arrays ordered by cgpa descending
+ * (ties by student ID), so "cgpa >= x" is a binary search followed by a prefix scan.
+ * Updates replace the cohort snapshot atomically; readers never see a partial cohort.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StudentCgpaIndex {
+
+    private final StudentRepository studentRepository;
+
+    private final Map<Integer, Cohort> cohorts = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        Map<Integer, List<StudentCgpaRow>> byYear = new HashMap<>();
+        for (StudentCgpaRow row : studentRepository.findAllGraded()) {
+            byYear.computeIfAbsent(row.joinYear(), y -> new ArrayList<>()).add(row);
+        }
+
+        cohorts.clear();
+        byYear.forEach((year, rows) -> cohorts.put(year, Cohort.of(rows)));
+        log.info("Built cgpa index for {} cohorts in {} ms", cohorts.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public Cohort cohort(Integer joinYear) {
+        return cohorts.getOrDefault(joinYear, Cohort.EMPTY);
+    }
+
+    /**
+     * Inserts or re-positions students whose cgpa changed. The placed flag of an
+     * already indexed student is preserved; newly indexed students are unplaced.
+     */
+    public void upsert(Integer joinYear, Collection<Entry> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        cohorts.compute(joinYear, (year, current) -> (current == null ? Cohort.EMPTY : current).merge(changes));
+    }
+
+    @TransactionalEventListener
+    public void onGradesUpdated(GradesUpdatedEvent event) {
+        Map<Integer, List<Entry>> byYear = new HashMap<>();
+        for (StudentGradeChange change : event.changes()) {
+            if (change.cgpa() != null) {
+                byYear.computeIfAbsent(change.joinYear(), y -> new ArrayList<>())
+                        .add(new Entry(change.studentId(), change.cgpa()));
+            }
+        }
+        byYear.forEach(this::upsert);
+    }
+
+    public void markPlaced(Integer joinYear, Set<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return;
+        }
+        cohorts.computeIfPresent(joinYear, (year, current) -> current.withPlaced(studentIds));
+    }
+
+    public record Entry(long studentId, double cgpa) {
+    }
+
+    /**
+     * Immutable cgpa-sorted snapshot of one join year.
+     */
+    public static final class Cohort {
+
+        static final Cohort EMPTY = new Cohort(new long[0], new double[0], new BitSet());
+
+        private final long[] studentIds;
+        private final double[] cgpas;
+        private final BitSet placed;
+
+        private Cohort(long[] studentIds, double[] cgpas, BitSet placed) {
+            this.studentIds = studentIds;
+            this.cgpas = cgpas;
+            this.placed = placed;
+        }
+
+        static Cohort of(List<StudentCgpaRow> rows) {
+            rows.sort(Comparator.comparingDouble(StudentCgpaRow::cgpa).reversed()
+                    .thenComparingLong(StudentCgpaRow::studentId));
+            long[] ids = new long[rows.size()];
+            double[] grades = new double[rows.size()];
+            BitSet placed = new BitSet(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                StudentCgpaRow row = rows.get(i);
+                ids[i] = row.studentId();
+                grades[i] = row.cgpa();
+                if (row.placementId() != null) {
+                    placed.set(i);
+                }
+            }
+            return new Cohort(ids, grades, placed);
+        }
+
+        public int size() {
+            return studentIds.length;
+        }
+
+        public long studentIdAt(int position) {
+            return studentIds[position];
+        }
+
+        public double cgpaAt(int position) {
+            return cgpas[position];
+        }
+
+        public boolean isPlaced(int position) {
+            return placed.get(position);
+        }
+
+        /**
+         * First unplaced position at or after {@code from}; may be past the end.
+         */
+        public int nextUnplaced(int from) {
+            return placed.nextClearBit(from);
+        }
+
+        public int unplacedCount(int bound) {
+            return bound - placed.get(0, bound).cardinality();
+        }
+
+        /**
+         * Returns a copy of the placed flags, for callers that track claims on top of them.
+         */
+        public BitSet placedCopy() {
+            return (BitSet) placed.clone();
+        }
+
+        /**
+         * Number of leading positions whose cgpa is at least {@code minimumGrade}.
+         */
+        public int eligibleBound(double minimumGrade) {
+            int lo = 0;
+            int hi = cgpas.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (cgpas[mid] >= minimumGrade) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        Cohort merge(Collection<Entry> changes) {
+            Map<Long, Double> changed = new HashMap<>(changes.size() * 2);
+            for (Entry change : changes) {
+                changed.put(change.studentId(), change.cgpa());
+            }
+
+            Set<Long> previouslyPlaced = new HashSet<>();
+            int kept = 0;
+            long[] keptIds = new long[studentIds.length];
+            double[] keptCgpas = new double[studentIds.length];
+            BitSet keptPlaced = new BitSet(studentIds.length);
+            for (int i = 0; i < studentIds.length; i++) {
+                if (changed.containsKey(studentIds[i])) {
+                    if (placed.get(i)) {
+                        previouslyPlaced.add(studentIds[i]);
+                    }
+                    continue;
+                }
+                keptIds[kept] = studentIds[i];
+                keptCgpas[kept] = cgpas[i];
+                if (placed.get(i)) {
+                    keptPlaced.set(kept);
+                }
+                kept++;
+            }
+
+            List<Entry> incoming = new ArrayList<>(changed.size());
+            changed.forEach((id, cgpa) -> incoming.add(new Entry(id, cgpa)));
+            incoming.sort(Comparator.comparingDouble(Entry::cgpa).reversed().thenComparingLong(Entry::studentId));
+
+            int total = kept + incoming.size();
+            long[] ids = new long[total];
+            double[] grades = new double[total];
+            BitSet mergedPlaced = new BitSet(total);
+            int a = 0;
+            int b = 0;
+            for (int out = 0; out < total; out++) {
+                boolean takeKept = b >= incoming.size()
+                        || (a < kept && precedes(keptCgpas[a], keptIds[a], incoming.get(b).cgpa(), incoming.get(b).studentId()));
+                if (takeKept) {
+                    ids[out] = keptIds[a];
+                    grades[out] = keptCgpas[a];
+                    if (keptPlaced.get(a)) {
+                        mergedPlaced.set(out);
+                    }
+                    a++;
+                } else {
+                    Entry entry = incoming.get(b++);
+                    ids[out] = entry.studentId();
+                    grades[out] = entry.cgpa();
+                    if (previouslyPlaced.contains(entry.studentId())) {
+                        mergedPlaced.set(out);
+                    }
+                }
+            }
+            return new Cohort(ids, grades, mergedPlaced);
+        }
+
+        Cohort withPlaced(Set<Long> studentIdsToMark) {
+            BitSet updated = (BitSet) placed.clone();
+            for (int i = 0; i < studentIds.length; i++) {
+                if (studentIdsToMark.contains(studentIds[i])) {
+                    updated.set(i);
+                }
+            }
+            return new Cohort(studentIds, cgpas, updated);
+        }
+
+        private static boolean precedes(double cgpaA, long idA, double cgpaB, long idB) {
+            return cgpaA > cgpaB || (cgpaA == cgpaB && idA < idB);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.entity.Student;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.TreeSet;
+
+/**
+ * Monotonic sequence stamped on every JPA insert and update of a {@link Student}, so
+ * clients can ask for only the rows written since a token.
+ * <p>
+ * Transactions commit out of sequence order, so a reader must not move past a number
+ * whose transaction is still open: {@link #safePosition()} is the highest number below
+ * every in-flight one, and a client that syncs up to it can never later miss a row
+ * committed with a smaller number. The counter continues from the highest stored
+ * value and lives in this JVM, like the roll-number sequences.
+ * <p>
+ * Bulk JDBC updates of grades and placements do not stamp rows: they do not touch any
+ * field of the student list. Bulk writers that change other student fields stamp each
+ * row with {@link #next()} inside their transaction.
+ */
+@Component
+public class StudentChangeSequence {
+
+    private final JdbcTemplate jdbcTemplate;
+    // Guarded by this
+    private long current = -1;
+    private final TreeSet<Long> inFlight = new TreeSet<>();
+
+    public StudentChangeSequence(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void stamp(Student student) {
+        student.setChangeSeq(next());
+    }
+
+    /**
+     * Highest sequence number at or below which every write has committed or rolled back.
+     */
+    public synchronized long safePosition() {
+        seed();
+        return inFlight.isEmpty() ? current : inFlight.first() - 1;
+    }
+
+    /**
+     * Takes the next number; inside a transaction it counts as in flight until completion.
+     */
+    long next() {
+        long seq;
+        synchronized (this) {
+            seed();
+            seq = ++current;
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                return seq;
+            }
+            inFlight.add(seq);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (StudentChangeSequence.this) {
+                    inFlight.remove(seq);
+                }
+            }
+        });
+        return seq;
+    }
+
+    // Plain JDBC so the lookup never triggers a Hibernate flush from inside an entity callback
+    private void seed() {
+        if (current < 0) {
+            Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(change_seq), 0) FROM students", Long.class);
+            current = max != null ? max : 0;
+        }
+    }
+}
@@ -0,0 +1,516 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.event.GradesUpdatedEvent;
+import com.academic.erp.backend.event.StudentGradeChange;
+import com.academic.erp.backend.repository.StudentColumnRow;
+import com.academic.erp.backend.repository.StudentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read-only columnar copy of {@code students} for analytics scans. Join year, domain,
+ * program, specialisation, cgpa and total credits are each held in a primitive array;
+ * domains, programs and specialisations are dictionary-encoded as small int codes, and
+ * a missing cgpa is stored as NaN. Rows are split into chunks of roughly
+ * {@link #CHUNK_ROWS}, ordered by student ID.
+ * <p>
+ * Readers take the current {@link Snapshot} and scan it without locking. Changes build
+ * a new snapshot that copies only the chunks they touch: rows written through JPA are
+ * pulled every {@code refresh-interval-ms} using the {@link StudentChangeSequence}, and
+ * bulk grade updates, which do not stamp that sequence, are applied from their event.
+ * A scheduled rebuild reloads the table; a grade change that races a refresh of the
+ * same row may be overwritten by the older value until then. A rebuild and a refresh
+ * never run at once: a refresh that finds a rebuild running is skipped, since the
+ * rebuild resets the position that refresh continues from.
+ */
+@Component
+@Slf4j
+public class StudentColumnStore {
+
+    static final int CHUNK_ROWS = 1 << 16;
+
+    private final StudentRepository studentRepository;
+    private final StudentChangeSequence changeSequence;
+    private final int pageSize;
+    private final ReentrantLock maintenanceLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    // Guarded by this
+    private Encoder encoder = new Encoder();
+    private long watermark = -1;
+    private List<StudentGradeChange> gradesDuringRebuild;
+
+    public StudentColumnStore(StudentRepository studentRepository,
+                              StudentChangeSequence changeSequence,
+                              @Value("${app.analytics.page-size:10000}") int pageSize) {
+        this.studentRepository = studentRepository;
+        this.changeSequence = changeSequence;
+        this.pageSize = pageSize;
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.rebuild-interval-ms:3600000}", initialDelayString = "${app.analytics.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        maintenanceLock.lock();
+        try {
+            rebuildSnapshot();
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.refresh-interval-ms:2000}")
+    public void refresh() {
+        if (!maintenanceLock.tryLock()) {
+            return;
+        }
+        try {
+            refreshSnapshot();
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    private void rebuildSnapshot() {
+        long start = System.nanoTime();
+        synchronized (this) {
+            gradesDuringRebuild = new ArrayList<>();
+        }
+        try {
+            // Taken before reading, so rows written while the table is read are pulled again by refresh
+            long upTo = changeSequence.safePosition();
+            Encoder rebuiltEncoder = new Encoder();
+            List<Chunk> chunks = new ArrayList<>();
+            Columns columns = new Columns(CHUNK_ROWS);
+            long afterId = 0;
+            List<StudentColumnRow> page;
+            do {
+                page = studentRepository.findColumnRowsAfter(afterId, PageRequest.of(0, pageSize));
+                for (StudentColumnRow row : page) {
+                    columns.add(row, rebuiltEncoder);
+                    if (columns.size == CHUNK_ROWS) {
+                        chunks.add(columns.toChunk());
+                        columns = new Columns(CHUNK_ROWS);
+                    }
+                }
+                if (!page.isEmpty()) {
+                    afterId = page.get(page.size() - 1).studentId();
+                }
+            } while (page.size() == pageSize);
+            if (columns.size > 0) {
+                chunks.add(columns.toChunk());
+            }
+
+            Snapshot rebuilt = new Snapshot(chunks.toArray(Chunk[]::new), rebuiltEncoder.dictionaries());
+            synchronized (this) {
+                snapshot = rebuilt.withGrades(gradesDuringRebuild);
+                encoder = rebuiltEncoder;
+                watermark = upTo;
+            }
+            log.info("Built columnar student snapshot of {} rows in {} chunks in {} ms",
+                    rebuilt.rows, chunks.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            synchronized (this) {
+                gradesDuringRebuild = null;
+            }
+        }
+    }
+
+    private void refreshSnapshot() {
+        long since;
+        synchronized (this) {
+            if (watermark < 0) {
+                return;
+            }
+            since = watermark;
+        }
+        long upTo = changeSequence.safePosition();
+        if (upTo <= since) {
+            return;
+        }
+        int applied = 0;
+        List<StudentColumnRow> page;
+        do {
+            page = studentRepository.findColumnRowsChangedBetween(since, upTo, PageRequest.of(0, pageSize));
+            if (!page.isEmpty()) {
+                upsert(page);
+                applied += page.size();
+                since = page.get(page.size() - 1).changeSeq();
+            }
+        } while (page.size() == pageSize);
+        synchronized (this) {
+            watermark = Math.max(watermark, upTo);
+        }
+        log.debug("Applied {} changed students to the columnar snapshot", applied);
+    }
+
+    @TransactionalEventListener
+    public synchronized void onGradesUpdated(GradesUpdatedEvent event) {
+        if (gradesDuringRebuild != null) {
+            gradesDuringRebuild.addAll(event.changes());
+        }
+        snapshot = snapshot.withGrades(event.changes());
+    }
+
+    private synchronized void upsert(List<StudentColumnRow> rows) {
+        // Rows arrive in change order, so a later version of the same student replaces an earlier one
+        Map<Long, StudentColumnRow> latest = new TreeMap<>();
+        for (StudentColumnRow row : rows) {
+            latest.put(row.studentId(), row);
+        }
+        Columns incoming = new Columns(latest.size());
+        for (StudentColumnRow row : latest.values()) {
+            incoming.add(row, encoder);
+        }
+        snapshot = snapshot.upsert(incoming.toChunk(), encoder.dictionaries());
+    }
+
+    /**
+     * Immutable view of the whole table. Chunks are shared between successive snapshots
+     * until a change touches them.
+     */
+    public static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new Chunk[0], new Encoder().dictionaries());
+
+        final Chunk[] chunks;
+        final Dictionaries dictionaries;
+        final int rows;
+        final int minJoinYear;
+        final int maxJoinYear;
+        private final long[] chunkFirstIds;
+        private final Instant updatedAt = Instant.now();
+
+        private Snapshot(Chunk[] chunks, Dictionaries dictionaries) {
+            this.chunks = chunks;
+            this.dictionaries = dictionaries;
+            this.chunkFirstIds = new long[chunks.length];
+            int total = 0;
+            int minYear = Integer.MAX_VALUE;
+            int maxYear = Integer.MIN_VALUE;
+            for (int i = 0; i < chunks.length; i++) {
+                chunkFirstIds[i] = chunks[i].studentIds[0];
+                total += chunks[i].size;
+                minYear = Math.min(minYear, chunks[i].minJoinYear);
+                maxYear = Math.max(maxYear, chunks[i].maxJoinYear);
+            }
+            this.rows = total;
+            this.minJoinYear = total > 0 ? minYear : 0;
+            this.maxJoinYear = total > 0 ? maxYear : -1;
+        }
+
+        public int rows() {
+            return rows;
+        }
+
+        public Instant updatedAt() {
+            return updatedAt;
+        }
+
+        Snapshot upsert(Chunk incoming, Dictionaries updatedDictionaries) {
+            if (incoming.size == 0) {
+                return this;
+            }
+            List<Chunk> result = new ArrayList<>(chunks.length + 1);
+            if (chunks.length == 0) {
+                addSplit(result, incoming);
+            }
+            int from = 0;
+            for (int i = 0; i < chunks.length; i++) {
+                // Chunk i owns IDs below the next chunk's first ID; chunk 0 also owns anything smaller
+                long upper = i + 1 < chunks.length ? chunkFirstIds[i + 1] : Long.MAX_VALUE;
+                int to = from;
+                while (to < incoming.size && incoming.studentIds[to] < upper) {
+                    to++;
+                }
+                if (to == from) {
+                    result.add(chunks[i]);
+                } else {
+                    addSplit(result, Chunk.merge(chunks[i], incoming.slice(from, to)));
+                }
+                from = to;
+            }
+            return new Snapshot(result.toArray(Chunk[]::new), updatedDictionaries);
+        }
+
+        Snapshot withGrades(Collection<StudentGradeChange> changes) {
+            Chunk[] updated = null;
+            for (StudentGradeChange change : changes) {
+                int chunk = chunkIndex(change.studentId());
+                if (chunk < 0) {
+                    continue;
+                }
+                int position = Arrays.binarySearch(chunks[chunk].studentIds, change.studentId());
+                if (position < 0) {
+                    // Not pulled in yet; refresh will read the row with its current grades
+                    continue;
+                }
+                if (updated == null) {
+                    updated = chunks.clone();
+                }
+                if (updated[chunk] == chunks[chunk]) {
+                    updated[chunk] = chunks[chunk].withGradeColumnsCopied();
+                }
+                updated[chunk].cgpas[position] = change.cgpa() != null ? change.cgpa() : Double.NaN;
+                updated[chunk].totalCredits[position] = change.totalCredits() != null ? change.totalCredits() : 0;
+            }
+            return updated == null ? this : new Snapshot(updated, dictionaries);
+        }
+
+        private int chunkIndex(long studentId) {
+            int index = Arrays.binarySearch(chunkFirstIds, studentId);
+            return index >= 0 ? index : -index - 2;
+        }
+
+        private static void addSplit(List<Chunk> result, Chunk chunk) {
+            if (chunk.size <= 2 * CHUNK_ROWS) {
+                result.add(chunk);
+                return;
+            }
+            for (int from = 0; from < chunk.size; from += CHUNK_ROWS) {
+                result.add(chunk.slice(from, Math.min(chunk.size, from + CHUNK_ROWS)));
+            }
+        }
+    }
+
+    /**
+     * A run of rows ordered by student ID, one primitive array per column. Never
+     * modified once it is part of a published snapshot.
+     */
+    static final class Chunk {
+
+        final int size;
+        final long[] studentIds;
+        final int[] joinYears;
+        final int[] domainCodes;
+        final int[] programCodes;
+        // 0 when the student has no specialisation
+        final int[] specialisationCodes;
+        // NaN when the student is not graded
+        final double[] cgpas;
+        final int[] totalCredits;
+        final int minJoinYear;
+        final int maxJoinYear;
+
+        private Chunk(long[] studentIds, int[] joinYears, int[] domainCodes, int[] programCodes,
+                      int[] specialisationCodes, double[] cgpas, int[] totalCredits) {
+            this.size = studentIds.length;
+            this.studentIds = studentIds;
+            this.joinYears = joinYears;
+            this.domainCodes = domainCodes;
+            this.programCodes = programCodes;
+            this.specialisationCodes = specialisationCodes;
+            this.cgpas = cgpas;
+            this.totalCredits = totalCredits;
+            int minYear = Integer.MAX_VALUE;
+            int maxYear = Integer.MIN_VALUE;
+            for (int year : joinYears) {
+                minYear = Math.min(minYear, year);
+                maxYear = Math.max(maxYear, year);
+            }
+            this.minJoinYear = minYear;
+            this.maxJoinYear = maxYear;
+        }
+
+        Chunk slice(int from, int to) {
+            return new Chunk(Arrays.copyOfRange(studentIds, from, to), Arrays.copyOfRange(joinYears, from, to),
+                    Arrays.copyOfRange(domainCodes, from, to), Arrays.copyOfRange(programCodes, from, to),
+                    Arrays.copyOfRange(specialisationCodes, from, to), Arrays.copyOfRange(cgpas, from, to),
+                    Arrays.copyOfRange(totalCredits, from, to));
+        }
+
+        Chunk withGradeColumnsCopied() {
+            return new Chunk(studentIds, joinYears, domainCodes, programCodes, specialisationCodes,
+                    cgpas.clone(), totalCredits.clone());
+        }
+
+        /**
+         * Merges two ID-ordered chunks; where both hold a student, {@code incoming} wins.
+         */
+        static Chunk merge(Chunk current, Chunk incoming) {
+            Columns merged = new Columns(current.size + incoming.size);
+            int a = 0;
+            int b = 0;
+            while (a < current.size || b < incoming.size) {
+                if (b >= incoming.size || (a < current.size && current.studentIds[a] < incoming.studentIds[b])) {
+                    merged.copy(current, a++);
+                } else {
+                    if (a < current.size && current.studentIds[a] == incoming.studentIds[b]) {
+                        a++;
+                    }
+                    merged.copy(incoming, b++);
+                }
+            }
+            return merged.toChunk();
+        }
+    }
+
+    /**
+     * Code-to-value tables of the encoded columns, shared by every chunk of a snapshot.
+     */
+    static final class Dictionaries {
+
+        final long[] domainIds;
+        final String[] programs;
+        // Code 0 stands for no specialisation
+        final String[] specialisationCodes;
+        final int[] creditsRequired;
+
+        private Dictionaries(long[] domainIds, String[] programs, String[] specialisationCodes, int[] creditsRequired) {
+            this.domainIds = domainIds;
+            this.programs = programs;
+            this.specialisationCodes = specialisationCodes;
+            this.creditsRequired = creditsRequired;
+        }
+
+        int domainCode(long domainId) {
+            for (int code = 0; code < domainIds.length; code++) {
+                if (domainIds[code] == domainId) {
+                    return code;
+                }
+            }
+            return -1;
+        }
+
+        int programCode(String program) {
+            return Arrays.asList(programs).indexOf(program);
+        }
+
+        int specialisationCode(String code) {
+            for (int i = 1; i < specialisationCodes.length; i++) {
+                if (specialisationCodes[i].equalsIgnoreCase(code)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    // Assigns codes as new values appear; codes are never reused, so older chunks stay valid
+    private static final class Encoder {
+
+        private final Map<Long, Integer> domainCodes = new HashMap<>();
+        private final List<Long> domainIds = new ArrayList<>();
+        private final Map<String, Integer> programCodes = new HashMap<>();
+        private final List<String> programs = new ArrayList<>();
+        private final Map<Long, Integer> specialisationCodes = new HashMap<>();
+        private final List<String> specialisationLabels = new ArrayList<>(List.of("unassigned"));
+        private final List<Integer> creditsRequired = new ArrayList<>(List.of(0));
+        private Dictionaries dictionaries;
+
+        int domain(Long domainId) {
+            return domainCodes.computeIfAbsent(domainId, id -> {
+                domainIds.add(id);
+                dictionaries = null;
+                return domainIds.size() - 1;
+            });
+        }
+
+        int program(String program) {
+            return programCodes.computeIfAbsent(program != null ? program : "", value -> {
+                programs.add(value);
+                dictionaries = null;
+                return programs.size() - 1;
+            });
+        }
+
+        int specialisation(StudentColumnRow row) {
+            if (row.specialisationId() == null) {
+                return 0;
+            }
+            return specialisationCodes.computeIfAbsent(row.specialisationId(), id -> {
+                specialisationLabels.add(row.specialisationCode());
+                creditsRequired.add(row.creditsRequired() != null ? row.creditsRequired() : 0);
+                dictionaries = null;
+                return specialisationLabels.size() - 1;
+            });
+        }
+
+        Dictionaries dictionaries() {
+            if (dictionaries == null) {
+                dictionaries = new Dictionaries(
+                        domainIds.stream().mapToLong(Long::longValue).toArray(),
+                        programs.toArray(String[]::new),
+                        specialisationLabels.toArray(String[]::new),
+                        creditsRequired.stream().mapToInt(Integer::intValue).toArray());
+            }
+            return dictionaries;
+        }
+    }
+
+    // Growable column arrays used to assemble a chunk
+    private static final class Columns {
+
+        private int size;
+        private final long[] studentIds;
+        private final int[] joinYears;
+        private final int[] domainCodes;
+        private final int[] programCodes;
+        private final int[] specialisationCodes;
+        private final double[] cgpas;
+        private final int[] totalCredits;
+
+        private Columns(int capacity) {
+            studentIds = new long[capacity];
+            joinYears = new int[capacity];
+            domainCodes = new int[capacity];
+            programCodes = new int[capacity];
+            specialisationCodes = new int[capacity];
+            cgpas = new double[capacity];
+            totalCredits = new int[capacity];
+        }
+
+        void add(StudentColumnRow row, Encoder encoder) {
+            studentIds[size] = row.studentId();
+            joinYears[size] = row.joinYear() != null ? row.joinYear() : 0;
+            domainCodes[size] = encoder.domain(row.domainId());
+            programCodes[size] = encoder.program(row.program());
+            specialisationCodes[size] = encoder.specialisation(row);
+            cgpas[size] = row.cgpa() != null ? row.cgpa() : Double.NaN;
+            totalCredits[size] = row.totalCredits() != null ? row.totalCredits() : 0;
+            size++;
+        }
+
+        void copy(Chunk chunk, int row) {
+            studentIds[size] = chunk.studentIds[row];
+            joinYears[size] = chunk.joinYears[row];
+            domainCodes[size] = chunk.domainCodes[row];
+            programCodes[size] = chunk.programCodes[row];
+            specialisationCodes[size] = chunk.specialisationCodes[row];
+            cgpas[size] = chunk.cgpas[row];
+            totalCredits[size] = chunk.totalCredits[row];
+            size++;
+        }
+
+        Chunk toChunk() {
+            return new Chunk(Arrays.copyOf(studentIds, size), Arrays.copyOf(joinYears, size),
+                    Arrays.copyOf(domainCodes, size), Arrays.copyOf(programCodes, size),
+                    Arrays.copyOf(specialisationCodes, size), Arrays.copyOf(cgpas, size),
+                    Arrays.copyOf(totalCredits, size));
+        }
+    }
+}
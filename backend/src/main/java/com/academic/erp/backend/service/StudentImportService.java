@@ -0,0 +1,11 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.StudentImportResult;
+import org.springframework.core.io.Resource;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface StudentImportService {
+    StudentImportResult importCsv(MultipartFile file);
+
+    Resource getErrorReport(String importId);
+}
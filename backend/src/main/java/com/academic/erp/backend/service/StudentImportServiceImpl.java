@@ -0,0 +1,443 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.StudentAdmissionRequestDto;
+import com.academic.erp.backend.dto.StudentImportResult;
+import com.academic.erp.backend.entity.Domain;
+import com.academic.erp.backend.repository.DomainRepository;
+import com.academic.erp.backend.repository.StudentRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Imports admissions from a CSV file with a header row. The file is read one line at
+ * a time and admitted in chunks through {@link AdmissionService#admitStudents}, so
+ * memory use does not depend on the file size. Rejected rows are streamed to an error
+ * report on disk that the client can download afterwards; an import without rejections
+ * writes no report, and reports are deleted once older than the report TTL.
+ * <p>
+ * Quoted fields may contain commas, doubled quotes and line breaks. Rejections name the
+ * line a record starts on.
+ * <p>
+ * Recognised columns (case and separators ignored): firstName, lastName, email,
+ * program (or domainId), joinYear and optionally photographPath.
+ */
+@Service
+@Slf4j
+public class StudentImportServiceImpl implements StudentImportService {
+
+    private final AdmissionService admissionService;
+    private final DomainRepository domainRepository;
+    private final StudentRepository studentRepository;
+    private final Validator validator;
+    private final Path reportDirectory;
+    private final int chunkSize;
+    private final long reportTtlMillis;
+
+    public StudentImportServiceImpl(AdmissionService admissionService,
+                                    DomainRepository domainRepository,
+                                    StudentRepository studentRepository,
+                                    Validator validator,
+                                    @Value("${app.upload-dir:uploads}") String uploadRoot,
+                                    @Value("${app.import.chunk-size:500}") int chunkSize,
+                                    @Value("${app.import.report-ttl-hours:24}") long reportTtlHours) {
+        this.admissionService = admissionService;
+        this.domainRepository = domainRepository;
+        this.studentRepository = studentRepository;
+        this.validator = validator;
+        this.reportDirectory = Paths.get(uploadRoot, "import-reports").toAbsolutePath().normalize();
+        this.chunkSize = chunkSize;
+        this.reportTtlMillis = reportTtlHours * 3_600_000;
+    }
+
+    @Override
+    public StudentImportResult importCsv(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("CSV file is required");
+        }
+
+        long start = System.nanoTime();
+        String importId = UUID.randomUUID().toString();
+        ImportProgress progress = new ImportProgress(reportDirectory.resolve(importId + ".csv"));
+        // Program name -> domain ID, with empty for programs that do not exist
+        Map<String, Optional<Long>> domainIds = new HashMap<>();
+
+        boolean imported = false;
+        try (CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)));
+             progress) {
+            List<String> header = reader.next();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV file is empty");
+            }
+            Columns columns = Columns.of(header);
+
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            List<String> fields;
+            while ((fields = reader.next()) != null) {
+                if (fields.size() == 1 && fields.get(0).isBlank()) {
+                    continue;
+                }
+                progress.rowsRead++;
+                ImportRow row = toRow(reader.recordLine(), fields, columns, domainIds, progress);
+                if (row != null) {
+                    chunk.add(row);
+                }
+                if (chunk.size() >= chunkSize) {
+                    admitChunk(chunk, progress);
+                    chunk.clear();
+                }
+            }
+            admitChunk(chunk, progress);
+            imported = true;
+        } catch (IOException ex) {
+            throw new RuntimeException("Unable to import CSV file", ex);
+        } finally {
+            if (!imported) {
+                // A failed import returns no ID, so nobody can download its partial report
+                deleteReport(progress.reportFile);
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("CSV import {}: {} rows, {} admitted, {} rejected in {} ms",
+                importId, progress.rowsRead, progress.rowsAdmitted, progress.rowsRejected, elapsedMillis);
+
+        return StudentImportResult.builder()
+                .importId(importId)
+                .rowsRead(progress.rowsRead)
+                .rowsAdmitted(progress.rowsAdmitted)
+                .rowsRejected(progress.rowsRejected)
+                .elapsedMillis(elapsedMillis)
+                .errorReportUrl(progress.rowsRejected > 0 ? "/api/students/import/" + importId + "/errors" : null)
+                .build();
+    }
+
+    @Override
+    public Resource getErrorReport(String importId) {
+        Path report = reportDirectory.resolve(importId + ".csv").normalize();
+        if (!report.startsWith(reportDirectory) || !Files.exists(report)) {
+            throw new IllegalArgumentException("Unknown import: " + importId);
+        }
+        return new FileSystemResource(report);
+    }
+
+    @Scheduled(fixedDelayString = "${app.import.report-sweep-interval-ms:3600000}")
+    public void expireReports() {
+        if (!Files.isDirectory(reportDirectory)) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - reportTtlMillis;
+        int deleted = 0;
+        try (DirectoryStream<Path> reports = Files.newDirectoryStream(reportDirectory, "*.csv")) {
+            for (Path report : reports) {
+                if (Files.getLastModifiedTime(report).toMillis() < cutoff && Files.deleteIfExists(report)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException ex) {
+            log.warn("Unable to clean up import reports in {}", reportDirectory, ex);
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} expired import error reports", deleted);
+        }
+    }
+
+    private ImportRow toRow(long lineNumber, List<String> fields, Columns columns,
+                            Map<String, Optional<Long>> domainIds, ImportProgress progress) throws IOException {
+        String email = columns.get(fields, columns.email);
+
+        Long domainId;
+        if (columns.domainId >= 0) {
+            domainId = parseLong(columns.get(fields, columns.domainId));
+        } else {
+            String program = columns.get(fields, columns.program);
+            domainId = program == null ? null : domainIds.computeIfAbsent(program,
+                    p -> domainRepository.findByProgram(p).map(Domain::getDomainId)).orElse(null);
+            if (program != null && domainId == null) {
+                progress.reject(lineNumber, email, "Unknown program: " + program);
+                return null;
+            }
+        }
+
+        String joinYear = columns.get(fields, columns.joinYear);
+        Integer parsedJoinYear = joinYear == null ? null : parseInteger(joinYear);
+        if (joinYear != null && parsedJoinYear == null) {
+            progress.reject(lineNumber, email, "Join year must be a number");
+            return null;
+        }
+
+        StudentAdmissionRequestDto request = StudentAdmissionRequestDto.builder()
+                .firstName(columns.get(fields, columns.firstName))
+                .lastName(columns.get(fields, columns.lastName))
+                .email(email)
+                .photographPath(columns.get(fields, columns.photographPath))
+                .domainId(domainId)
+                .joinYear(parsedJoinYear)
+                .build();
+
+        Set<ConstraintViolation<StudentAdmissionRequestDto>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            progress.reject(lineNumber, email, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return null;
+        }
+        return new ImportRow(lineNumber, request);
+    }
+
+    private void admitChunk(List<ImportRow> chunk, ImportProgress progress) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // Reject duplicates up front so one known conflict does not roll back the whole chunk
+        Set<String> existing = new HashSet<>(studentRepository.findExistingEmails(
+                chunk.stream().map(row -> row.request().getEmail()).toList()));
+        Set<String> seen = new HashSet<>();
+        List<ImportRow> admissible = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            String email = row.request().getEmail();
+            if (existing.contains(email) || !seen.add(email)) {
+                progress.reject(row.lineNumber(), email, "Email already exists");
+            } else {
+                admissible.add(row);
+            }
+        }
+        if (admissible.isEmpty()) {
+            return;
+        }
+
+        try {
+            admissionService.admitStudents(admissible.stream().map(ImportRow::request).toList());
+            progress.rowsAdmitted += admissible.size();
+        } catch (RuntimeException ex) {
+            log.debug("Import chunk of {} failed, admitting rows individually: {}", admissible.size(), ex.getMessage());
+            for (ImportRow row : admissible) {
+                try {
+                    admissionService.admitStudent(row.request());
+                    progress.rowsAdmitted++;
+                } catch (RuntimeException single) {
+                    progress.reject(row.lineNumber(), row.request().getEmail(), single.getMessage());
+                }
+            }
+        }
+    }
+
+    private static Long parseLong(String value) {
+        try {
+            return value == null ? null : Long.valueOf(value);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private static Integer parseInteger(String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private record ImportRow(long lineNumber, StudentAdmissionRequestDto request) {
+    }
+
+    private void deleteReport(Path reportFile) {
+        try {
+            Files.deleteIfExists(reportFile);
+        } catch (IOException ex) {
+            log.warn("Unable to remove import report {}", reportFile, ex);
+        }
+    }
+
+    /**
+     * Counts rows and writes rejections to the error report, which is created on the
+     * first rejection.
+     */
+    private final class ImportProgress implements Closeable {
+
+        private final Path reportFile;
+        private long rowsRead;
+        private long rowsAdmitted;
+        private long rowsRejected;
+        private Writer report;
+
+        private ImportProgress(Path reportFile) {
+            this.reportFile = reportFile;
+        }
+
+        private void reject(long lineNumber, String email, String reason) throws IOException {
+            if (report == null) {
+                Files.createDirectories(reportDirectory);
+                report = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8);
+                report.write("line,email,reason");
+                report.write(System.lineSeparator());
+            }
+            rowsRejected++;
+            report.write(lineNumber + "," + csvField(email) + "," + csvField(reason));
+            report.write(System.lineSeparator());
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (report != null) {
+                report.close();
+            }
+        }
+    }
+
+    /**
+     * Reads CSV records, honouring double-quoted fields, doubled quotes inside them and
+     * quoted fields that continue onto following lines.
+     */
+    static final class CsvReader implements Closeable {
+
+        // An unterminated quote would otherwise read the rest of the file into one field
+        private static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+        private final BufferedReader reader;
+        private long lineNumber;
+        private long recordLine;
+
+        CsvReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * @return the next record's fields, or null at the end of the input
+         */
+        List<String> next() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            recordLine = ++lineNumber;
+            List<String> fields = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (quoted) {
+                        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            current.append('"');
+                            i++;
+                        } else if (c == '"') {
+                            quoted = false;
+                        } else {
+                            current.append(c);
+                        }
+                    } else if (c == '"') {
+                        quoted = true;
+                    } else if (c == ',') {
+                        fields.add(current.toString());
+                        current.setLength(0);
+                    } else {
+                        current.append(c);
+                    }
+                }
+                if (!quoted || (line = reader.readLine()) == null) {
+                    break;
+                }
+                lineNumber++;
+                current.append('\n');
+                if (current.length() > MAX_RECORD_LENGTH) {
+                    throw new IllegalArgumentException("Line " + recordLine + ": quoted field is not closed");
+                }
+            }
+            fields.add(current.toString());
+            return fields;
+        }
+
+        /**
+         * Line number the last record returned by {@link #next()} starts on.
+         */
+        long recordLine() {
+            return recordLine;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * Column positions resolved from the header row; -1 when a column is absent.
+     */
+    private static final class Columns {
+
+        private int firstName = -1;
+        private int lastName = -1;
+        private int email = -1;
+        private int program = -1;
+        private int domainId = -1;
+        private int joinYear = -1;
+        private int photographPath = -1;
+
+        private static Columns of(List<String> header) {
+            Columns columns = new Columns();
+            for (int i = 0; i < header.size(); i++) {
+                switch (header.get(i).replaceAll("[^A-Za-z]", "").toLowerCase()) {
+                    case "firstname" -> columns.firstName = i;
+                    case "lastname" -> columns.lastName = i;
+                    case "email" -> columns.email = i;
+                    case "program", "domain", "domainprogram" -> columns.program = i;
+                    case "domainid" -> columns.domainId = i;
+                    case "joinyear" -> columns.joinYear = i;
+                    case "photographpath", "photo" -> columns.photographPath = i;
+                    default -> {
+                    }
+                }
+            }
+            if (columns.firstName < 0 || columns.lastName < 0 || columns.email < 0 || columns.joinYear < 0
+                    || (columns.program < 0 && columns.domainId < 0)) {
+                throw new IllegalArgumentException(
+                        "CSV header must include firstName, lastName, email, program (or domainId) and joinYear");
+            }
+            return columns;
+        }
+
+        private String get(List<String> fields, int index) {
+            if (index < 0 || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.StudentResponseDto;
+import com.academic.erp.backend.event.GradesUpdatedEvent;
+import com.academic.erp.backend.event.StudentAdmittedEvent;
+import com.academic.erp.backend.event.StudentGradeChange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of single-student lookups, reachable by student ID and by roll
+ * number. Entries expire after a TTL and are dropped when a committed admission or
+ * grade update touches the student.
+ * <p>
+ * A load that started before an invalidation is not cached, so a value read just
+ * before a commit cannot overwrite the invalidation that followed it.
+ */
+@Component
+public class StudentLookupCache {
+
+    private final long ttlMillis;
+    private final Map<Long, CachedStudent> byId;
+    private final Map<String, Long> idsByRollNumber = new HashMap<>();
+    private long generation;
+
+    public StudentLookupCache(@Value("${app.students.cache.max-size:10000}") int maxSize,
+                              @Value("${app.students.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.byId = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedStudent> eldest) {
+                if (size() > maxSize) {
+                    idsByRollNumber.remove(eldest.getValue().student().getRollNumber());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public StudentResponseDto getById(Long studentId, Supplier<StudentResponseDto> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            StudentResponseDto cached = live(studentId);
+            if (cached != null) {
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+        return store(loader.get(), loadGeneration);
+    }
+
+    public StudentResponseDto getByRollNumber(String rollNumber, Supplier<StudentResponseDto> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Long studentId = idsByRollNumber.get(rollNumber);
+            StudentResponseDto cached = studentId != null ? live(studentId) : null;
+            if (cached != null) {
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+        return store(loader.get(), loadGeneration);
+    }
+
+    @TransactionalEventListener
+    public synchronized void onStudentAdmitted(StudentAdmittedEvent event) {
+        generation++;
+        evict(event.studentId());
+        Long previousHolder = idsByRollNumber.get(event.rollNumber());
+        if (previousHolder != null) {
+            evict(previousHolder);
+        }
+    }
+
+    @TransactionalEventListener
+    public synchronized void onGradesUpdated(GradesUpdatedEvent event) {
+        generation++;
+        for (StudentGradeChange change : event.changes()) {
+            evict(change.studentId());
+        }
+    }
+
+    private StudentResponseDto live(Long studentId) {
+        CachedStudent cached = byId.get(studentId);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt() < System.currentTimeMillis()) {
+            evict(studentId);
+            return null;
+        }
+        return cached.student();
+    }
+
+    private synchronized StudentResponseDto store(StudentResponseDto student, long loadGeneration) {
+        if (loadGeneration == generation) {
+            evict(student.getStudentId());
+            byId.put(student.getStudentId(), new CachedStudent(student, System.currentTimeMillis() + ttlMillis));
+            idsByRollNumber.put(student.getRollNumber(), student.getStudentId());
+        }
+        return student;
+    }
+
+    private void evict(Long studentId) {
+        CachedStudent removed = byId.remove(studentId);
+        if (removed != null) {
+            idsByRollNumber.remove(removed.student().getRollNumber(), studentId);
+        }
+    }
+
+    private record CachedStudent(StudentResponseDto student, long expiresAt) {
+    }
+}
@@ -1,8 +1,22 @@
 package com.academic.erp.backend.service;
 
+import com.academic.erp.backend.dto.StudentChangesDto;
+import com.academic.erp.backend.dto.StudentProfileDto;
 import com.academic.erp.backend.dto.StudentResponseDto;
 import java.util.List;
 
 public interface StudentQueryService {
     List<StudentResponseDto> getAllStudents();
+
+    StudentResponseDto getStudent(Long studentId);
+
+    StudentResponseDto getStudentByRollNumber(String rollNumber);
+
+    StudentProfileDto getStudentProfile(Long studentId);
+
+    List<StudentProfileDto> getStudentProfiles(List<Long> studentIds);
+
+    String currentChangeToken();
+
+    StudentChangesDto getChangesSince(String token);
 }
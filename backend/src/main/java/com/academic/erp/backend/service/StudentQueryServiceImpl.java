@@ -1,18 +1,44 @@
 package com.academic.erp.backend.service;
 
+import com.academic.erp.backend.dto.StudentChangesDto;
+import com.academic.erp.backend.dto.StudentProfileDto;
 import com.academic.erp.backend.dto.StudentResponseDto;
+import com.academic.erp.backend.entity.Placement;
+import com.academic.erp.backend.entity.Specialisation;
 import com.academic.erp.backend.entity.Student;
+import com.academic.erp.backend.exception.StudentNotFoundException;
 import com.academic.erp.backend.repository.StudentRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
-@RequiredArgsConstructor
 public class StudentQueryServiceImpl implements StudentQueryService {
 
+    // Upper bound on one IN list, so a profile batch stays a single bounded query
+    private static final int MAX_PROFILE_BATCH = 500;
+
     private final StudentRepository studentRepository;
+    private final StudentLookupCache lookupCache;
+    private final StudentChangeSequence changeSequence;
+    private final int maxChanges;
+
+    public StudentQueryServiceImpl(StudentRepository studentRepository,
+                                   StudentLookupCache lookupCache,
+                                   StudentChangeSequence changeSequence,
+                                   @Value("${app.students.changes.max-changes:1000}") int maxChanges) {
+        this.studentRepository = studentRepository;
+        this.lookupCache = lookupCache;
+        this.changeSequence = changeSequence;
+        this.maxChanges = maxChanges;
+    }
 
     private StudentResponseDto toDto(Student s) {
         return StudentResponseDto.builder()
@@ -33,4 +59,131 @@ public class StudentQueryServiceImpl implements StudentQueryService {
                 .map(this::toDto)
                 .toList();
     }
+
+    @Override
+    public StudentResponseDto getStudent(Long studentId) {
+        return lookupCache.getById(studentId, () -> studentRepository.findWithDomainByStudentId(studentId)
+                .map(this::toDto)
+                .orElseThrow(() -> new StudentNotFoundException("Student not found: " + studentId)));
+    }
+
+    @Override
+    public StudentResponseDto getStudentByRollNumber(String rollNumber) {
+        return lookupCache.getByRollNumber(rollNumber, () -> studentRepository.findWithDomainByRollNumber(rollNumber)
+                .map(this::toDto)
+                .orElseThrow(() -> new StudentNotFoundException("Student not found: " + rollNumber)));
+    }
+
+    @Override
+    public StudentProfileDto getStudentProfile(Long studentId) {
+        return studentRepository.findProfileByStudentId(studentId)
+                .map(this::toProfileDto)
+                .orElseThrow(() -> new StudentNotFoundException("Student not found: " + studentId));
+    }
+
+    /**
+     * Loads all requested profiles, with their domain, specialisation, placement and
+     * organisation, in one query. Unknown IDs are skipped; results follow the request order.
+     */
+    @Override
+    public List<StudentProfileDto> getStudentProfiles(List<Long> studentIds) {
+        Set<Long> distinctIds = new LinkedHashSet<>(studentIds);
+        if (distinctIds.size() > MAX_PROFILE_BATCH) {
+            throw new IllegalArgumentException("At most " + MAX_PROFILE_BATCH + " student IDs can be requested at once");
+        }
+        if (distinctIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Student> students = new HashMap<>();
+        studentRepository.findProfilesByStudentIdIn(distinctIds)
+                .forEach(student -> students.put(student.getStudentId(), student));
+        return distinctIds.stream()
+                .map(students::get)
+                .filter(Objects::nonNull)
+                .map(this::toProfileDto)
+                .toList();
+    }
+
+    /**
+     * Token for the student list as it stands now. Taken before reading the list, a row
+     * written in between is at worst sent again by the next delta, never skipped.
+     */
+    @Override
+    public String currentChangeToken() {
+        return Long.toString(changeSequence.safePosition());
+    }
+
+    /**
+     * Students inserted or updated since {@code token}, oldest first, with the token to
+     * pass next time. Asks for a full reload instead when the token is unreadable, ahead
+     * of the sequence (e.g. after a database restore), or more than {@code max-changes}
+     * rows behind, where reloading the list is cheaper than the delta.
+     */
+    @Override
+    public StudentChangesDto getChangesSince(String token) {
+        long upTo = changeSequence.safePosition();
+        long since;
+        try {
+            since = Long.parseLong(token);
+        } catch (NumberFormatException ex) {
+            return resync(upTo);
+        }
+        if (since < 0 || since > upTo) {
+            return resync(upTo);
+        }
+
+        List<Student> changed = studentRepository.findChangedBetween(since, upTo, PageRequest.of(0, maxChanges + 1));
+        if (changed.size() > maxChanges) {
+            return resync(upTo);
+        }
+        return StudentChangesDto.builder()
+                .changes(changed.stream().map(this::toDto).toList())
+                .token(Long.toString(upTo))
+                .resyncRequired(false)
+                .build();
+    }
+
+    private static StudentChangesDto resync(long upTo) {
+        return StudentChangesDto.builder()
+                .changes(List.of())
+                .token(Long.toString(upTo))
+                .resyncRequired(true)
+                .build();
+    }
+
+    private StudentProfileDto toProfileDto(Student s) {
+        StudentProfileDto.StudentProfileDtoBuilder profile = StudentProfileDto.builder()
+                .studentId(s.getStudentId())
+                .rollNumber(s.getRollNumber())
+                .firstName(s.getFirstName())
+                .lastName(s.getLastName())
+                .email(s.getEmail())
+                .photographPath(s.getPhotographPath())
+                .joinYear(s.getJoinYear())
+                .totalCredits(s.getTotalCredits())
+                .cgpa(s.getCgpa())
+                .domainId(s.getDomain().getDomainId())
+                .domainProgram(s.getDomain().getProgram())
+                .domainBatch(s.getDomain().getBatch())
+                .domainQualification(s.getDomain().getQualification());
+
+        Specialisation specialisation = s.getSpecialisation();
+        if (specialisation != null) {
+            profile.specialisationId(specialisation.getSpecialisationId())
+                    .specialisationCode(specialisation.getCode())
+                    .specialisationName(specialisation.getName());
+        }
+
+        Placement placement = s.getPlacement();
+        if (placement != null) {
+            profile.placementId(placement.getPlacementId())
+                    .placementProfile(placement.getProfile());
+            if (placement.getOrganisation() != null) {
+                profile.organisationId(placement.getOrganisation().getOrganisationId())
+                        .organisationName(placement.getOrganisation().getName());
+            }
+        }
+        return profile.build();
+    }
 }
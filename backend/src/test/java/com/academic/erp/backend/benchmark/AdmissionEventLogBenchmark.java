@@ -0,0 +1,69 @@
+package com.academic.erp.backend.benchmark;
+
+import com.academic.erp.backend.event.StudentAdmittedEvent;
+import com.academic.erp.backend.service.AdmissionEventLog;
+import com.academic.erp.backend.service.AdmissionLogReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures append and replay throughput of the admission event log. Skipped in normal
+ * builds; run it with {@code mvn test -Dtest=AdmissionEventLogBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AdmissionEventLogBenchmark {
+
+    private static final int RECORDS = 2_000_000;
+    private static final int REPLAY_ROUNDS = 5;
+
+    @Test
+    void appendAndReplay(@TempDir Path directory) throws IOException {
+        AdmissionEventLog log = new AdmissionEventLog(directory.toString(), 64L << 20, 4L << 30);
+        String[] programs = {"M.Tech CSE", "M.Tech ECE", "iMTech CSE", "iMTech ECE", "MS by Research"};
+
+        long start = System.nanoTime();
+        for (int i = 0; i < RECORDS; i++) {
+            log.append(new StudentAdmittedEvent((long) i + 1, String.format("MT2024%03d", i % 1000), "First" + i, "Last" + i,
+                    "student" + i + "@iiitb.ac.in", (long) (i % programs.length) + 1, programs[i % programs.length], 2020 + i % 5), i);
+        }
+        report("append", RECORDS, System.nanoTime() - start);
+        System.out.printf("log size: %,d bytes%n", log.endOffset() - log.startOffset());
+
+        for (int round = 0; round < REPLAY_ROUNDS; round++) {
+            start = System.nanoTime();
+            AdmissionLogReader reader = log.reader(0);
+            long count = 0;
+            long checksum = 0;
+            while (reader.next()) {
+                count++;
+                checksum += reader.studentId() + reader.joinYear();
+            }
+            report("replay ids", count, System.nanoTime() - start);
+            assertEquals(RECORDS, count);
+
+            start = System.nanoTime();
+            reader = log.reader(0);
+            count = 0;
+            while (reader.next()) {
+                count++;
+                checksum += reader.rollNumber().length();
+            }
+            report("replay strings", count, System.nanoTime() - start);
+            if (checksum == 0) {
+                throw new AssertionError();
+            }
+        }
+        log.close();
+    }
+
+    private static void report(String phase, long records, long nanos) {
+        System.out.printf("%-15s %,12d records in %8.1f ms = %,14.0f records/s%n",
+                phase, records, nanos / 1e6, records / (nanos / 1e9));
+    }
+}
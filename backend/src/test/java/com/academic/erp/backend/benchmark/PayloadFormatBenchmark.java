@@ -0,0 +1,90 @@
+package com.academic.erp.backend.benchmark;
+
+import com.academic.erp.backend.dto.StudentResponseDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares payload size and serialization time of the student list in JSON, Smile and
+ * CBOR, with and without gzip. Skipped in normal builds; run it with
+ * {@code mvn test -Dtest=PayloadFormatBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PayloadFormatBenchmark {
+
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 20;
+
+    @Test
+    void compareFormats() throws IOException {
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("json", new ObjectMapper(new JsonFactory()));
+        mappers.put("smile", new ObjectMapper(new SmileFactory()));
+        mappers.put("cbor", new ObjectMapper(new CBORFactory()));
+
+        for (int size : new int[]{10_000, 100_000}) {
+            List<StudentResponseDto> students = students(size);
+            System.out.printf("%n%,d students%n", size);
+            System.out.printf("%-6s %12s %12s %14s %14s%n", "format", "bytes", "gzip bytes", "serialize ms", "gzip ms");
+            for (Map.Entry<String, ObjectMapper> entry : mappers.entrySet()) {
+                ObjectMapper mapper = entry.getValue();
+                byte[] payload = mapper.writeValueAsBytes(students);
+                byte[] compressed = gzip(payload);
+
+                for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                    gzip(mapper.writeValueAsBytes(students));
+                }
+                long serializeNanos = 0;
+                long gzipNanos = 0;
+                for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                    long start = System.nanoTime();
+                    byte[] bytes = mapper.writeValueAsBytes(students);
+                    long serialized = System.nanoTime();
+                    gzip(bytes);
+                    serializeNanos += serialized - start;
+                    gzipNanos += System.nanoTime() - serialized;
+                }
+
+                System.out.printf("%-6s %,12d %,12d %14.2f %14.2f%n", entry.getKey(), payload.length, compressed.length,
+                        serializeNanos / 1e6 / MEASURED_ROUNDS, gzipNanos / 1e6 / MEASURED_ROUNDS);
+            }
+        }
+    }
+
+    private static List<StudentResponseDto> students(int count) {
+        String[] programs = {"M.Tech CSE", "M.Tech ECE", "iMTech CSE", "iMTech ECE", "MS by Research"};
+        List<StudentResponseDto> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            students.add(StudentResponseDto.builder()
+                    .studentId((long) i + 1)
+                    .rollNumber(String.format("MT2024%03d", i % 1000))
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("student" + i + "@iiitb.ac.in")
+                    .domainProgram(programs[i % programs.length])
+                    .joinYear(2020 + i % 5)
+                    .build());
+        }
+        return students;
+    }
+
+    private static byte[] gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        }
+        return out.toByteArray();
+    }
+}
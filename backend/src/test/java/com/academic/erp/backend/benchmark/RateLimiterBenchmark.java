@@ -0,0 +1,85 @@
+package com.academic.erp.backend.benchmark;
+
+import com.academic.erp.backend.service.RateLimiter;
+import com.academic.erp.backend.service.RateLimiter.EndpointClass;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Measures rate-limit checks per second across threads, for one hot caller, for many
+ * distinct callers, and with the idle sweep running alongside. Skipped in normal
+ * builds; run it with {@code mvn test -Dtest=RateLimiterBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RateLimiterBenchmark {
+
+    private static final int THREADS = 8;
+    private static final int CHECKS_PER_THREAD = 2_000_000;
+    private static final int CALLERS = 50_000;
+    private static final int ROUNDS = 3;
+
+    @Test
+    void tryAcquire() throws InterruptedException {
+        String[] callers = new String[CALLERS];
+        for (int i = 0; i < callers.length; i++) {
+            callers[i] = "user" + i;
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            run("one caller", limiter(), new String[]{"hot"}, false);
+            run("many callers", limiter(), callers, false);
+            run("many + sweep", limiter(), callers, true);
+        }
+    }
+
+    private static void run(String phase, RateLimiter limiter, String[] callers, boolean sweep) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sweeper = new Thread(() -> {
+            while (running.get()) {
+                limiter.evictIdle();
+            }
+        });
+        if (sweep) {
+            sweeper.start();
+        }
+
+        long[] granted = new long[THREADS];
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int worker = t;
+            workers.add(new Thread(() -> {
+                for (int i = 0; i < CHECKS_PER_THREAD; i++) {
+                    if (limiter.tryAcquire(EndpointClass.ADMISSION, callers[(i * THREADS + worker) % callers.length]) == 0) {
+                        granted[worker]++;
+                    }
+                }
+            }));
+        }
+        long start = System.nanoTime();
+        workers.forEach(Thread::start);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long nanos = System.nanoTime() - start;
+        running.set(false);
+        if (sweep) {
+            sweeper.join();
+        }
+
+        long checks = (long) THREADS * CHECKS_PER_THREAD;
+        long total = 0;
+        for (long count : granted) {
+            total += count;
+        }
+        System.out.printf("%-15s %,12d checks in %8.1f ms = %,14.0f checks/s, %,d granted%n",
+                phase, checks, nanos / 1e6, checks / (nanos / 1e9), total);
+    }
+
+    private static RateLimiter limiter() {
+        return new RateLimiter(60, 10, 30, 5, 600, 40, 6, 2, 100_000, 32);
+    }
+}
@@ -0,0 +1,81 @@
+package com.academic.erp.backend.benchmark;
+
+import com.academic.erp.backend.dto.StudentAnalyticsQuery;
+import com.academic.erp.backend.dto.StudentAnalyticsQuery.Dimension;
+import com.academic.erp.backend.dto.StudentAnalyticsResultDto;
+import com.academic.erp.backend.repository.StudentColumnRow;
+import com.academic.erp.backend.repository.StudentRepository;
+import com.academic.erp.backend.service.StudentAnalyticsService;
+import com.academic.erp.backend.service.StudentChangeSequence;
+import com.academic.erp.backend.service.StudentColumnStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures scans of the columnar student snapshot over synthetic rows. Skipped in
+ * normal builds; run it with {@code mvn test -Dtest=StudentAnalyticsBenchmark -Dbenchmark=true}
+ * and enough heap, e.g. {@code -DargLine=-Xmx4g}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StudentAnalyticsBenchmark {
+
+    private static final int ROWS = 10_000_000;
+    private static final int PAGE_SIZE = 100_000;
+    private static final int ROUNDS = 10;
+
+    @Test
+    void scan() {
+        String[] programs = {"M.Tech CSE", "M.Tech ECE", "iMTech CSE", "iMTech ECE", "MS by Research"};
+        String[] specialisations = {"AI", "SYS", "NET", "VLSI", "DS", "TSCD"};
+        StudentRepository repository = mock(StudentRepository.class);
+        when(repository.findColumnRowsAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            List<StudentColumnRow> page = new ArrayList<>(PAGE_SIZE);
+            for (long id = afterId + 1; id <= Math.min(ROWS, afterId + PAGE_SIZE); id++) {
+                int spec = (int) (id % (specialisations.length + 1));
+                page.add(new StudentColumnRow(id, 2018 + (int) (id % 8), id % programs.length + 1, programs[(int) (id % programs.length)],
+                        spec == 0 ? null : (long) spec, spec == 0 ? null : specialisations[spec - 1], 20,
+                        id % 10 == 0 ? null : (id * 7919 % 1000) / 100.0, (int) (id % 40), id));
+            }
+            return page;
+        });
+        StudentChangeSequence changeSequence = mock(StudentChangeSequence.class);
+        when(changeSequence.safePosition()).thenReturn(0L);
+
+        StudentColumnStore store = new StudentColumnStore(repository, changeSequence, PAGE_SIZE);
+        long start = System.nanoTime();
+        store.rebuild();
+        System.out.printf("build %,d rows in %.1f ms%n", store.snapshot().rows(), (System.nanoTime() - start) / 1e6);
+        StudentAnalyticsService analytics = new StudentAnalyticsService(store);
+
+        StudentAnalyticsQuery histogram = StudentAnalyticsQuery.builder()
+                .groupBy(List.of(Dimension.DOMAIN, Dimension.JOIN_YEAR, Dimension.CGPA_BUCKET))
+                .build();
+        StudentAnalyticsQuery completion = StudentAnalyticsQuery.builder()
+                .groupBy(List.of(Dimension.SPECIALISATION))
+                .joinYearFrom(2020)
+                .minCgpa(6.0)
+                .build();
+        for (int round = 0; round < ROUNDS; round++) {
+            report("histogram", analytics.query(histogram));
+            report("completion", analytics.query(completion));
+        }
+        assertEquals(ROWS, analytics.query(histogram).getRowsMatched());
+        analytics.shutdown();
+    }
+
+    private static void report(String name, StudentAnalyticsResultDto result) {
+        System.out.printf("%-10s %,12d rows, %,7d matched groups in %8.2f ms%n",
+                name, result.getRowsScanned(), result.getGroups().size(), result.getElapsedMicros() / 1e3);
+    }
+}
@@ -0,0 +1,122 @@
+package com.academic.erp.backend.repository;
+
+import com.academic.erp.backend.entity.Domain;
+import com.academic.erp.backend.entity.Organisation;
+import com.academic.erp.backend.entity.Placement;
+import com.academic.erp.backend.entity.Specialisation;
+import com.academic.erp.backend.entity.Student;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the JDBC statements behind the profile queries, so a change that brings back
+ * per-association selects fails here rather than in production.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:profiles;MODE=MySQL;NON_KEYWORDS=YEAR;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class StudentProfileQueryTests {
+
+    private static final int STUDENTS = 5;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> studentIds = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Domain domain = entityManager.persist(Domain.builder().program("M.Tech CSE").batch("2024").build());
+        Organisation organisation = entityManager.persist(Organisation.builder().name("Acme").build());
+
+        for (int i = 0; i < STUDENTS; i++) {
+            Specialisation specialisation = entityManager.persist(Specialisation.builder()
+                    .code("SPEC" + i)
+                    .name("Specialisation " + i)
+                    .creditsRequired(20)
+                    .build());
+            Placement placement = entityManager.persist(Placement.builder()
+                    .organisation(organisation)
+                    .profile("Engineer " + i)
+                    .build());
+            Student student = entityManager.persist(Student.builder()
+                    .rollNumber("MT2024" + (100 + i))
+                    .seqNo(100 + i)
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("student" + i + "@example.com")
+                    .domain(domain)
+                    .specialisation(specialisation)
+                    .placement(placement)
+                    .joinYear(2024)
+                    .build());
+            studentIds.add(student.getStudentId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void profileLoadsStudentAndAllAssociationsInOneStatement() {
+        Student student = studentRepository.findProfileByStudentId(studentIds.get(0)).orElseThrow();
+
+        assertThat(student.getDomain().getProgram()).isEqualTo("M.Tech CSE");
+        assertThat(student.getSpecialisation().getCode()).isEqualTo("SPEC0");
+        assertThat(student.getPlacement().getProfile()).isEqualTo("Engineer 0");
+        assertThat(student.getPlacement().getOrganisation().getName()).isEqualTo("Acme");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void batchProfilesLoadInOneStatementRegardlessOfSize() {
+        List<Student> students = studentRepository.findProfilesByStudentIdIn(studentIds);
+
+        assertThat(students).hasSize(STUDENTS);
+        for (Student student : students) {
+            assertThat(student.getDomain().getProgram()).isNotNull();
+            assertThat(student.getSpecialisation().getCode()).startsWith("SPEC");
+            assertThat(student.getPlacement().getOrganisation().getName()).isEqualTo("Acme");
+        }
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void plainLookupSelectsEachLazyAssociationSeparately() {
+        Student student = studentRepository.findById(studentIds.get(0)).orElseThrow();
+
+        student.getDomain().getProgram();
+        student.getSpecialisation().getCode();
+        student.getPlacement().getOrganisation().getName();
+        // student, domain, specialisation, placement, organisation
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,218 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.event.StudentAdmittedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Appends fixed-size records to a log in a temporary directory and reads them back
+ * through segment rolls, retention and a restart over a torn tail.
+ */
+class AdmissionEventLogTests {
+
+    // Fixed body plus five length-prefixed strings of the sizes produced by admission()
+    private static final int RECORD_BYTES = AdmissionEventLog.HEADER_BYTES + AdmissionEventLog.FIXED_BODY_BYTES
+            + (2 + 9) + (2 + 10) + (2 + 9) + (2 + 17) + (2 + 10);
+    private static final int RECORDS_PER_SEGMENT = 10;
+    private static final long SEGMENT_BYTES = (long) RECORD_BYTES * RECORDS_PER_SEGMENT;
+    private static final long RETENTION = 1L << 30;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsRecordsInOrderAcrossSegmentBoundaries() throws IOException {
+        AdmissionEventLog log = open(SEGMENT_BYTES, RETENTION);
+        for (int i = 1; i <= 35; i++) {
+            log.append(admission(i), 1_000L + i);
+        }
+
+        assertThat(segmentFiles()).hasSize(4);
+        assertThat(log.endOffset()).isEqualTo(35L * RECORD_BYTES);
+        AdmissionLogReader reader = log.reader(0);
+        List<Long> studentIds = new ArrayList<>();
+        while (reader.next()) {
+            assertThat(reader.offset()).isEqualTo(studentIds.size() * (long) RECORD_BYTES);
+            assertThat(reader.rollNumber()).isEqualTo(rollNumber(reader.studentId()));
+            assertThat(reader.committedAtMillis()).isEqualTo(1_000L + reader.studentId());
+            studentIds.add(reader.studentId());
+        }
+        assertThat(studentIds).hasSize(35).isSorted().startsWith(1L).endsWith(35L);
+        assertThat(reader.nextOffset()).isEqualTo(log.endOffset());
+    }
+
+    @Test
+    void readerResumesFromAnOffsetInALaterSegmentAndTailsNewRecords() throws IOException {
+        AdmissionEventLog log = open(SEGMENT_BYTES, RETENTION);
+        for (int i = 1; i <= 15; i++) {
+            log.append(admission(i), i);
+        }
+
+        AdmissionLogReader reader = log.reader(12L * RECORD_BYTES);
+        assertThat(reader.next()).isTrue();
+        assertThat(reader.studentId()).isEqualTo(13L);
+        while (reader.next()) {
+            // catch up
+        }
+        assertThat(reader.studentId()).isEqualTo(15L);
+
+        for (int i = 16; i <= 25; i++) {
+            log.append(admission(i), i);
+        }
+        List<Long> tailed = new ArrayList<>();
+        while (reader.next()) {
+            tailed.add(reader.studentId());
+        }
+        assertThat(tailed).containsExactly(16L, 17L, 18L, 19L, 20L, 21L, 22L, 23L, 24L, 25L);
+    }
+
+    @Test
+    void dropsOldestSegmentsBeyondRetention() throws IOException {
+        AdmissionEventLog log = open(SEGMENT_BYTES, 3 * SEGMENT_BYTES);
+        for (int i = 1; i <= 100; i++) {
+            log.append(admission(i), i);
+        }
+
+        assertThat(segmentFiles()).hasSize(3);
+        assertThat(log.startOffset()).isEqualTo(70L * RECORD_BYTES);
+        AdmissionLogReader reader = log.reader(0);
+        assertThat(reader.next()).isTrue();
+        assertThat(reader.studentId()).isEqualTo(71L);
+        assertThatThrownBy(() -> log.reader(10L * RECORD_BYTES))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("no longer retained");
+    }
+
+    @Test
+    void restartDiscardsATornTailAndAppendsAfterTheLastIntactRecord() throws IOException {
+        AdmissionEventLog log = open(SEGMENT_BYTES, RETENTION);
+        for (int i = 1; i <= 3; i++) {
+            log.append(admission(i), i);
+        }
+        log.close();
+
+        // A crash mid-append: the length is written but the body and checksum are not
+        long end = 3L * RECORD_BYTES;
+        try (RandomAccessFile segment = new RandomAccessFile(segmentFiles().get(0).toFile(), "rw")) {
+            segment.seek(end);
+            segment.writeInt(RECORD_BYTES - AdmissionEventLog.HEADER_BYTES);
+            segment.writeInt(0x12345678);
+            segment.write(new byte[]{1, 2, 3, 4, 5});
+        }
+
+        AdmissionEventLog reopened = open(SEGMENT_BYTES, RETENTION);
+        assertThat(reopened.endOffset()).isEqualTo(end);
+        reopened.append(admission(4), 4);
+
+        AdmissionLogReader reader = reopened.reader(0);
+        List<Long> studentIds = new ArrayList<>();
+        while (reader.next()) {
+            studentIds.add(reader.studentId());
+        }
+        assertThat(studentIds).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(reader.email()).isEqualTo("s00004@example.co");
+    }
+
+    @Test
+    void restartContinuesInTheLastSegment() throws IOException {
+        AdmissionEventLog log = open(SEGMENT_BYTES, RETENTION);
+        for (int i = 1; i <= 12; i++) {
+            log.append(admission(i), i);
+        }
+        log.close();
+
+        AdmissionEventLog reopened = open(SEGMENT_BYTES, RETENTION);
+        assertThat(reopened.startOffset()).isZero();
+        assertThat(reopened.endOffset()).isEqualTo(12L * RECORD_BYTES);
+        reopened.append(admission(13), 13);
+
+        AdmissionLogReader reader = reopened.reader(11L * RECORD_BYTES);
+        List<Long> studentIds = new ArrayList<>();
+        while (reader.next()) {
+            studentIds.add(reader.studentId());
+        }
+        assertThat(studentIds).containsExactly(12L, 13L);
+    }
+
+    @Test
+    void appendWakesWaitersOnlyOncePastTheirOffset() throws Exception {
+        AdmissionEventLog log = open(SEGMENT_BYTES, RETENTION);
+        log.append(admission(1), 1);
+        AtomicInteger woken = new AtomicInteger();
+
+        // Already past the offset: runs on the caller's thread
+        log.awaitAppend(0, woken::incrementAndGet);
+        assertThat(woken).hasValue(1);
+
+        CountDownLatch appended = new CountDownLatch(1);
+        Runnable waiter = () -> {
+            woken.incrementAndGet();
+            appended.countDown();
+        };
+        log.awaitAppend(log.endOffset(), waiter);
+        assertThat(woken).hasValue(1);
+        log.append(admission(2), 2);
+        log.append(admission(3), 3);
+        assertThat(appended.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(log.cancelAwait(waiter)).isFalse();
+
+        Runnable cancelled = woken::incrementAndGet;
+        CountDownLatch sentinel = new CountDownLatch(1);
+        log.awaitAppend(log.endOffset(), cancelled);
+        log.awaitAppend(log.endOffset(), sentinel::countDown);
+        assertThat(log.cancelAwait(cancelled)).isTrue();
+        log.append(admission(4), 4);
+        assertThat(sentinel.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(woken).hasValue(2);
+    }
+
+    @Test
+    void waitersAreWokenOffTheAppendingThread() throws Exception {
+        AdmissionEventLog log = open(SEGMENT_BYTES, RETENTION);
+        AtomicReference<Thread> wokenOn = new AtomicReference<>();
+        CountDownLatch woken = new CountDownLatch(1);
+        log.awaitAppend(0, () -> {
+            wokenOn.set(Thread.currentThread());
+            woken.countDown();
+        });
+
+        log.append(admission(1), 1);
+
+        assertThat(woken.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(wokenOn.get()).isNotSameAs(Thread.currentThread());
+    }
+
+    private AdmissionEventLog open(long segmentBytes, long retentionBytes) throws IOException {
+        return new AdmissionEventLog(directory.toString(), segmentBytes, retentionBytes);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static StudentAdmittedEvent admission(long studentId) {
+        return new StudentAdmittedEvent(studentId, rollNumber(studentId), String.format("First%05d", studentId),
+                String.format("Last%05d", studentId), String.format("s%05d@example.co", studentId), 1L, "M.Tech CSE", 2024);
+    }
+
+    private static String rollNumber(long studentId) {
+        return String.format("MT24%05d", studentId);
+    }
+}
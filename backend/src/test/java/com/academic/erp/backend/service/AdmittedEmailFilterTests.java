@@ -0,0 +1,125 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.event.StudentAdmittedEvent;
+import com.academic.erp.backend.repository.StudentEmailRow;
+import com.academic.erp.backend.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Fills the filter from a mocked {@code students} table and checks that no admitted
+ * email is ever reported free.
+ */
+class AdmittedEmailFilterTests {
+
+    private static final int EXPECTED_EMAILS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private StudentRepository studentRepository;
+    private AdmittedEmailFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository = mock(StudentRepository.class);
+        filter = new AdmittedEmailFilter(studentRepository, EXPECTED_EMAILS, FALSE_POSITIVE_RATE, 500);
+    }
+
+    @Test
+    void everyEmailIsAPossibleHitUntilBuilt() {
+        assertThat(filter.mightContain("nobody@example.com")).isTrue();
+
+        table(List.of());
+        filter.build();
+
+        assertThat(filter.mightContain("nobody@example.com")).isFalse();
+    }
+
+    @Test
+    void neverReportsAnAdmittedEmailAsFree() {
+        List<StudentEmailRow> rows = new ArrayList<>();
+        for (long id = 1; id <= EXPECTED_EMAILS; id++) {
+            rows.add(new StudentEmailRow(id, email(id)));
+        }
+        table(rows);
+
+        filter.build();
+
+        for (long id = 1; id <= EXPECTED_EMAILS; id++) {
+            assertThat(filter.mightContain(email(id))).as(email(id)).isTrue();
+        }
+    }
+
+    @Test
+    void matchesRegardlessOfCaseAndSurroundingWhitespace() {
+        table(List.of(new StudentEmailRow(1L, "Asha.Rao@Example.com")));
+        filter.build();
+
+        assertThat(filter.mightContain("asha.rao@example.com")).isTrue();
+        assertThat(filter.mightContain("ASHA.RAO@EXAMPLE.COM")).isTrue();
+        assertThat(filter.mightContain("  asha.rao@example.com ")).isTrue();
+    }
+
+    @Test
+    void emailsAdmittedAfterTheBuildAreAdded() {
+        table(List.of());
+        filter.build();
+
+        for (long id = 1; id <= 1000; id++) {
+            filter.onStudentAdmitted(admission(id, email(id).toUpperCase()));
+        }
+
+        for (long id = 1; id <= 1000; id++) {
+            assertThat(filter.mightContain(email(id))).as(email(id)).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositivesStayNearTheConfiguredRate() {
+        List<StudentEmailRow> rows = new ArrayList<>();
+        for (long id = 1; id <= EXPECTED_EMAILS; id++) {
+            rows.add(new StudentEmailRow(id, email(id)));
+        }
+        table(rows);
+        filter.build();
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (long id = EXPECTED_EMAILS + 1; id <= EXPECTED_EMAILS + probes; id++) {
+            if (filter.mightContain(email(id))) {
+                falsePositives++;
+            }
+        }
+        // Well above the 1% target, so only a broken hash or sizing fails it
+        assertThat(falsePositives).isLessThan(probes * 3 / 100);
+    }
+
+    private void table(List<StudentEmailRow> rows) {
+        when(studentRepository.findEmailsAfter(anyLong(), any()))
+                .thenAnswer(invocation -> page(rows, invocation.getArgument(0), invocation.getArgument(1)));
+    }
+
+    private static List<StudentEmailRow> page(List<StudentEmailRow> rows, Long afterId, Pageable page) {
+        return rows.stream()
+                .filter(row -> row.studentId() > afterId)
+                .limit(page.getPageSize())
+                .toList();
+    }
+
+    private static String email(long id) {
+        return "student" + id + "@iiitb.ac.in";
+    }
+
+    private static StudentAdmittedEvent admission(long studentId, String email) {
+        return new StudentAdmittedEvent(studentId, "MT2024" + studentId, "First", "Last", email, 1L, "M.Tech CSE", 2024);
+    }
+}
@@ -0,0 +1,161 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.PhotoUploadResponse;
+import com.academic.erp.backend.dto.PhotoUploadSessionRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Uploads a three-chunk photo into a temporary upload root and checks the assembled
+ * file, chunk validation, repeated completion and the expiry sweep.
+ */
+class ChunkedPhotoUploadServiceTests {
+
+    private static final int CHUNK = 64 * 1024;
+    private static final byte[] PHOTO = new byte[2 * CHUNK + 100];
+
+    static {
+        new Random(42).nextBytes(PHOTO);
+    }
+
+    @TempDir
+    Path uploadRoot;
+
+    private ChunkedPhotoUploadService service;
+
+    @BeforeEach
+    void setUp() {
+        service = service(30);
+    }
+
+    @Test
+    void chunksMayArriveOutOfOrderAndMoreThanOnce() throws IOException {
+        String uploadId = createSession(PHOTO.length);
+
+        write(uploadId, 2);
+        write(uploadId, 0);
+        write(uploadId, 0);
+        assertThat(service.getSession(uploadId).getReceivedChunks()).containsExactly(0, 2);
+        assertThatThrownBy(() -> service.complete(uploadId)).hasMessageContaining("missing 1 of 3 chunks");
+
+        write(uploadId, 1);
+        PhotoUploadResponse result = service.complete(uploadId);
+
+        assertThat(result.getSize()).isEqualTo(PHOTO.length);
+        assertThat(Files.readAllBytes(stored(result))).isEqualTo(PHOTO);
+        assertThat(partialFiles()).isZero();
+    }
+
+    @Test
+    void rejectsChunksOfTheWrongSizeOrIndex() {
+        String uploadId = createSession(PHOTO.length);
+
+        assertThatThrownBy(() -> service.writeChunk(uploadId, 0, new ByteArrayInputStream(new byte[CHUNK + 1])))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("larger than " + CHUNK);
+        assertThatThrownBy(() -> service.writeChunk(uploadId, 1, new ByteArrayInputStream(new byte[CHUNK - 1])))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("expected " + CHUNK);
+        // The last chunk holds only the remainder
+        assertThatThrownBy(() -> service.writeChunk(uploadId, 2, new ByteArrayInputStream(new byte[CHUNK])))
+                .hasMessageContaining("larger than 100");
+        assertThatThrownBy(() -> service.writeChunk(uploadId, 3, new ByteArrayInputStream(new byte[1])))
+                .hasMessageContaining("between 0 and 2");
+
+        assertThat(service.getSession(uploadId).getReceivedChunks()).isEmpty();
+        assertThatThrownBy(() -> createSession(10L * 1024 * 1024 + 1)).hasMessageContaining("maximum size");
+    }
+
+    @Test
+    void completingTwiceReturnsTheSameResult() throws IOException {
+        String uploadId = createSession(PHOTO.length);
+        for (int index = 0; index < 3; index++) {
+            write(uploadId, index);
+        }
+
+        PhotoUploadResponse first = service.complete(uploadId);
+        PhotoUploadResponse second = service.complete(uploadId);
+
+        assertThat(second).isSameAs(first);
+        try (Stream<Path> photos = Files.list(uploadRoot.resolve("photos"))) {
+            assertThat(photos).hasSize(1);
+        }
+        assertThat(service.getSession(uploadId).getComplete()).isTrue();
+        assertThatThrownBy(() -> write(uploadId, 0)).hasMessageContaining("already complete");
+    }
+
+    @Test
+    void expiredSessionsAndOrphanedPartialFilesAreRemoved() throws IOException {
+        service = service(-1);
+        String uploadId = createSession(PHOTO.length);
+        write(uploadId, 0);
+        // Left behind by an earlier run, with no session to expire it
+        Path orphan = uploadRoot.resolve("chunked").resolve("orphan.part");
+        Files.write(orphan, new byte[10]);
+        Files.setLastModifiedTime(orphan, FileTime.from(Instant.now().minus(1, ChronoUnit.HOURS)));
+
+        service.expireSessions();
+
+        assertThatThrownBy(() -> service.getSession(uploadId)).hasMessageContaining("Unknown upload session");
+        assertThat(partialFiles()).isZero();
+    }
+
+    @Test
+    void failedPreallocationLeavesNoPartialFile() throws IOException {
+        // Bypasses request validation to make setLength fail
+        assertThatThrownBy(() -> createSession(-1))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Unable to create upload session");
+
+        assertThat(partialFiles()).isZero();
+    }
+
+    private ChunkedPhotoUploadService service(long ttlMinutes) {
+        return new ChunkedPhotoUploadService(new PhotoStorageService(uploadRoot.toString()), uploadRoot.toString(),
+                10L * 1024 * 1024, CHUNK, 4 * CHUNK, 10, ttlMinutes);
+    }
+
+    private String createSession(long totalSize) {
+        return service.createSession(PhotoUploadSessionRequest.builder()
+                .fileName("photo.jpg")
+                .contentType("image/jpeg")
+                .totalSize(totalSize)
+                .chunkSize(CHUNK)
+                .build()).getUploadId();
+    }
+
+    private void write(String uploadId, int index) {
+        int from = index * CHUNK;
+        byte[] chunk = Arrays.copyOfRange(PHOTO, from, Math.min(from + CHUNK, PHOTO.length));
+        service.writeChunk(uploadId, index, new ByteArrayInputStream(chunk));
+    }
+
+    private Path stored(PhotoUploadResponse result) {
+        return uploadRoot.resolve("photos").resolve(Path.of(result.getPath()).getFileName());
+    }
+
+    private long partialFiles() throws IOException {
+        Path chunked = uploadRoot.resolve("chunked");
+        if (!Files.isDirectory(chunked)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(chunked)) {
+            return files.count();
+        }
+    }
+}
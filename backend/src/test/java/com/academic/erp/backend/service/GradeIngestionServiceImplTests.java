@@ -0,0 +1,157 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.GradeIngestionStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs grade files through the ingestion worker against a mocked {@code students}
+ * table, including a chunk that fails and is resumed from the checkpoint.
+ */
+class GradeIngestionServiceImplTests {
+
+    // Stored rolls as the database returns them; the collation matches case and trailing spaces
+    private static final Map<String, Long> STUDENTS = Map.of(
+            "MT2024001", 1L,
+            "MT2024002", 2L,
+            "mt2024003 ", 3L,
+            "MT2024004", 4L);
+
+    private static final String FILE = String.join("\n",
+            "roll_number,cgpa,total_credits",
+            "MT2024001,8.5,40",
+            "MT2024002,x,40",
+            "MT2024002,7.0,40",
+            "MT2024099,6.0,30",
+            "oops",
+            " MT2024003 ,9.0,44",
+            "mt2024004,6.5,38");
+
+    @TempDir
+    Path uploadRoot;
+
+    private JdbcTemplate jdbcTemplate;
+    private GradeIngestionServiceImpl service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Object roll : (Object[]) invocation.getRawArguments()[2]) {
+                for (Map.Entry<String, Long> student : STUDENTS.entrySet()) {
+                    if (student.getKey().trim().equalsIgnoreCase((String) roll)) {
+                        handler.processRow(row(student.getKey(), student.getValue()));
+                    }
+                }
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+        service = new GradeIngestionServiceImpl(jdbcTemplate, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                mock(ApplicationEventPublisher.class), uploadRoot.toString(), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void appliesRowsWhoseRollDiffersOnlyInCaseOrSpacing() throws Exception {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[0]);
+
+        GradeIngestionStatus status = await(service.submit(file()).getJobId());
+
+        assertThat(status.getState()).isEqualTo("COMPLETED");
+        assertThat(status.getRowsApplied()).isEqualTo(4);
+        assertThat(status.getRowsRejected()).isEqualTo(3);
+        assertThat(updatedStudentIds(3)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void resumesAFailedJobFromTheLastCommittedChunk() throws Exception {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenReturn(new int[0])
+                .thenThrow(new QueryTimeoutException("Lock wait timeout exceeded"))
+                .thenReturn(new int[0]);
+
+        String jobId = service.submit(file()).getJobId();
+        GradeIngestionStatus failed = await(jobId);
+        assertThat(failed.getState()).isEqualTo("FAILED");
+        assertThat(failed.getLinesCommitted()).isEqualTo(4);
+
+        GradeIngestionStatus resumed = await(service.submit(file()).getJobId());
+
+        assertThat(resumed.getJobId()).isEqualTo(jobId);
+        assertThat(resumed.getState()).isEqualTo("COMPLETED");
+        assertThat(resumed.getLinesCommitted()).isEqualTo(8);
+        assertThat(resumed.getChunksCommitted()).isEqualTo(3);
+        assertThat(resumed.getRowsApplied()).isEqualTo(4);
+        assertThat(resumed.getRowsRejected()).isEqualTo(3);
+        assertThat(resumed.getRejections()).containsExactly(
+                "Line 3: invalid number",
+                "Line 6: expected roll_number,cgpa,total_credits",
+                "Unknown roll number: MT2024099");
+        // The first chunk was committed before the failure and is not written again
+        assertThat(updatedStudentIds(4)).containsExactly(1L, 2L, 3L, 3L, 4L);
+    }
+
+    private List<Long> updatedStudentIds(int batches) {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(batches)).batchUpdate(anyString(), args.capture());
+        return args.getAllValues().stream()
+                .flatMap(List::stream)
+                .map(values -> (Long) values[2])
+                .toList();
+    }
+
+    private GradeIngestionStatus await(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        GradeIngestionStatus status = service.getStatus(jobId);
+        while (!"COMPLETED".equals(status.getState()) && !"FAILED".equals(status.getState())) {
+            assertThat(System.currentTimeMillis()).as("job %s still %s", jobId, status.getState()).isLessThan(deadline);
+            Thread.sleep(10);
+            status = service.getStatus(jobId);
+        }
+        return status;
+    }
+
+    private static MockMultipartFile file() {
+        return new MockMultipartFile("file", "grades.csv", "text/csv", FILE.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ResultSet row(String rollNumber, long studentId) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("roll_number")).thenReturn(rollNumber);
+        when(rs.getLong("student_id")).thenReturn(studentId);
+        when(rs.getInt("join_year")).thenReturn(2024);
+        return rs;
+    }
+}
@@ -0,0 +1,214 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.PlacementAssignmentResponse;
+import com.academic.erp.backend.dto.PlacementShortlistDto;
+import com.academic.erp.backend.entity.Placement;
+import com.academic.erp.backend.event.PlacementsAssignedEvent;
+import com.academic.erp.backend.repository.PlacementCount;
+import com.academic.erp.backend.repository.PlacementRepository;
+import com.academic.erp.backend.repository.StudentCgpaRow;
+import com.academic.erp.backend.repository.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Shortlists and assigns over a small cohort held in a real {@link StudentCgpaIndex},
+ * checking eligibility cut-offs, intake already used up by earlier runs, concurrent
+ * runs and how assignments are written.
+ */
+class PlacementShortlistServiceImplTests {
+
+    private static final int YEAR = 2024;
+    private static final long EARLIER_PLACEMENT = 99L;
+
+    private StudentRepository studentRepository;
+    private PlacementRepository placementRepository;
+    private StudentCgpaIndex cgpaIndex;
+    private JdbcTemplate jdbcTemplate;
+    private ApplicationEventPublisher eventPublisher;
+    private PlacementShortlistServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository = mock(StudentRepository.class);
+        placementRepository = mock(PlacementRepository.class);
+        cgpaIndex = new StudentCgpaIndex(studentRepository);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        service = new PlacementShortlistServiceImpl(placementRepository, studentRepository, cgpaIndex, jdbcTemplate,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), eventPublisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void eligibilityIsEveryUnplacedStudentAtOrAboveTheMinimumGrade() {
+        // Student 2 already holds a placement from an earlier run
+        cohort(row(1, 9.5, null), row(2, 9.0, EARLIER_PLACEMENT), row(4, 8.5, null), row(3, 8.5, null),
+                row(5, 8.0, null), row(6, 7.0, null));
+        placements(placement(1, 8.5, 10), placement(2, 10.0, 5), placement(3, null, 2));
+
+        Map<Long, PlacementShortlistDto> shortlists = byPlacement(service.shortlist(YEAR));
+
+        // Both students tied at exactly the minimum are eligible, in student ID order
+        assertThat(shortlists.get(1L).getEligibleCount()).isEqualTo(3);
+        assertThat(shortlists.get(1L).getStudentIds()).containsExactly(1L, 3L, 4L);
+        assertThat(shortlists.get(2L).getEligibleCount()).isZero();
+        assertThat(shortlists.get(2L).getStudentIds()).isEmpty();
+        // No minimum admits the whole cohort, capped at the intake
+        assertThat(shortlists.get(3L).getEligibleCount()).isEqualTo(5);
+        assertThat(shortlists.get(3L).getStudentIds()).containsExactly(1L, 3L);
+
+        StudentCgpaIndex.Cohort cohort = cgpaIndex.cohort(YEAR);
+        assertThat(cohort.eligibleBound(9.6)).isZero();
+        assertThat(cohort.eligibleBound(8.5)).isEqualTo(4);
+        assertThat(cohort.eligibleBound(8.4)).isEqualTo(4);
+        assertThat(cohort.eligibleBound(0.0)).isEqualTo(cohort.size());
+        assertThat(cgpaIndex.cohort(1999).eligibleBound(0.0)).isZero();
+    }
+
+    @Test
+    void studentsAlreadyHoldingAPlacementCountAgainstItsIntake() {
+        cohort(row(1, 9.5, null), row(2, 9.0, null), row(3, 8.5, null), row(4, 8.0, null));
+        placements(placement(1, 9.5, 1), placement(2, 8.0, 3));
+        assigned(Map.of(2L, 2L));
+
+        PlacementAssignmentResponse response = service.assign(YEAR);
+
+        // The most selective placement takes student 1; the other has one seat left and skips to student 2
+        assertThat(response.getStudentsAssigned()).isEqualTo(2);
+        assertThat(written(1)).containsExactly(List.of(1L, 1L), List.of(2L, 2L));
+        ArgumentCaptor<PlacementsAssignedEvent> event = ArgumentCaptor.forClass(PlacementsAssignedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().placementIds()).containsExactlyInAnyOrder(1L, 2L);
+
+        // A rerun finds both placements full and writes nothing more
+        assigned(Map.of(1L, 1L, 2L, 3L));
+        assertThat(service.assign(YEAR).getStudentsAssigned()).isZero();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+        assertThat(cgpaIndex.cohort(YEAR).unplacedCount(4)).isEqualTo(2);
+    }
+
+    @Test
+    void assignmentIsRefusedWhileAnotherRunHoldsTheLock() throws Exception {
+        cohort(row(1, 9.5, null));
+        placements(placement(1, 0.0, 1));
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            return new int[0];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        CompletableFuture<PlacementAssignmentResponse> first = CompletableFuture.supplyAsync(() -> service.assign(YEAR));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> service.assign(YEAR)).hasMessage("Placement assignment is already running");
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getStudentsAssigned()).isEqualTo(1);
+        // The lock is free again once the first run finishes
+        assertThat(service.assign(YEAR).getStudentsAssigned()).isZero();
+    }
+
+    @Test
+    void largeRunsAreWrittenInChunksInsideOneTransaction() {
+        StudentCgpaRow[] rows = new StudentCgpaRow[2500];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = row(i + 1, 6.0 + (i % 40) / 10.0, null);
+        }
+        cohort(rows);
+        placements(placement(1, 0.0, 2500));
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        service = new PlacementShortlistServiceImpl(placementRepository, studentRepository, cgpaIndex, jdbcTemplate,
+                new TransactionTemplate(transactionManager), eventPublisher);
+
+        assertThat(service.assign(YEAR).getStudentsAssigned()).isEqualTo(2500);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), chunks.capture());
+        assertThat(chunks.getAllValues()).extracting(List::size).containsExactly(1000, 1000, 500);
+        verify(transactionManager, times(1)).getTransaction(any());
+        assertThat(cgpaIndex.cohort(YEAR).unplacedCount(2500)).isZero();
+    }
+
+    private void cohort(StudentCgpaRow... rows) {
+        when(studentRepository.findAllGraded()).thenReturn(Arrays.asList(rows));
+        cgpaIndex.rebuild();
+    }
+
+    private void placements(Placement... placements) {
+        when(placementRepository.findAllWithOrganisation()).thenReturn(Arrays.asList(placements));
+    }
+
+    private void assigned(Map<Long, Long> counts) {
+        List<PlacementCount> rows = new ArrayList<>();
+        counts.forEach((placementId, students) -> {
+            PlacementCount count = mock(PlacementCount.class);
+            when(count.getPlacementId()).thenReturn(placementId);
+            when(count.getStudents()).thenReturn(students);
+            rows.add(count);
+        });
+        when(studentRepository.countByPlacement()).thenReturn(rows);
+    }
+
+    // (placement ID, student ID) pairs across all batches written
+    private List<List<Object>> written(int batches) {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(batches)).batchUpdate(anyString(), args.capture());
+        return args.getAllValues().stream()
+                .flatMap(List::stream)
+                .map(Arrays::asList)
+                .toList();
+    }
+
+    private static Placement placement(long id, Double minimumGrade, Integer intake) {
+        return Placement.builder()
+                .placementId(id)
+                .profile("Profile " + id)
+                .minimumGrade(minimumGrade)
+                .intake(intake)
+                .build();
+    }
+
+    private static StudentCgpaRow row(long studentId, double cgpa, Long placementId) {
+        return new StudentCgpaRow(studentId, YEAR, cgpa, placementId);
+    }
+
+    private static Map<Long, PlacementShortlistDto> byPlacement(List<PlacementShortlistDto> shortlists) {
+        return shortlists.stream().collect(Collectors.toMap(PlacementShortlistDto::getPlacementId, Function.identity()));
+    }
+}
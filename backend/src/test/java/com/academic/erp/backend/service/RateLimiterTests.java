@@ -0,0 +1,120 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.service.RateLimiter.EndpointClass;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the token buckets directly: bursts, refill over real time, and the idle sweep
+ * running alongside requests.
+ */
+class RateLimiterTests {
+
+    @Test
+    void allowsTheBurstThenAsksTheCallerToWait() {
+        RateLimiter limiter = limiter(60, 3);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(EndpointClass.ADMISSION, "alice")).isZero();
+        }
+        long wait = limiter.tryAcquire(EndpointClass.ADMISSION, "alice");
+
+        assertThat(wait).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+        // Buckets are per caller and per endpoint class
+        assertThat(limiter.tryAcquire(EndpointClass.ADMISSION, "bob")).isZero();
+        assertThat(limiter.tryAcquire(EndpointClass.BULK, "alice")).isZero();
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() throws InterruptedException {
+        RateLimiter limiter = limiter(600, 1);
+        // Both taken before asserting, since the first assertion can take longer than the interval
+        long first = limiter.tryAcquire(EndpointClass.ADMISSION, "alice");
+        long wait = limiter.tryAcquire(EndpointClass.ADMISSION, "alice");
+
+        assertThat(first).isZero();
+        assertThat(wait).isPositive().isLessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+        TimeUnit.NANOSECONDS.sleep(wait);
+        assertThat(limiter.tryAcquire(EndpointClass.ADMISSION, "alice")).isZero();
+    }
+
+    @Test
+    void sweepDropsOnlyIdleBuckets() {
+        RateLimiter limiter = limiter(60, 1);
+        assertThat(limiter.tryAcquire(EndpointClass.ADMISSION, "alice")).isZero();
+
+        limiter.evictIdle();
+
+        // The emptied bucket was kept, so the sweep gave no tokens back
+        assertThat(limiter.tryAcquire(EndpointClass.ADMISSION, "alice")).isPositive();
+    }
+
+    @Test
+    void overflowCallersShareOneBucketUntilTheSweepFreesKeys() throws InterruptedException {
+        RateLimiter limiter = new RateLimiter(600, 1, 1, 1, 1, 1, 1, 1, 1, 1);
+        long alice = limiter.tryAcquire(EndpointClass.ADMISSION, "alice");
+        long bob = limiter.tryAcquire(EndpointClass.ADMISSION, "bob");
+        long carol = limiter.tryAcquire(EndpointClass.ADMISSION, "carol");
+        assertThat(alice).isZero();
+        assertThat(bob).isZero();
+        assertThat(carol).isPositive();
+
+        TimeUnit.MILLISECONDS.sleep(150);
+        limiter.evictIdle();
+
+        long first = limiter.tryAcquire(EndpointClass.ADMISSION, "carol");
+        long second = limiter.tryAcquire(EndpointClass.ADMISSION, "carol");
+        assertThat(first).isZero();
+        assertThat(second).isPositive();
+    }
+
+    @Test
+    void sweepRacingRequestsNeverHandsOutAnExtraToken() throws Exception {
+        // One token a minute: each caller's second request must always be refused
+        RateLimiter limiter = limiter(1, 1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sweeper = new Thread(() -> {
+            while (running.get()) {
+                limiter.evictIdle();
+            }
+        });
+        sweeper.start();
+
+        int callers = 20_000;
+        AtomicInteger doubleGrants = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(2);
+        for (int t = 0; t < 2; t++) {
+            int offset = t;
+            new Thread(() -> {
+                for (int i = offset; i < callers; i += 2) {
+                    String caller = "user" + i;
+                    long first = limiter.tryAcquire(EndpointClass.ADMISSION, caller);
+                    long second = limiter.tryAcquire(EndpointClass.ADMISSION, caller);
+                    if (first == 0 && second == 0) {
+                        doubleGrants.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+        try {
+            assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            running.set(false);
+            sweeper.join();
+        }
+
+        assertThat(doubleGrants).hasValue(0);
+    }
+
+    private static RateLimiter limiter(int perMinute, int burst) {
+        return new RateLimiter(perMinute, burst, perMinute, burst, perMinute, burst, perMinute, burst, 100_000, 32);
+    }
+}
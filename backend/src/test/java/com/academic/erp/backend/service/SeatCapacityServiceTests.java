@@ -0,0 +1,173 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.SeatAvailabilityDto;
+import com.academic.erp.backend.entity.Domain;
+import com.academic.erp.backend.exception.SeatUnavailableException;
+import com.academic.erp.backend.repository.DomainRepository;
+import com.academic.erp.backend.repository.DomainYearCount;
+import com.academic.erp.backend.repository.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Takes holds and runs admissions through simulated transactions, checking the seat
+ * counters after commits, rollbacks, expiry and reconciliation.
+ */
+class SeatCapacityServiceTests {
+
+    private static final long CSE = 1L;
+    private static final int YEAR = 2025;
+
+    private DomainRepository domainRepository;
+    private StudentRepository studentRepository;
+    private SeatCapacityService service;
+
+    @BeforeEach
+    void setUp() {
+        domainRepository = mock(DomainRepository.class);
+        studentRepository = mock(StudentRepository.class);
+        Domain cse = Domain.builder().domainId(CSE).program("M.Tech CSE").capacity(2).build();
+        when(domainRepository.findAll()).thenReturn(List.of(cse));
+        when(domainRepository.findById(CSE)).thenReturn(Optional.of(cse));
+        when(domainRepository.findById(99L)).thenReturn(Optional.empty());
+        service = new SeatCapacityService(domainRepository, studentRepository, 300);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void holdsTakeSeatsUntilTheirOwnerReleasesThem() {
+        String first = service.hold(CSE, YEAR, "alice").getHoldId();
+        service.hold(CSE, YEAR, "alice");
+
+        assertThatThrownBy(() -> service.hold(CSE, YEAR, "bob")).isInstanceOf(SeatUnavailableException.class);
+
+        service.release(first, "bob");
+        assertThat(availability().getHeld()).isEqualTo(2);
+
+        service.release(first, "alice");
+        service.release(first, "alice");
+        assertThat(availability().getHeld()).isEqualTo(1);
+        assertThat(availability().getAvailable()).isEqualTo(1);
+        assertThat(service.hold(CSE, YEAR, "bob").getHoldId()).isNotEqualTo(first);
+    }
+
+    @Test
+    void invalidPairsAreRejectedWithoutCreatingCounters() {
+        assertThatThrownBy(() -> service.hold(99L, YEAR, "alice")).hasMessage("Invalid domain ID");
+        assertThatThrownBy(() -> service.hold(CSE, 1900, "alice")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.hold(CSE, null, "alice")).isInstanceOf(IllegalArgumentException.class);
+
+        service.reconcile();
+        assertThat(service.availability(3000)).singleElement()
+                .satisfies(dto -> assertThat(dto.getAvailable()).isEqualTo(2));
+        // Neither the rejected holds nor the availability query left a counter behind
+        assertThat(service.availability(null)).isEmpty();
+    }
+
+    @Test
+    void expiredHoldsAreSweptAndCannotBeConsumed() {
+        service = new SeatCapacityService(domainRepository, studentRepository, -1);
+        String expired = service.hold(CSE, YEAR, "alice").getHoldId();
+        service.hold(CSE, YEAR, "alice");
+
+        // Both seats are still held until the sweep runs, so the expired hold buys nothing
+        TransactionSynchronizationManager.initSynchronization();
+        assertThatThrownBy(() -> service.reserveForCurrentTransaction(CSE, YEAR, expired))
+                .isInstanceOf(SeatUnavailableException.class);
+
+        service.expireHolds();
+        assertThat(availability().getHeld()).isZero();
+        assertThat(availability().getAvailable()).isEqualTo(2);
+    }
+
+    @Test
+    void commitTurnsTheConsumedHoldIntoAnAdmission() {
+        String hold = service.hold(CSE, YEAR, "alice").getHoldId();
+
+        complete(() -> service.reserveForCurrentTransaction(CSE, YEAR, hold), true);
+
+        SeatAvailabilityDto seats = availability();
+        assertThat(seats.getAdmitted()).isEqualTo(1);
+        assertThat(seats.getHeld()).isZero();
+        assertThat(seats.getAvailable()).isEqualTo(1);
+    }
+
+    @Test
+    void rollbackPutsTheConsumedHoldBack() {
+        String hold = service.hold(CSE, YEAR, "alice").getHoldId();
+        service.hold(CSE, YEAR, "alice");
+
+        complete(() -> service.reserveForCurrentTransaction(CSE, YEAR, hold), false);
+
+        assertThat(availability().getHeld()).isEqualTo(2);
+        assertThat(availability().getAdmitted()).isZero();
+        // The capacity is fully held, so only the restored hold can admit
+        complete(() -> service.reserveForCurrentTransaction(CSE, YEAR, hold), true);
+        assertThat(availability().getAdmitted()).isEqualTo(1);
+        assertThat(availability().getHeld()).isEqualTo(1);
+    }
+
+    @Test
+    void rollbackWithoutAHoldFreesTheSeat() {
+        complete(() -> service.reserveForCurrentTransaction(CSE, YEAR, null), false);
+
+        assertThat(availability().getHeld()).isZero();
+        assertThat(availability().getAvailable()).isEqualTo(2);
+    }
+
+    @Test
+    void reconcileReplacesAdmittedCountsAndKeepsHolds() {
+        service.hold(CSE, YEAR, "alice");
+        complete(() -> service.reserveForCurrentTransaction(CSE, YEAR, null), true);
+        DomainYearCount count = mock(DomainYearCount.class);
+        when(count.getDomainId()).thenReturn(CSE);
+        when(count.getJoinYear()).thenReturn(YEAR);
+        when(count.getAdmitted()).thenReturn(0L);
+        when(studentRepository.countByDomainAndJoinYear()).thenReturn(List.of(count));
+
+        service.reconcile();
+
+        assertThat(availability().getAdmitted()).isZero();
+        assertThat(availability().getHeld()).isEqualTo(1);
+    }
+
+    private SeatAvailabilityDto availability() {
+        return service.availability(YEAR).stream()
+                .filter(dto -> dto.getDomainId() == CSE)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    // Runs the admission step inside a simulated transaction and completes it as the transaction manager would
+    private static void complete(Runnable admission, boolean commit) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            admission.run();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            if (commit) {
+                synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            }
+            int status = commit ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK;
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
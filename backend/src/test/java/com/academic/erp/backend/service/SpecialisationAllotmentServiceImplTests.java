@@ -0,0 +1,239 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.SpecialisationAllotmentChangeDto;
+import com.academic.erp.backend.dto.SpecialisationAllotmentRequest;
+import com.academic.erp.backend.dto.SpecialisationAllotmentResponse;
+import com.academic.erp.backend.dto.SpecialisationAllotmentSummaryDto;
+import com.academic.erp.backend.dto.StudentPreferenceDto;
+import com.academic.erp.backend.entity.Specialisation;
+import com.academic.erp.backend.event.SpecialisationsAllottedEvent;
+import com.academic.erp.backend.event.StudentSpecialisationChange;
+import com.academic.erp.backend.repository.SpecialisationRepository;
+import com.academic.erp.backend.repository.StudentAllotmentRow;
+import com.academic.erp.backend.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs allotments over a small cohort handed over already in rank order, as
+ * {@code findAllotmentRows} returns it, and checks seats, preference fallback and
+ * what gets written.
+ */
+class SpecialisationAllotmentServiceImplTests {
+
+    private static final int JOIN_YEAR = 2024;
+    private static final long AI = 10L;
+    private static final long SYS = 20L;
+    private static final long NET = 30L;
+
+    private StudentRepository studentRepository;
+    private SpecialisationRepository specialisationRepository;
+    private StudentChangeSequence changeSequence;
+    private JdbcTemplate jdbcTemplate;
+    private PlatformTransactionManager transactionManager;
+    private ApplicationEventPublisher eventPublisher;
+    private SpecialisationAllotmentServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository = mock(StudentRepository.class);
+        specialisationRepository = mock(SpecialisationRepository.class);
+        changeSequence = mock(StudentChangeSequence.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        service = new SpecialisationAllotmentServiceImpl(studentRepository, specialisationRepository, changeSequence,
+                jdbcTemplate, new TransactionTemplate(transactionManager), eventPublisher);
+    }
+
+    @Test
+    void fillsSeatsInRankOrderAndFallsBackToLaterPreferences() {
+        specialisations(specialisation(AI, 2), specialisation(SYS, 1));
+        cohort(row(1, 9.5, null), row(2, 9.0, null), row(3, 8.5, null), row(4, 8.0, null));
+
+        SpecialisationAllotmentResponse response = service.allot(request(false,
+                preference(4, SYS, AI), preference(3, SYS, AI), preference(2, SYS, AI), preference(1, SYS, AI)));
+
+        Map<Long, SpecialisationAllotmentChangeDto> changes = byStudent(response.getChanges());
+        assertThat(changes.get(1L).getSpecialisationId()).isEqualTo(SYS);
+        assertThat(changes.get(1L).getPreferenceRank()).isEqualTo(1);
+        assertThat(changes.get(2L).getSpecialisationId()).isEqualTo(AI);
+        assertThat(changes.get(2L).getPreferenceRank()).isEqualTo(2);
+        assertThat(changes.get(3L).getSpecialisationId()).isEqualTo(AI);
+        assertThat(changes).doesNotContainKey(4L);
+        assertThat(response.getStudentsAllotted()).isEqualTo(3);
+        assertThat(response.getStudentsUnallotted()).isEqualTo(1);
+
+        Map<Long, SpecialisationAllotmentSummaryDto> summaries = bySpecialisation(response.getSpecialisations());
+        assertThat(summaries.get(AI).getAllotted()).isEqualTo(2);
+        assertThat(summaries.get(AI).getCutoffCgpa()).isEqualTo(8.5);
+        assertThat(summaries.get(SYS).getAllotted()).isEqualTo(1);
+        assertThat(summaries.get(SYS).getCutoffCgpa()).isEqualTo(9.5);
+    }
+
+    @Test
+    void studentsWithoutPreferencesKeepTheirSeats() {
+        specialisations(specialisation(AI, 1), specialisation(SYS, null));
+        cohort(row(1, 9.5, AI), row(2, 9.0, null));
+
+        SpecialisationAllotmentResponse response = service.allot(request(true, preference(2, AI, SYS)));
+
+        assertThat(response.getChanges()).hasSize(1);
+        assertThat(response.getChanges().get(0).getStudentId()).isEqualTo(2L);
+        assertThat(response.getChanges().get(0).getSpecialisationId()).isEqualTo(SYS);
+        Map<Long, SpecialisationAllotmentSummaryDto> summaries = bySpecialisation(response.getSpecialisations());
+        assertThat(summaries.get(AI).getRetained()).isEqualTo(1);
+        assertThat(summaries.get(AI).getAllotted()).isZero();
+        assertThat(summaries.get(AI).getCutoffCgpa()).isNull();
+    }
+
+    @Test
+    void tiesGoToTheStudentRankedFirstNotTheFirstSubmitted() {
+        specialisations(specialisation(AI, 1), specialisation(NET, null));
+        // Equal cgpa: the cohort query orders ties by student ID
+        cohort(row(2, 8.0, null), row(3, 8.0, null), row(5, null, null));
+
+        SpecialisationAllotmentResponse response = service.allot(request(true,
+                preference(5, AI, NET), preference(3, AI, NET), preference(2, AI, NET)));
+
+        Map<Long, SpecialisationAllotmentChangeDto> changes = byStudent(response.getChanges());
+        assertThat(changes.get(2L).getSpecialisationId()).isEqualTo(AI);
+        assertThat(changes.get(3L).getSpecialisationId()).isEqualTo(NET);
+        assertThat(changes.get(5L).getSpecialisationId()).isEqualTo(NET);
+        assertThat(bySpecialisation(response.getSpecialisations()).get(AI).getCutoffCgpa()).isEqualTo(8.0);
+    }
+
+    @Test
+    void dryRunReturnsTheDiffWithoutWriting() {
+        specialisations(specialisation(AI, 1), specialisation(SYS, 1));
+        cohort(row(1, 9.5, SYS), row(2, 9.0, AI));
+
+        SpecialisationAllotmentResponse response = service.allot(request(true, preference(1, AI), preference(2, SYS)));
+
+        assertThat(response.getDryRun()).isTrue();
+        Map<Long, SpecialisationAllotmentChangeDto> changes = byStudent(response.getChanges());
+        assertThat(changes).hasSize(2);
+        assertThat(changes.get(1L).getPreviousSpecialisationId()).isEqualTo(SYS);
+        assertThat(changes.get(1L).getSpecialisationId()).isEqualTo(AI);
+        assertThat(changes.get(2L).getPreviousSpecialisationId()).isEqualTo(AI);
+        assertThat(changes.get(2L).getSpecialisationId()).isEqualTo(SYS);
+        verifyNoInteractions(jdbcTemplate, eventPublisher, changeSequence, transactionManager);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void realRunWritesOnlyChangedStudentsInOneBatch() {
+        specialisations(specialisation(AI, 1), specialisation(SYS, 1));
+        cohort(row(1, 9.5, SYS), row(2, 9.0, null));
+        when(changeSequence.next()).thenReturn(41L);
+
+        SpecialisationAllotmentResponse response = service.allot(request(false, preference(1, SYS), preference(2, AI)));
+
+        assertThat(response.getStudentsChanged()).isEqualTo(1);
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), args.capture());
+        assertThat(args.getValue()).hasSize(1);
+        assertThat(args.getValue().get(0)).containsExactly(AI, 41L, 2L);
+
+        ArgumentCaptor<SpecialisationsAllottedEvent> event = ArgumentCaptor.forClass(SpecialisationsAllottedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().joinYear()).isEqualTo(JOIN_YEAR);
+        assertThat(event.getValue().changes()).containsExactly(new StudentSpecialisationChange(2L, null, AI));
+    }
+
+    @Test
+    void realRunWithNothingChangedWritesNothing() {
+        specialisations(specialisation(AI, 1));
+        cohort(row(1, 9.5, AI));
+
+        SpecialisationAllotmentResponse response = service.allot(request(false, preference(1, AI)));
+
+        assertThat(response.getStudentsChanged()).isZero();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void rejectsInvalidPreferences() {
+        specialisations(specialisation(AI, 1), specialisation(SYS, 1));
+        cohort(row(1, 9.5, null));
+
+        assertThatThrownBy(() -> service.allot(request(true, preference(7, AI))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not in the " + JOIN_YEAR + " cohort");
+        assertThatThrownBy(() -> service.allot(request(true, preference(1, AI), preference(1, SYS))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("more than once");
+        assertThatThrownBy(() -> service.allot(request(true, preference(1, AI, AI))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("twice");
+        assertThatThrownBy(() -> service.allot(request(true, preference(1, 99L))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown specialisation");
+    }
+
+    private void specialisations(Specialisation... specialisations) {
+        when(specialisationRepository.findAll()).thenReturn(Arrays.asList(specialisations));
+    }
+
+    private void cohort(StudentAllotmentRow... rows) {
+        when(studentRepository.findAllotmentRows(JOIN_YEAR)).thenReturn(Arrays.asList(rows));
+    }
+
+    private static Specialisation specialisation(long id, Integer capacity) {
+        return Specialisation.builder()
+                .specialisationId(id)
+                .code("S" + id)
+                .name("Specialisation " + id)
+                .capacity(capacity)
+                .build();
+    }
+
+    private static StudentAllotmentRow row(long studentId, Double cgpa, Long specialisationId) {
+        return new StudentAllotmentRow(studentId, "MT" + JOIN_YEAR + studentId, cgpa, specialisationId);
+    }
+
+    private static StudentPreferenceDto preference(long studentId, Long... specialisationIds) {
+        return StudentPreferenceDto.builder()
+                .studentId(studentId)
+                .specialisationIds(Arrays.asList(specialisationIds))
+                .build();
+    }
+
+    private static SpecialisationAllotmentRequest request(boolean dryRun, StudentPreferenceDto... preferences) {
+        return SpecialisationAllotmentRequest.builder()
+                .joinYear(JOIN_YEAR)
+                .dryRun(dryRun)
+                .preferences(Arrays.asList(preferences))
+                .build();
+    }
+
+    private static Map<Long, SpecialisationAllotmentChangeDto> byStudent(List<SpecialisationAllotmentChangeDto> changes) {
+        return changes.stream().collect(Collectors.toMap(SpecialisationAllotmentChangeDto::getStudentId, Function.identity()));
+    }
+
+    private static Map<Long, SpecialisationAllotmentSummaryDto> bySpecialisation(List<SpecialisationAllotmentSummaryDto> summaries) {
+        return summaries.stream().collect(Collectors.toMap(SpecialisationAllotmentSummaryDto::getSpecialisationId, Function.identity()));
+    }
+}
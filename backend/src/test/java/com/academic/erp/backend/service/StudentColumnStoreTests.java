@@ -0,0 +1,189 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.event.GradesUpdatedEvent;
+import com.academic.erp.backend.event.StudentGradeChange;
+import com.academic.erp.backend.repository.StudentColumnRow;
+import com.academic.erp.backend.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Builds the columnar snapshot from a mocked {@code students} table and checks the
+ * chunks after rebuilds, refreshes and grade events.
+ */
+class StudentColumnStoreTests {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private StudentRepository studentRepository;
+    private StudentChangeSequence changeSequence;
+    private StudentColumnStore store;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository = mock(StudentRepository.class);
+        changeSequence = mock(StudentChangeSequence.class);
+        store = new StudentColumnStore(studentRepository, changeSequence, PAGE_SIZE);
+    }
+
+    @Test
+    void rebuildPagesThroughTheTableInIdOrder() {
+        store = new StudentColumnStore(studentRepository, changeSequence, 2);
+        table(row(1, 7.0), row(2, 8.0), row(3, null), row(5, 9.0), row(8, 6.5));
+
+        store.rebuild();
+
+        StudentColumnStore.Snapshot snapshot = store.snapshot();
+        assertThat(snapshot.rows()).isEqualTo(5);
+        assertThat(snapshot.chunks).hasSize(1);
+        assertThat(snapshot.chunks[0].studentIds).containsExactly(1, 2, 3, 5, 8);
+        assertThat(snapshot.chunks[0].cgpas[2]).isNaN();
+        verify(studentRepository).findColumnRowsAfter(eq(0L), any());
+        verify(studentRepository).findColumnRowsAfter(eq(2L), any());
+        verify(studentRepository).findColumnRowsAfter(eq(5L), any());
+    }
+
+    @Test
+    void refreshMergesChangedRowsAndSharesUntouchedChunks() {
+        table(rows(1, StudentColumnStore.CHUNK_ROWS + 3));
+        when(changeSequence.safePosition()).thenReturn(5L, 8L);
+        store.rebuild();
+        StudentColumnStore.Chunk first = store.snapshot().chunks[0];
+        long lastId = StudentColumnStore.CHUNK_ROWS + 3;
+        when(studentRepository.findColumnRowsChangedBetween(eq(5L), eq(8L), any()))
+                .thenReturn(List.of(row(lastId, 9.9), row(lastId + 10, 6.0), row(lastId, 9.7)));
+
+        store.refresh();
+
+        StudentColumnStore.Snapshot snapshot = store.snapshot();
+        assertThat(snapshot.rows()).isEqualTo(StudentColumnStore.CHUNK_ROWS + 4);
+        assertThat(snapshot.chunks).hasSize(2);
+        assertThat(snapshot.chunks[0]).isSameAs(first);
+        assertThat(snapshot.chunks[1].studentIds).containsExactly(lastId - 2, lastId - 1, lastId, lastId + 10);
+        // The later version of a student in the same batch wins
+        assertThat(cgpa(snapshot, lastId)).isEqualTo(9.7);
+        assertThat(cgpa(snapshot, lastId + 10)).isEqualTo(6.0);
+
+        store.refresh();
+        verify(studentRepository).findColumnRowsChangedBetween(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void refreshSplitsAChunkThatGrowsPastTwiceTheChunkSize() {
+        store = new StudentColumnStore(studentRepository, changeSequence, 3 * StudentColumnStore.CHUNK_ROWS);
+        table(rows(1, 10));
+        when(changeSequence.safePosition()).thenReturn(0L, 1L);
+        store.rebuild();
+        when(studentRepository.findColumnRowsChangedBetween(eq(0L), eq(1L), any()))
+                .thenReturn(rows(11, 2 * StudentColumnStore.CHUNK_ROWS));
+
+        store.refresh();
+
+        StudentColumnStore.Snapshot snapshot = store.snapshot();
+        assertThat(snapshot.rows()).isEqualTo(2 * StudentColumnStore.CHUNK_ROWS + 10);
+        assertThat(snapshot.chunks).extracting(chunk -> chunk.size)
+                .containsExactly(StudentColumnStore.CHUNK_ROWS, StudentColumnStore.CHUNK_ROWS, 10);
+        long expectedId = 1;
+        for (StudentColumnStore.Chunk chunk : snapshot.chunks) {
+            for (int i = 0; i < chunk.size; i++) {
+                assertThat(chunk.studentIds[i]).isEqualTo(expectedId++);
+            }
+        }
+    }
+
+    @Test
+    void gradesUpdatedDuringARebuildAreReappliedToTheRebuiltSnapshot() {
+        List<StudentColumnRow> table = List.of(row(1, 7.0), row(2, 7.5), row(3, 8.0));
+        when(studentRepository.findColumnRowsAfter(anyLong(), any())).thenAnswer(invocation -> {
+            // Committed after this read saw the old grades
+            store.onGradesUpdated(grades(new StudentGradeChange(2L, 2024, 7.5, 9.1, 40, 48)));
+            return page(table, invocation.getArgument(0), invocation.getArgument(1));
+        });
+
+        store.rebuild();
+
+        assertThat(cgpa(store.snapshot(), 1)).isEqualTo(7.0);
+        assertThat(cgpa(store.snapshot(), 2)).isEqualTo(9.1);
+        assertThat(store.snapshot().chunks[0].totalCredits[1]).isEqualTo(48);
+    }
+
+    @Test
+    void gradeUpdatesLeaveThePublishedSnapshotUnchanged() {
+        table(row(1, 7.0), row(2, 7.5));
+        store.rebuild();
+        StudentColumnStore.Snapshot before = store.snapshot();
+
+        store.onGradesUpdated(grades(
+                new StudentGradeChange(2L, 2024, 7.5, null, 40, null),
+                new StudentGradeChange(99L, 2024, null, 8.0, null, 20)));
+
+        StudentColumnStore.Snapshot after = store.snapshot();
+        assertThat(cgpa(after, 2)).isNaN();
+        assertThat(after.chunks[0].totalCredits[1]).isZero();
+        assertThat(cgpa(before, 2)).isEqualTo(7.5);
+        assertThat(after.rows()).isEqualTo(2);
+    }
+
+    @Test
+    void refreshDoesNothingBeforeTheFirstRebuild() {
+        store.refresh();
+
+        assertThat(store.snapshot().rows()).isZero();
+        verify(studentRepository, never()).findColumnRowsChangedBetween(anyLong(), anyLong(), any());
+    }
+
+    private void table(StudentColumnRow... rows) {
+        table(List.of(rows));
+    }
+
+    private void table(List<StudentColumnRow> rows) {
+        when(studentRepository.findColumnRowsAfter(anyLong(), any()))
+                .thenAnswer(invocation -> page(rows, invocation.getArgument(0), invocation.getArgument(1)));
+    }
+
+    private static List<StudentColumnRow> page(List<StudentColumnRow> rows, Long afterId, Pageable page) {
+        return rows.stream()
+                .filter(row -> row.studentId() > afterId)
+                .limit(page.getPageSize())
+                .toList();
+    }
+
+    private static List<StudentColumnRow> rows(long firstId, int count) {
+        List<StudentColumnRow> rows = new ArrayList<>(count);
+        LongStream.range(firstId, firstId + count).forEach(id -> rows.add(row(id, 8.0)));
+        return rows;
+    }
+
+    private static StudentColumnRow row(long studentId, Double cgpa) {
+        return new StudentColumnRow(studentId, 2024, 1L, "M.Tech CSE", null, null, null, cgpa, 40, 1L);
+    }
+
+    private static GradesUpdatedEvent grades(StudentGradeChange... changes) {
+        return new GradesUpdatedEvent(List.of(changes));
+    }
+
+    private static double cgpa(StudentColumnStore.Snapshot snapshot, long studentId) {
+        for (StudentColumnStore.Chunk chunk : snapshot.chunks) {
+            for (int i = 0; i < chunk.size; i++) {
+                if (chunk.studentIds[i] == studentId) {
+                    return chunk.cgpas[i];
+                }
+            }
+        }
+        throw new AssertionError("Student " + studentId + " is not in the snapshot");
+    }
+}
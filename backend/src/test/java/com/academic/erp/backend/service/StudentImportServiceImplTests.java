@@ -0,0 +1,165 @@
+package com.academic.erp.backend.service;
+
+import com.academic.erp.backend.dto.StudentAdmissionRequestDto;
+import com.academic.erp.backend.dto.StudentImportResult;
+import com.academic.erp.backend.entity.Domain;
+import com.academic.erp.backend.repository.DomainRepository;
+import com.academic.erp.backend.repository.StudentRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Imports small CSV files against mocked repositories and a real validator, checking
+ * the CSV parsing, which rows reach admission, and the error report's lifecycle.
+ */
+class StudentImportServiceImplTests {
+
+    private static final String HEADER = "firstName,lastName,email,program,joinYear";
+
+    @TempDir
+    Path uploadRoot;
+
+    private AdmissionService admissionService;
+    private StudentRepository studentRepository;
+    private StudentImportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        admissionService = mock(AdmissionService.class);
+        DomainRepository domainRepository = mock(DomainRepository.class);
+        studentRepository = mock(StudentRepository.class);
+        when(domainRepository.findByProgram(anyString())).thenReturn(Optional.empty());
+        when(domainRepository.findByProgram("M.Tech CSE")).thenReturn(Optional.of(Domain.builder().domainId(1L).build()));
+        when(studentRepository.findExistingEmails(anyList())).thenReturn(List.of());
+        service = new StudentImportServiceImpl(admissionService, domainRepository, studentRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(), uploadRoot.toString(), 500, 24);
+    }
+
+    @Test
+    void parsesQuotedFieldsThatSpanLinesAndReportsTheLineARecordStartsOn() throws IOException {
+        when(studentRepository.findExistingEmails(anyList())).thenReturn(List.of("taken@iiitb.ac.in"));
+
+        StudentImportResult result = service.importCsv(csv(
+                HEADER,
+                "Asha,\"O\"\"Neil, Jr.\",asha@iiitb.ac.in,M.Tech CSE,2024",
+                "Ravi,\"Kumar",
+                "Second Line\",ravi@iiitb.ac.in,M.Tech CSE,2024",
+                "",
+                "Meena,Iyer,bad-email,M.Tech CSE,2024",
+                "Dev,Rao,dev@iiitb.ac.in,Unknown,2024",
+                "Tara,Sen,taken@iiitb.ac.in,M.Tech CSE,2024"));
+
+        assertThat(result.getRowsRead()).isEqualTo(5);
+        assertThat(result.getRowsAdmitted()).isEqualTo(2);
+        assertThat(result.getRowsRejected()).isEqualTo(3);
+        assertThat(admitted()).extracting(StudentAdmissionRequestDto::getLastName)
+                .containsExactly("O\"Neil, Jr.", "Kumar\nSecond Line");
+        assertThat(result.getErrorReportUrl()).isEqualTo("/api/students/import/" + result.getImportId() + "/errors");
+        assertThat(Files.readAllLines(service.getErrorReport(result.getImportId()).getFile().toPath())).containsExactly(
+                "line,email,reason",
+                "6,\"bad-email\",\"Invalid email format\"",
+                "7,\"dev@iiitb.ac.in\",\"Unknown program: Unknown\"",
+                "8,\"taken@iiitb.ac.in\",\"Email already exists\"");
+    }
+
+    @Test
+    void writesNoReportWhenEveryRowIsAdmitted() throws IOException {
+        StudentImportResult result = service.importCsv(csv(HEADER, "Asha,Rao,asha@iiitb.ac.in,M.Tech CSE,2024"));
+
+        assertThat(result.getRowsAdmitted()).isEqualTo(1);
+        assertThat(result.getErrorReportUrl()).isNull();
+        assertThat(reports()).isZero();
+        assertThatThrownBy(() -> service.getErrorReport(result.getImportId())).hasMessageContaining("Unknown import");
+    }
+
+    @Test
+    void unterminatedQuoteFailsTheImportWithoutLeavingAReport() throws IOException {
+        StringBuilder tail = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            tail.append("Row,").append(i).append(",row").append(i).append("@iiitb.ac.in,M.Tech CSE,2024\n");
+        }
+
+        assertThatThrownBy(() -> service.importCsv(csv(
+                HEADER,
+                "Meena,Iyer,bad-email,M.Tech CSE,2024",
+                "Asha,\"Rao,asha@iiitb.ac.in,M.Tech CSE,2024",
+                tail.toString())))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Line 3: quoted field is not closed");
+        assertThat(reports()).isZero();
+    }
+
+    @Test
+    void expiresOnlyReportsOlderThanTheTtl() throws IOException {
+        Path directory = Files.createDirectories(uploadRoot.resolve("import-reports"));
+        Path old = Files.writeString(directory.resolve("old.csv"), "line,email,reason");
+        Files.setLastModifiedTime(old, FileTime.from(Instant.now().minus(25, ChronoUnit.HOURS)));
+        Path recent = Files.writeString(directory.resolve("recent.csv"), "line,email,reason");
+
+        service.expireReports();
+
+        assertThat(old).doesNotExist();
+        assertThat(recent).exists();
+    }
+
+    @Test
+    void csvReaderKeepsEmptyFieldsAndTracksRecordLines() throws IOException {
+        StudentImportServiceImpl.CsvReader reader = new StudentImportServiceImpl.CsvReader(
+                new BufferedReader(new StringReader("a,,\"\"\n\"x\ny\nz\",b\nlast")));
+
+        assertThat(reader.next()).containsExactly("a", "", "");
+        assertThat(reader.recordLine()).isEqualTo(1);
+        assertThat(reader.next()).containsExactly("x\ny\nz", "b");
+        assertThat(reader.recordLine()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("last");
+        assertThat(reader.recordLine()).isEqualTo(5);
+        assertThat(reader.next()).isNull();
+    }
+
+    private List<StudentAdmissionRequestDto> admitted() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StudentAdmissionRequestDto>> requests = ArgumentCaptor.forClass(List.class);
+        verify(admissionService).admitStudents(requests.capture());
+        return requests.getValue();
+    }
+
+    private long reports() throws IOException {
+        Path directory = uploadRoot.resolve("import-reports");
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static MockMultipartFile csv(String... lines) {
+        return new MockMultipartFile("file", "students.csv", "text/csv",
+                String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -8,6 +8,7 @@ import {
 } from 'react'
 import type { ReactNode } from 'react'
 import { apiClient, oauthClient, endpoints } from '../utils/api'
+import { prefetchBootstrap, takeBootstrapped } from '../utils/bootstrap'
 import type { UserProfile } from '../models'
 
 interface AuthContextValue {
@@ -19,6 +20,12 @@ interface AuthContextValue {
   refreshUser: () => Promise<void>
 }
 
+interface CurrentUser {
+  email: string
+  name: string
+  picture?: string
+}
+
 const AuthContext = createContext<AuthContextValue | undefined>(undefined)
 
 export const AuthProvider = ({ children }: { children: ReactNode }) => {
@@ -27,11 +34,9 @@ export const AuthProvider = ({ children }: { children: ReactNode }) => {
 
   const refreshUser = useCallback(async () => {
     try {
-      const { data } = await apiClient.get<{
-        email: string
-        name: string
-        picture?: string
-      }>(endpoints.currentUser)
+      const data =
+        (await takeBootstrapped<CurrentUser>('me')) ??
+        (await apiClient.get<CurrentUser>(endpoints.currentUser)).data
 
       const profile: UserProfile = {
         email: data.email,
@@ -49,6 +54,7 @@ export const AuthProvider = ({ children }: { children: ReactNode }) => {
   }, [])
 
   useEffect(() => {
+    prefetchBootstrap()
     void refreshUser()
   }, [refreshUser])
 
@@ -51,3 +51,35 @@ export interface PhotoUploadResponse {
   size: number
 }
 
+
+export interface PhotoUploadSession {
+  uploadId: string
+  fileName: string
+  contentType: string
+  totalSize: number
+  chunkSize: number
+  chunkCount: number
+  receivedChunks: number[]
+  complete: boolean
+  expiresAt: string
+  result: PhotoUploadResponse | null
+}
+
+export interface BatchItemResponse<T = unknown> {
+  id: string
+  status: number
+  body: T
+  // Only the headers the server forwards, e.g. X-Change-Token and ETag
+  headers?: Record<string, string>
+}
+
+export interface BatchResponse {
+  responses: BatchItemResponse[]
+  elapsedMs: number
+}
+
+export interface StudentChanges {
+  changes: Student[]
+  token: string
+  resyncRequired: boolean
+}
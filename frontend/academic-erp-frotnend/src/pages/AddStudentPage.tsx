@@ -1,9 +1,10 @@
 import { useEffect, useMemo, useState } from 'react'
 import type { FormEvent } from 'react'
 import { apiClient, endpoints, getErrorMessage } from '../utils/api'
+import { takeBootstrapped } from '../utils/bootstrap'
+import { uploadPhotoInChunks } from '../utils/chunkedUpload'
 import type {
   Domain,
-  PhotoUploadResponse,
   StudentAdmissionForm,
   StudentResponse,
 } from '../models'
@@ -25,6 +26,8 @@ const AddStudentPage = () => {
     useState<'idle' | 'saving' | 'success' | 'error'>('idle')
   const [feedback, setFeedback] = useState('')
   const [lastStudent, setLastStudent] = useState<StudentResponse | null>(null)
+  // One key per admission attempt, so double submits and retries are replayed, not re-run
+  const [admissionKey, setAdmissionKey] = useState(() => crypto.randomUUID())
   const [photoStatus, setPhotoStatus] =
     useState<'idle' | 'uploading' | 'success' | 'error'>('idle')
   const [photoError, setPhotoError] = useState('')
@@ -44,7 +47,9 @@ const AddStudentPage = () => {
   const loadDomains = async () => {
     setFetchingDomains(true)
     try {
-      const { data } = await apiClient.get<Domain[]>(endpoints.domains)
+      const data =
+        (await takeBootstrapped<Domain[]>('domains')) ??
+        (await apiClient.get<Domain[]>(endpoints.domains)).data
       setDomains(data)
     } catch (err) {
       setFeedback(getErrorMessage(err))
@@ -71,12 +76,7 @@ const AddStudentPage = () => {
     setPhotoError('')
 
     try {
-      const formData = new FormData()
-      formData.append('file', file)
-      const { data } = await apiClient.post<PhotoUploadResponse>(
-        endpoints.uploadPhoto,
-        formData,
-      )
+      const data = await uploadPhotoInChunks(file)
 
       setForm((prev) => ({ ...prev, photographPath: data.path }))
       setPhotoStatus('success')
@@ -151,6 +151,7 @@ const AddStudentPage = () => {
       const { data } = await apiClient.post<StudentResponse>(
         endpoints.admitStudent,
         payload,
+        { headers: { 'Idempotency-Key': admissionKey } },
       )
 
       setFeedback(
@@ -158,6 +159,7 @@ const AddStudentPage = () => {
       )
       setStatus('success')
       setForm(emptyForm)
+      setAdmissionKey(crypto.randomUUID())
       setLastStudent(data)
       handlePhotoReset()
     } catch (err) {
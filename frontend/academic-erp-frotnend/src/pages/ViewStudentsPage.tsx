@@ -1,12 +1,15 @@
-import { useEffect, useMemo, useState } from 'react'
+import { useEffect, useMemo, useRef, useState } from 'react'
 import { apiClient, endpoints, getErrorMessage } from '../utils/api'
-import type { Student } from '../models'
+import { takeBootstrappedResponse } from '../utils/bootstrap'
+import type { Student, StudentChanges } from '../models'
 
 const ViewStudentsPage = () => {
   const [students, setStudents] = useState<Student[]>([])
   const [loading, setLoading] = useState(true)
   const [error, setError] = useState('')
   const [search, setSearch] = useState('')
+  // Change token of the list we hold; lets a refresh download only what changed
+  const changeToken = useRef<string | null>(null)
 
   const filteredStudents = useMemo(() => {
     const term = search.trim().toLowerCase()
@@ -36,12 +39,48 @@ const ViewStudentsPage = () => {
     return { total, domainCount: domains.size, topDomain }
   }, [students])
 
+  const loadAll = async () => {
+    const bootstrapped = await takeBootstrappedResponse<Student[]>('students')
+    if (bootstrapped) {
+      changeToken.current = bootstrapped.headers?.['X-Change-Token'] ?? null
+      return bootstrapped.body
+    }
+    const response = await apiClient.get<Student[]>(endpoints.students)
+    changeToken.current = response.headers['x-change-token'] ?? null
+    return response.data
+  }
+
+  const syncChanges = async (since: string) => {
+    const { data } = await apiClient.get<StudentChanges>(
+      endpoints.studentChanges,
+      { params: { since } },
+    )
+    if (data.resyncRequired) {
+      setStudents(await loadAll())
+      return
+    }
+    changeToken.current = data.token
+    if (data.changes.length === 0) return
+    setStudents((current) => {
+      const changed = new Map(data.changes.map((s) => [s.studentId, s]))
+      const updated = current.map((s) => {
+        const replacement = changed.get(s.studentId)
+        changed.delete(s.studentId)
+        return replacement ?? s
+      })
+      return [...[...changed.values()].reverse(), ...updated]
+    })
+  }
+
   const fetchStudents = async () => {
     setLoading(true)
     setError('')
     try {
-      const { data } = await apiClient.get<Student[]>(endpoints.students)
-      setStudents(data)
+      if (changeToken.current) {
+        await syncChanges(changeToken.current)
+      } else {
+        setStudents(await loadAll())
+      }
     } catch (err) {
       setError(getErrorMessage(err))
     } finally {
@@ -53,6 +92,26 @@ const ViewStudentsPage = () => {
     fetchStudents()
   }, [])
 
+  // Live admissions; EventSource reconnects on its own and resumes via Last-Event-ID
+  useEffect(() => {
+    const source = new EventSource(
+      `${apiClient.defaults.baseURL}${endpoints.studentFeed}`,
+      { withCredentials: true },
+    )
+    source.addEventListener('admission', (event) => {
+      const student: Student = JSON.parse((event as MessageEvent).data)
+      setStudents((current) =>
+        current.some((s) => s.studentId === student.studentId)
+          ? current
+          : [student, ...current],
+      )
+    })
+    source.addEventListener('reset', () => {
+      fetchStudents()
+    })
+    return () => source.close()
+  }, [])
+
   return (
     <div className="space-y-8 animate-fade-in">
       <div className="rounded-2xl border border-white/50 bg-white/80 backdrop-blur-xl p-6 shadow-xl shadow-brand-500/5">
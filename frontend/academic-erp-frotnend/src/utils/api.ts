@@ -32,9 +32,21 @@ export const endpoints = {
   login: '/login',
   signout: '/signout',
   currentUser: '/auth/me',
+  batch: '/batch',
   domains: '/domains',
   admitStudent: '/students/admit',
   students: '/students',
+  studentChanges: '/students/changes',
+  student: (studentId: number) => `/students/${studentId}`,
+  studentByRoll: (rollNumber: string) =>
+    `/students/by-roll/${encodeURIComponent(rollNumber)}`,
+  studentFeed: '/students/feed',
   uploadPhoto: '/uploads/photo',
+  photoUploadSessions: '/uploads/photo/sessions',
+  photoUploadSession: (uploadId: string) => `/uploads/photo/sessions/${uploadId}`,
+  photoUploadChunk: (uploadId: string, index: number) =>
+    `/uploads/photo/sessions/${uploadId}/chunks/${index}`,
+  completePhotoUpload: (uploadId: string) =>
+    `/uploads/photo/sessions/${uploadId}/complete`,
 }
 
@@ -0,0 +1,48 @@
+import { apiClient, endpoints } from './api'
+import type { BatchItemResponse, BatchResponse } from '../models'
+
+// Everything the app needs on first load, fetched in one round trip
+const BOOTSTRAP_REQUESTS = [
+  { id: 'me', path: '/api/auth/me' },
+  { id: 'domains', path: '/api/domains' },
+  { id: 'students', path: '/api/students' },
+]
+
+let pending: Promise<Map<string, BatchItemResponse>> | null = null
+const consumed = new Set<string>()
+
+export const prefetchBootstrap = () => {
+  if (!pending) {
+    pending = apiClient
+      .post<BatchResponse>(endpoints.batch, { requests: BOOTSTRAP_REQUESTS })
+      .then(({ data }) => {
+        const results = new Map<string, BatchItemResponse>()
+        data.responses
+          .filter((response) => response.status === 200)
+          .forEach((response) => results.set(response.id, response))
+        return results
+      })
+      // Signed out or batch unavailable: callers fall back to their own requests
+      .catch(() => new Map<string, BatchItemResponse>())
+  }
+  return pending
+}
+
+/**
+ * Returns the prefetched response for `id`, with its forwarded headers, once; later
+ * calls, and failed sub-requests, return undefined so the caller fetches fresh data itself.
+ */
+export const takeBootstrappedResponse = async <T>(
+  id: string,
+): Promise<BatchItemResponse<T> | undefined> => {
+  if (!pending || consumed.has(id)) return undefined
+  const results = await pending
+  consumed.add(id)
+  return results.get(id) as BatchItemResponse<T> | undefined
+}
+
+/**
+ * Body of the prefetched response for `id`; see {@link takeBootstrappedResponse}.
+ */
+export const takeBootstrapped = async <T>(id: string): Promise<T | undefined> =>
+  (await takeBootstrappedResponse<T>(id))?.body
@@ -0,0 +1,53 @@
+import { apiClient, endpoints } from './api'
+import type { PhotoUploadResponse, PhotoUploadSession } from '../models'
+
+const PARALLEL_CHUNKS = 3
+const MAX_ATTEMPTS = 4
+
+const delay = (ms: number) => new Promise((resolve) => setTimeout(resolve, ms))
+
+const sendChunk = async (session: PhotoUploadSession, file: File, index: number) => {
+  const start = index * session.chunkSize
+  const chunk = file.slice(start, Math.min(start + session.chunkSize, file.size))
+  for (let attempt = 1; ; attempt++) {
+    try {
+      await apiClient.put(endpoints.photoUploadChunk(session.uploadId, index), chunk, {
+        headers: { 'Content-Type': 'application/octet-stream' },
+      })
+      return
+    } catch (err) {
+      if (attempt >= MAX_ATTEMPTS) throw err
+      await delay(500 * 2 ** (attempt - 1))
+    }
+  }
+}
+
+/**
+ * Uploads a photo through a resumable session: chunks go up a few at a time and
+ * only the chunks that failed are retried, instead of the whole file.
+ */
+export const uploadPhotoInChunks = async (
+  file: File,
+  onProgress?: (fraction: number) => void,
+): Promise<PhotoUploadResponse> => {
+  const { data: session } = await apiClient.post<PhotoUploadSession>(
+    endpoints.photoUploadSessions,
+    { fileName: file.name, contentType: file.type, totalSize: file.size },
+  )
+
+  const pending = Array.from({ length: session.chunkCount }, (_, index) => index)
+  let sent = 0
+  const worker = async () => {
+    for (let index = pending.shift(); index !== undefined; index = pending.shift()) {
+      await sendChunk(session, file, index)
+      sent += 1
+      onProgress?.(sent / session.chunkCount)
+    }
+  }
+  await Promise.all(Array.from({ length: PARALLEL_CHUNKS }, worker))
+
+  const { data } = await apiClient.post<PhotoUploadResponse>(
+    endpoints.completePhotoUpload(session.uploadId),
+  )
+  return data
+}